@@ -0,0 +1,320 @@
+package com.ntp.taskmanager;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Uygulamanın hızlı açılış yolu: kayıtlı durumu yükler, isteğe bağlı ısınma (warm-up) çalıştırır
+ * ve ilk sorguya kadar geçen süreyi raporlar.
+ *
+ * <p>
+ * Veri klasörü {@link ProjectManager#exportProjectsArchive} ile {@link BulkExporter.Format#GZIP_FILES}
+ * biçiminde alınmış bir yedektir ({@code manifest.csv} + proje başına {@code .csv.gz}). Manifest yoksa
+ * klasördeki her {@code .csv}/{@code .csv.gz} dosyası, dosya adıyla yeni bir projeye yüklenir.
+ * </p>
+ *
+ * <ul>
+ *   <li>Dosyalar sınırlı sayıda sanal thread'de aynı anda okunup ayrıştırılır; kayıtlar
+ *       ({@link ProjectManager} thread-safe olmadığı için) ardından tek thread'de uygulanır.
+ *       Önce tüm projeler oluşturulur, böylece birden fazla projedeki görevler tekrar bağlanır.</li>
+ *   <li>Isınma, yükleme sürerken ayrı bir thread'de, atılacak bir {@link ProjectManager} üzerinde
+ *       {@link LoadGenerator} ile sıcak yolları (arama, yaklaşanlar, güncelleme, CSV) çalıştırır;
+ *       gerçek veriye dokunmaz.</li>
+ *   <li>İlk sorgu ({@link ProjectManager#listUpcomingTasksAcrossProjects}) ölçülür; süre JVM
+ *       başlangıcından itibaren raporlanır.</li>
+ * </ul>
+ *
+ * <p>
+ * AppCDS: sınıf yükleme süresini azaltmak için modülden bir arşiv üretilip sonraki açılışlarda
+ * kullanılabilir. {@code --cds-train} açılışı ve ısınmayı yapıp çıkar; JVM çıkışta yüklenen
+ * sınıfları arşive yazar. CDS modül yolunda klasör kabul etmez, modül önce JAR yapılmalıdır:
+ * </p>
+ * <pre>
+ * jar --create --file lib/emirntp.jar -C out .
+ * java -XX:ArchiveClassesAtExit=emirntp.jsa -p lib -m emirntp/com.ntp.taskmanager.Main --data yedek --cds-train
+ * java -XX:SharedArchiveFile=emirntp.jsa -p lib -m emirntp/com.ntp.taskmanager.Main --data yedek
+ * </pre>
+ * Arşiv kullanılamazsa JVM uyarı vermeden arşivsiz açılır; {@link Report#getCdsArchive()} bunu gösterir.
+ */
+public final class Bootstrap {
+
+    private final Path dataDir;
+    private final boolean warmUp;
+    private final int parallelism;
+
+    private long warmUpMillis = 2_000;
+
+    /**
+     * @param dataDir yüklenecek veri klasörü; null ise boş başlanır
+     * @param warmUp true ise yükleme sırasında ısınma çalıştırılır
+     * @param parallelism aynı anda okunan en fazla dosya sayısı
+     */
+    public Bootstrap(Path dataDir, boolean warmUp, int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism pozitif olmalı.");
+        this.dataDir = dataDir;
+        this.warmUp = warmUp;
+        this.parallelism = parallelism;
+    }
+
+    /** Isınma süresi (varsayılan 2 sn). */
+    public void setWarmUpMillis(long warmUpMillis) {
+        if (warmUpMillis <= 0) throw new IllegalArgumentException("warmUpMillis pozitif olmalı.");
+        this.warmUpMillis = warmUpMillis;
+    }
+
+    /**
+     * Durumu {@code pm}'e yükler, ısınmanın bitmesini bekler ve ilk sorguyu çalıştırır.
+     *
+     * @throws IllegalArgumentException veri klasörü yoksa
+     */
+    public Report start(ProjectManager pm) throws IOException, InterruptedException {
+        long t0 = System.nanoTime();
+
+        Thread warm = null;
+        if (warmUp) {
+            warm = Thread.ofPlatform().name("warm-up").daemon().start(this::runWarmUp);
+        }
+
+        int projects = 0, tasks = 0;
+        if (dataDir != null) {
+            ImportTotals totals = load(pm, dataDir);
+            projects = totals.projects;
+            tasks = totals.tasks;
+        }
+        long loaded = System.nanoTime();
+
+        if (warm != null) warm.join();
+        long warmed = System.nanoTime();
+
+        pm.listUpcomingTasksAcrossProjects(24, null);
+        long queried = System.nanoTime();
+
+        long sinceJvmStart = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        return new Report(projects, tasks,
+                (loaded - t0) / 1_000_000,
+                (warmed - loaded) / 1_000_000,
+                (queried - warmed) / 1_000_000,
+                sinceJvmStart,
+                cdsArchive());
+    }
+
+    /* ===================== YÜKLEME ===================== */
+
+    private ImportTotals load(ProjectManager pm, Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) throw new IllegalArgumentException("Veri klasörü bulunamadı: " + dir.toAbsolutePath());
+
+        List<Source> sources = sources(dir);
+
+        List<Future<Parsed>> futures = new ArrayList<>(sources.size());
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Source s : sources) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return parse(dir.resolve(s.file));
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            // ayrıştırma sürerken projeler oluşturulur
+            List<String> ids = new ArrayList<>(sources.size());
+            for (Source s : sources) ids.add(pm.createProject(s.projectId, s.projectName).getId());
+
+            ImportTotals totals = new ImportTotals();
+            totals.projects = sources.size();
+            for (int i = 0; i < sources.size(); i++) {
+                Parsed p = await(futures.get(i));
+                if (p.header == null) continue;
+                totals.tasks += pm.importRecords(ids.get(i), p.header, p.records).getAdded();
+            }
+            return totals;
+        }
+    }
+
+    /** Manifest varsa ondaki projeler (ID ve isimleriyle), yoksa klasördeki CSV dosyaları. */
+    private static List<Source> sources(Path dir) throws IOException {
+        List<Source> out = new ArrayList<>();
+        Path manifest = dir.resolve(BulkExporter.MANIFEST_NAME);
+
+        if (Files.exists(manifest)) {
+            try (BufferedReader in = Files.newBufferedReader(manifest, StandardCharsets.UTF_8)) {
+                List<String> header = CsvUtil.readRecord(in);
+                if (header == null) return out;
+
+                TaskCsvFormat.Columns cols = new TaskCsvFormat.Columns(header); // sütun adları küçük harfe çevrilir
+                List<String> parts;
+                while ((parts = CsvUtil.readRecord(in)) != null) {
+                    String file = cols.get(parts, "file");
+                    if (file == null || file.isBlank()) continue;
+                    out.add(new Source(cols.get(parts, "projectid"), cols.get(parts, "projectname"), file));
+                }
+            }
+            return out;
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(p -> p.getFileName().toString())
+                 .filter(n -> n.endsWith(".csv") || n.endsWith(".csv.gz"))
+                 .sorted()
+                 .forEach(n -> out.add(new Source(null, n.substring(0, n.lastIndexOf(".csv")), n)));
+        }
+        return out;
+    }
+
+    private static Parsed parse(Path file) throws IOException {
+        InputStream raw = Files.newInputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) raw = new GZIPInputStream(raw, 1 << 16);
+
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(raw, StandardCharsets.UTF_8), 1 << 16)) {
+            List<String> header = CsvUtil.readRecord(in);
+            if (header != null && TaskCsvFormat.isMarker(header)) {
+                TaskCsvFormat.checkVersion(header);
+                header = CsvUtil.readRecord(in);
+            }
+
+            List<List<String>> records = new ArrayList<>();
+            List<String> parts;
+            while (header != null && (parts = CsvUtil.readRecord(in)) != null) records.add(parts);
+            return new Parsed(header, records);
+        }
+    }
+
+    private static <T> T await(Future<T> f) throws IOException {
+        try {
+            return f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Yükleme kesildi.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException u) throw u.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause);
+        }
+    }
+
+    /* ===================== ISINMA ===================== */
+
+    /** Sıcak yolları atılacak bir yönetici üzerinde çalıştırır (JIT ve sınıf yükleme için). */
+    private void runWarmUp() {
+        LoadGenerator.Config config = new LoadGenerator.Config();
+        config.setProjects(20);
+        config.setTasks(20_000);
+        config.setThreads(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+        config.setDurationMillis(warmUpMillis);
+        try {
+            new LoadGenerator(new ProjectManager(), config).run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Kullanılan CDS arşivi: uygulama arşivi, JDK'nın varsayılan arşivi veya null. */
+    private static String cdsArchive() {
+        if (!System.getProperty("java.vm.info", "").contains("sharing")) return null;
+        try {
+            String v = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class)
+                    .getVMOption("SharedArchiveFile").getValue();
+            return v == null || v.isEmpty() ? "JDK varsayılan" : v;
+        } catch (IllegalArgumentException e) {
+            return "JDK varsayılan"; // bu JVM'de seçenek yok
+        }
+    }
+
+    /* ===================== İÇ SINIFLAR ===================== */
+
+    /** Yüklenecek dosya ve projesi (ID null ise yeni ID üretilir). */
+    private static final class Source {
+        final String projectId;
+        final String projectName;
+        final String file;
+
+        Source(String projectId, String projectName, String file) {
+            this.projectId = projectId;
+            this.projectName = projectName;
+            this.file = file;
+        }
+    }
+
+    /** Ayrıştırılmış dosya; boş dosyada header null. */
+    private static final class Parsed {
+        final List<String> header;
+        final List<List<String>> records;
+
+        Parsed(List<String> header, List<List<String>> records) {
+            this.header = header;
+            this.records = records;
+        }
+    }
+
+    private static final class ImportTotals {
+        int projects;
+        int tasks;
+    }
+
+    /** Açılış süreleri. */
+    public static final class Report {
+        private final int projects;
+        private final int tasks;
+        private final long loadMillis;
+        private final long warmUpWaitMillis;
+        private final long firstQueryMillis;
+        private final long timeToFirstQueryMillis;
+        private final String cdsArchive;
+
+        Report(int projects, int tasks, long loadMillis, long warmUpWaitMillis, long firstQueryMillis,
+               long timeToFirstQueryMillis, String cdsArchive) {
+            this.projects = projects;
+            this.tasks = tasks;
+            this.loadMillis = loadMillis;
+            this.warmUpWaitMillis = warmUpWaitMillis;
+            this.firstQueryMillis = firstQueryMillis;
+            this.timeToFirstQueryMillis = timeToFirstQueryMillis;
+            this.cdsArchive = cdsArchive;
+        }
+
+        public int getProjects() { return projects; }
+        public int getTasks() { return tasks; }
+        public long getLoadMillis() { return loadMillis; }
+
+        /** Yükleme bittikten sonra ısınmanın bitmesi için beklenen süre. */
+        public long getWarmUpWaitMillis() { return warmUpWaitMillis; }
+        public long getFirstQueryMillis() { return firstQueryMillis; }
+
+        /** JVM başlangıcından ilk sorgunun bitişine kadar geçen süre. */
+        public long getTimeToFirstQueryMillis() { return timeToFirstQueryMillis; }
+
+        /** Kullanılan CDS arşivi (yol veya "JDK varsayılan"); paylaşım kapalıysa null. */
+        public String getCdsArchive() { return cdsArchive; }
+
+        @Override
+        public String toString() {
+            return String.format("Açılış: %d proje, %d görev | yükleme %d ms, ısınma bekleme %d ms, ilk sorgu %d ms"
+                            + " | ilk sorguya kadar %d ms (JVM başlangıcından) | CDS: %s",
+                    projects, tasks, loadMillis, warmUpWaitMillis, firstQueryMillis, timeToFirstQueryMillis,
+                    cdsArchive == null ? "yok" : cdsArchive);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.ntp.taskmanager;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Birden fazla projeyi tek seferde, paralel olarak sıkıştırılmış CSV'ye aktarır.
+ *
+ * <p>
+ * Her proje sınırlı sayıda sanal thread (virtual thread) üzerinde CSV'ye dönüştürülür.
+ * Çıktı ya tek bir akışlı ZIP arşivi ya da proje başına {@code .csv.gz} dosyalarıdır.
+ * Her iki durumda da satır sayısı, boyut ve CRC32 içeren bir {@code manifest.csv} yazılır.
+ * </p>
+ *
+ * <p>
+ * Projeler bir {@link ManagerSnapshot}'tan okunur; export sürerken yapılan yazmalar çıktıyı etkilemez.
+ * </p>
+ */
+public final class BulkExporter {
+
+    public static final String MANIFEST_NAME = "manifest.csv";
+
+    /** Çıktı biçimi. */
+    public enum Format {
+        /** Tek bir ZIP dosyası; proje başına bir {@code .csv} girdisi. */
+        ZIP,
+        /** Hedef klasörde proje başına bir {@code .csv.gz} dosyası. */
+        GZIP_FILES
+    }
+
+    /** Manifest satırı. */
+    public static final class Entry {
+        private final String projectId;
+        private final String projectName;
+        private final String fileName;
+        private final int rows;
+        private final long bytes;
+        private final long crc32;
+
+        Entry(String projectId, String projectName, String fileName, int rows, long bytes, long crc32) {
+            this.projectId = projectId;
+            this.projectName = projectName;
+            this.fileName = fileName;
+            this.rows = rows;
+            this.bytes = bytes;
+            this.crc32 = crc32;
+        }
+
+        public String getProjectId() { return projectId; }
+        public String getProjectName() { return projectName; }
+        public String getFileName() { return fileName; }
+        public int getRows() { return rows; }
+
+        /** Sıkıştırılmamış CSV boyutu (byte). */
+        public long getBytes() { return bytes; }
+
+        /** Sıkıştırılmamış CSV'nin CRC32 değeri. */
+        public long getCrc32() { return crc32; }
+    }
+
+    public static final class Result {
+        private final Path target;
+        private final List<Entry> entries;
+
+        Result(Path target, List<Entry> entries) {
+            this.target = target;
+            this.entries = Collections.unmodifiableList(entries);
+        }
+
+        /** ZIP dosyası veya GZIP dosyalarının yazıldığı klasör. */
+        public Path getTarget() { return target; }
+        public List<Entry> getEntries() { return entries; }
+
+        public long getTotalRows() {
+            long total = 0;
+            for (Entry e : entries) total += e.getRows();
+            return total;
+        }
+    }
+
+    /** Tek bir projenin bellekte hazırlanmış CSV'si. */
+    private static final class Rendered {
+        final Entry entry;
+        final byte[] data;
+
+        Rendered(Entry entry, byte[] data) {
+            this.entry = entry;
+            this.data = data;
+        }
+    }
+
+    private final int parallelism;
+
+    /**
+     * @param parallelism aynı anda hazırlanan en fazla proje sayısı
+     */
+    public BulkExporter(int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism pozitif olmalı.");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Projeleri verilen hedefe aktarır.
+     *
+     * @param snapshot okunacak değişmez görünüm (bkz. {@link ProjectManager#snapshot()})
+     * @param projectIds aktarılacak projelerin ID'leri
+     * @param target ZIP için dosya yolu, GZIP_FILES için klasör yolu
+     */
+    public Result export(ManagerSnapshot snapshot, List<String> projectIds, Path target, Format format) throws IOException {
+        Objects.requireNonNull(snapshot, "snapshot null olamaz.");
+        return export(List.of(snapshot), projectIds, target, format);
+    }
+
+    /**
+     * Projeleri birden fazla görünümden aktarır (örn. {@link ShardedProjectManager#snapshots()});
+     * her proje onu içeren ilk snapshot'tan okunur.
+     */
+    public Result export(List<ManagerSnapshot> snapshots, List<String> projectIds, Path target, Format format) throws IOException {
+        Objects.requireNonNull(snapshots, "snapshots null olamaz.");
+        Objects.requireNonNull(projectIds, "projectIds null olamaz.");
+        Objects.requireNonNull(target, "target null olamaz.");
+        Objects.requireNonNull(format, "format null olamaz.");
+
+        List<Source> projects = new ArrayList<>(projectIds.size());
+        for (String id : projectIds) projects.add(source(snapshots, id));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return format == Format.ZIP
+                    ? exportZip(projects, target, executor)
+                    : exportGzipFiles(projects, target, executor);
+        }
+    }
+
+    private static Source source(List<ManagerSnapshot> snapshots, String projectId) {
+        for (ManagerSnapshot snapshot : snapshots) {
+            ManagerSnapshot.ProjectView p = snapshot.getProject(projectId);
+            if (p != null) return new Source(snapshot, p);
+        }
+        throw new IllegalArgumentException("Project not found: " + projectId);
+    }
+
+    /** Aktarılacak proje ve okunacağı snapshot. */
+    private static final class Source {
+        final ManagerSnapshot snapshot;
+        final ManagerSnapshot.ProjectView project;
+
+        Source(ManagerSnapshot snapshot, ManagerSnapshot.ProjectView project) {
+            this.snapshot = snapshot;
+            this.project = project;
+        }
+    }
+
+    /**
+     * CSV'ler paralel hazırlanır, ZIP'e proje sırasıyla yazılır. Kayan pencere sayesinde
+     * bellekte en fazla {@code parallelism} hazır proje bekler.
+     */
+    private Result exportZip(List<Source> projects, Path target, ExecutorService executor) throws IOException {
+        createParentDirs(target);
+
+        List<Entry> entries = new ArrayList<>(projects.size());
+        Deque<Future<Rendered>> window = new ArrayDeque<>();
+        int next = 0;
+
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(target), 1 << 16))) {
+            while (next < projects.size() || !window.isEmpty()) {
+                while (next < projects.size() && window.size() < parallelism) {
+                    Source p = projects.get(next++);
+                    window.add(executor.submit(() -> render(p)));
+                }
+
+                Rendered r = await(window.poll());
+                zip.putNextEntry(new ZipEntry(r.entry.getFileName()));
+                zip.write(r.data);
+                zip.closeEntry();
+                entries.add(r.entry);
+            }
+
+            zip.putNextEntry(new ZipEntry(MANIFEST_NAME));
+            zip.write(manifest(entries));
+            zip.closeEntry();
+        }
+
+        return new Result(target, entries);
+    }
+
+    /** Her proje kendi sanal thread'inde hazırlanıp sıkıştırılarak ayrı dosyaya yazılır. */
+    private Result exportGzipFiles(List<Source> projects, Path dir, ExecutorService executor) throws IOException {
+        Files.createDirectories(dir);
+
+        Semaphore permits = new Semaphore(parallelism);
+        List<Future<Entry>> futures = new ArrayList<>(projects.size());
+
+        for (Source p : projects) {
+            futures.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    Rendered r = render(p);
+                    Entry e = r.entry;
+                    Entry gz = new Entry(e.getProjectId(), e.getProjectName(), e.getFileName() + ".gz",
+                            e.getRows(), e.getBytes(), e.getCrc32());
+
+                    try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(dir.resolve(gz.getFileName())), 1 << 16)) {
+                        out.write(r.data);
+                    }
+                    return gz;
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        List<Entry> entries = new ArrayList<>(projects.size());
+        for (Future<Entry> f : futures) entries.add(await(f));
+
+        Files.write(dir.resolve(MANIFEST_NAME), manifest(entries));
+        return new Result(dir, entries);
+    }
+
+    private static Rendered render(Source source) {
+        ManagerSnapshot.ProjectView p = source.project;
+        StringBuilder sb = new StringBuilder();
+        int rows = source.snapshot.appendProjectCSV(sb, p.getId());
+        byte[] data = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        CRC32 crc = new CRC32();
+        crc.update(data);
+
+        Entry e = new Entry(p.getId(), p.getName(), fileName(p), rows, data.length, crc.getValue());
+        return new Rendered(e, data);
+    }
+
+    /** Dosya adı: güvenli proje adı + kısa ID (aynı isimli projeler çakışmasın). */
+    static String fileName(ManagerSnapshot.ProjectView p) {
+        String name = p.getName() == null ? "" : p.getName().trim();
+        String safe = name.replaceAll("[^A-Za-z0-9_-]+", "_");
+        if (safe.isEmpty()) safe = "project";
+        String shortId = p.getId().length() >= 8 ? p.getId().substring(0, 8) : p.getId();
+        return safe + "-" + shortId + ".csv";
+    }
+
+    private static byte[] manifest(List<Entry> entries) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("projectId,projectName,file,rows,bytes,crc32\n");
+        for (Entry e : entries) {
+            sb.append(CsvUtil.escape(e.getProjectId())).append(",")
+              .append(CsvUtil.escape(e.getProjectName())).append(",")
+              .append(CsvUtil.escape(e.getFileName())).append(",")
+              .append(e.getRows()).append(",")
+              .append(e.getBytes()).append(",")
+              .append(String.format("%08x", e.getCrc32()))
+              .append("\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void createParentDirs(Path path) throws IOException {
+        if (path.getParent() != null && !Files.exists(path.getParent())) {
+            Files.createDirectories(path.getParent());
+        }
+    }
+
+    private static <T> T await(Future<T> f) throws IOException {
+        try {
+            return f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Export kesildi.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException u) throw u.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause);
+        }
+    }
+}
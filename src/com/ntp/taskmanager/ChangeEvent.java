@@ -0,0 +1,62 @@
+package com.ntp.taskmanager;
+
+/**
+ * {@link ChangeFeed} üzerinden yayınlanan tek bir değişiklik olayıdır.
+ *
+ * <p>
+ * Olaylar değişmezdir (immutable) ve {@link #getSequence()} ile artan sırada numaralandırılır.
+ * </p>
+ */
+public final class ChangeEvent {
+
+    /** Olay tipleri. */
+    public enum Type {
+        PROJECT_CREATED,
+        TASK_CREATED,
+        TASK_UPDATED,
+        TASK_COMPLETED,
+        TASK_DELETED,
+        TASK_ASSIGNED,
+        /**
+         * Görev başka bir shard'a taşındı (bkz. {@link ShardedProjectManager}); kaynak shard'da
+         * görev ayrılırken, hedef shard'da eklenirken yayınlanır. Silme değildir.
+         */
+        TASK_MOVED
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final String taskId;
+    private final String projectId;
+    private final long timestampMillis;
+
+    public ChangeEvent(long sequence, Type type, String taskId, String projectId, long timestampMillis) {
+        this.sequence = sequence;
+        this.type = type;
+        this.taskId = taskId;
+        this.projectId = projectId;
+        this.timestampMillis = timestampMillis;
+    }
+
+    public long getSequence() { return sequence; }
+    public Type getType() { return type; }
+
+    /** İlgili görev ID'si (PROJECT_CREATED için null). */
+    public String getTaskId() { return taskId; }
+
+    /** İlgili proje ID'si (projeden bağımsız görev olaylarında null). */
+    public String getProjectId() { return projectId; }
+
+    /** Olay zamanı ({@link TimeSource#millis()}). */
+    public long getTimestampMillis() { return timestampMillis; }
+
+    @Override
+    public String toString() {
+        return "ChangeEvent{" +
+                "seq=" + sequence +
+                ", type=" + type +
+                ", taskId='" + taskId + '\'' +
+                ", projectId='" + projectId + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,266 @@
+package com.ntp.taskmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * {@link ProjectManager} değişikliklerini sıralı olarak yayınlayan olay akışıdır (change feed).
+ *
+ * <p>
+ * Olaylar sınırlı kapasiteli, kilitsiz (lock-free) bir halka tampon (ring buffer) içinde tutulur.
+ * Her olay 1'den başlayan artan bir sıra numarası alır. Aboneler kendi imleçlerini (cursor) tutar;
+ * olayları ya {@link Subscription#poll(int)} ile çekerek ya da dinleyici thread'i üzerinden
+ * toplu (batch) olarak alır.
+ * </p>
+ *
+ * <p>
+ * Geri basınç (back-pressure): en yavaş abone tamponun tamamı kadar geride kalırsa yazan taraf bekler.
+ * Bekleme {@code maxBlockMillis} süresini aşarsa geride kalan abonelik "overrun" olarak işaretlenip
+ * bırakılır; böylece yavaş bir tüketici yazanı sonsuza kadar durduramaz. Overrun olan tüketici
+ * durumu baştan taramalıdır.
+ * </p>
+ */
+public final class ChangeFeed {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final long DEFAULT_MAX_BLOCK_MILLIS = 1000;
+
+    private static final System.Logger LOG = System.getLogger(ChangeFeed.class.getName());
+
+    private final AtomicReferenceArray<ChangeEvent> ring;
+    private final int mask;
+    private final long maxBlockNanos;
+
+    /** Son talep edilen (claim) sıra numarası. */
+    private final AtomicLong claimed = new AtomicLong(0);
+    /** Okunabilir son sıra numarası (bundan küçük/eşit tüm olaylar yazılmıştır). */
+    private final AtomicLong published = new AtomicLong(0);
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public ChangeFeed() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_BLOCK_MILLIS);
+    }
+
+    /**
+     * @param capacity tampon kapasitesi (2'nin kuvvetine yukarı yuvarlanır)
+     * @param maxBlockMillis yazanın yavaş abone için en fazla bekleme süresi
+     */
+    public ChangeFeed(int capacity, long maxBlockMillis) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity pozitif olmalı.");
+        if (maxBlockMillis < 0) throw new IllegalArgumentException("maxBlockMillis negatif olamaz.");
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+
+        this.ring = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.maxBlockNanos = TimeUnit.MILLISECONDS.toNanos(maxBlockMillis);
+    }
+
+    public int getCapacity() {
+        return ring.length();
+    }
+
+    /** Yayınlanmış son olayın sıra numarası (hiç olay yoksa 0). */
+    public long getLastSequence() {
+        return published.get();
+    }
+
+    /**
+     * Yeni bir olay yayınlar.
+     *
+     * @return olaya verilen sıra numarası
+     */
+    public long publish(ChangeEvent.Type type, String taskId, String projectId, long timestampMillis) {
+        Objects.requireNonNull(type, "type null olamaz.");
+
+        long seq = claimed.incrementAndGet();
+        awaitCapacity(seq);
+
+        ring.set(index(seq), new ChangeEvent(seq, type, taskId, projectId, timestampMillis));
+
+        // Sıralı yayın: önceki sıra numaraları yayınlanmadan bu olay görünür olmaz.
+        while (!published.compareAndSet(seq - 1, seq)) {
+            Thread.onSpinWait();
+        }
+
+        for (Subscription s : subscriptions) s.signal();
+        return seq;
+    }
+
+    private void awaitCapacity(long seq) {
+        long deadline = 0;
+        while (true) {
+            Subscription slowest = null;
+            for (Subscription s : subscriptions) {
+                if (slowest == null || s.cursor.get() < slowest.cursor.get()) slowest = s;
+            }
+            if (slowest == null || seq - slowest.cursor.get() <= ring.length()) return;
+
+            long nowNanos = System.nanoTime();
+            if (deadline == 0) deadline = nowNanos + maxBlockNanos;
+            if (nowNanos - deadline >= 0) {
+                slowest.overrun();
+                continue;
+            }
+
+            slowest.signal();
+            LockSupport.parkNanos(50_000);
+        }
+    }
+
+    private int index(long seq) {
+        return (int) (seq & mask);
+    }
+
+    /** Yalnızca bundan sonra yayınlanacak olayları çekmek için abone olur. */
+    public Subscription subscribe() {
+        return subscribeFrom(published.get() + 1);
+    }
+
+    /**
+     * Belirtilen sıra numarasından itibaren olayları çekmek için abone olur.
+     *
+     * @param fromSequence ilk okunacak olayın sıra numarası; tampondan düşmüşse hata verir
+     */
+    public Subscription subscribeFrom(long fromSequence) {
+        long last = published.get();
+        long oldest = Math.max(1, last - ring.length() + 1);
+        if (fromSequence < oldest || fromSequence > last + 1) {
+            throw new IllegalArgumentException("Sıra numarası tamponda değil: " + fromSequence
+                    + " (mevcut aralık " + oldest + ".." + (last + 1) + ")");
+        }
+
+        Subscription s = new Subscription(fromSequence - 1);
+        subscriptions.add(s);
+        return s;
+    }
+
+    /**
+     * Yeni olayları arka plan (daemon) thread'inde toplu olarak dinleyiciye iletir.
+     *
+     * <p>
+     * Dinleyici hata fırlatırsa hata loglanır ve abonelik kapatılır ({@link Subscription#getFailure()});
+     * böylece ölü bir dinleyici yazanı geri basınçla bekletmez. O batch'in teslimi yarım kalmış sayılır,
+     * tüketici {@link Subscription#getCursor()} yerine kendi checkpoint'inden yeniden abone olmalıdır.
+     * </p>
+     *
+     * @param listener her çağrıda en fazla {@code maxBatch} olay alır
+     * @param maxBatch bir teslimattaki en fazla olay sayısı
+     */
+    public Subscription subscribe(Consumer<List<ChangeEvent>> listener, int maxBatch) {
+        Objects.requireNonNull(listener, "listener null olamaz.");
+        if (maxBatch <= 0) throw new IllegalArgumentException("maxBatch pozitif olmalı.");
+
+        Subscription s = subscribe();
+        Thread th = new Thread(() -> {
+            try {
+                while (!s.isClosed()) {
+                    List<ChangeEvent> batch = s.poll(maxBatch);
+                    if (batch.isEmpty()) {
+                        LockSupport.parkNanos(s, TimeUnit.MILLISECONDS.toNanos(10));
+                    } else {
+                        listener.accept(batch);
+                    }
+                }
+            } catch (RuntimeException | Error e) {
+                s.failure = e;
+                LOG.log(System.Logger.Level.ERROR, "Change feed dinleyicisi başarısız, abonelik kapatıldı (cursor "
+                        + s.getCursor() + ")", e);
+                if (e instanceof Error) throw e;
+            } finally {
+                s.close(); // thread hangi yoldan çıkarsa çıksın abonelik yazanı bekletmez
+            }
+        }, "change-feed-listener");
+        th.setDaemon(true);
+        s.worker = th;
+        th.start();
+        return s;
+    }
+
+    /**
+     * Tek bir abonenin okuma imleci.
+     */
+    public final class Subscription implements AutoCloseable {
+
+        /** Tüketilmiş son sıra numarası. */
+        private final AtomicLong cursor;
+        private volatile boolean closed;
+        private volatile boolean overrun;
+        private volatile Thread worker;
+        private volatile Throwable failure;
+
+        private Subscription(long cursor) {
+            this.cursor = new AtomicLong(cursor);
+        }
+
+        /**
+         * Sıradaki olayları (en fazla {@code maxBatch} adet) döndürür.
+         * Yeni olay yoksa veya abonelik kapandıysa boş liste döner.
+         */
+        public List<ChangeEvent> poll(int maxBatch) {
+            if (closed) return Collections.emptyList();
+
+            long from = cursor.get() + 1;
+            long to = Math.min(published.get(), from + maxBatch - 1);
+            if (to < from) return Collections.emptyList();
+
+            List<ChangeEvent> batch = new ArrayList<>((int) (to - from + 1));
+            for (long seq = from; seq <= to; seq++) {
+                ChangeEvent e = ring.get(index(seq));
+                if (e == null || e.getSequence() != seq) { // üzerine yazılmış
+                    overrun();
+                    return Collections.emptyList();
+                }
+                batch.add(e);
+            }
+            cursor.set(to);
+            return batch;
+        }
+
+        /** Tüketilmiş son olayın sıra numarası (checkpoint olarak saklanabilir). */
+        public long getCursor() {
+            return cursor.get();
+        }
+
+        /** Abonelik geride kaldığı için bırakıldıysa true; tüketici tam tarama yapmalıdır. */
+        public boolean isOverrun() {
+            return overrun;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+        /** Dinleyici hata fırlattığı için kapandıysa o hata; aksi halde null. */
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        private void overrun() {
+            overrun = true;
+            close();
+        }
+
+        private void signal() {
+            Thread w = worker;
+            if (w != null) LockSupport.unpark(w);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            subscriptions.remove(this);
+            signal();
+        }
+    }
+}
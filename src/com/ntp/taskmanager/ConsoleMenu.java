@@ -10,6 +10,7 @@ public class ConsoleMenu {
 
     private final ProjectManager pm;
     private final Scanner sc = new Scanner(System.in);
+    private final ConsoleOutput out = new ConsoleOutput(System.out, this::readLine);
     private final DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd H:mm");
 
     public ConsoleMenu(ProjectManager pm) {
@@ -18,26 +19,29 @@ public class ConsoleMenu {
 
     public void start() {
         while (true) {
-            System.out.println("\n=== GÖREV & PROJE YÖNETİMİ ===");
-            System.out.println("1) Proje oluştur");
-            System.out.println("2) Projeleri listele");
-            System.out.println("3) Görev oluştur");
-            System.out.println("4) Görevi projeye ata (Task ID/kısa ID + Proje seçimi)");
-            System.out.println("5) Görev tamamla (ID / kısa ID)");
-            System.out.println("6) Yaklaşan görevleri listele (Proje seçimi)");
-            System.out.println("7) Projeyi CSV olarak yazdır (Proje seçimi)");
-            System.out.println("8) Projedeki tüm görevleri listele (Proje seçimi)");
-            System.out.println("9) CSV'yi dosyaya kaydet (Proje seçimi)");
-            System.out.println("10) CSV'den görevleri yükle (Proje seçimi)");
-            System.out.println("11) Task detay görüntüle (ID / kısa ID)");
-            System.out.println("12) Task sil (ID / kısa ID)");
-            System.out.println("13) Task güncelle (ID / kısa ID)");
-            System.out.println("14) Hatırlatmaları çalıştır (Proje seçimi)");
-            System.out.println("15) Projede görev ara (Proje seçimi)");
-            System.out.println("0) Çıkış");
-            System.out.print("Seçim: ");
-
-            String choice = sc.nextLine().trim();
+            out.println("\n=== GÖREV & PROJE YÖNETİMİ ===");
+            out.println("1) Proje oluştur");
+            out.println("2) Projeleri listele");
+            out.println("3) Görev oluştur");
+            out.println("4) Görevi projeye ata (Task ID/kısa ID + Proje seçimi)");
+            out.println("5) Görev tamamla (ID / kısa ID)");
+            out.println("6) Yaklaşan görevleri listele (Proje seçimi)");
+            out.println("7) Projeyi CSV olarak yazdır (Proje seçimi)");
+            out.println("8) Projedeki tüm görevleri listele (Proje seçimi)");
+            out.println("9) CSV'yi dosyaya kaydet (Proje seçimi)");
+            out.println("10) CSV'den görevleri yükle (Proje seçimi)");
+            out.println("11) Task detay görüntüle (ID / kısa ID)");
+            out.println("12) Task sil (ID / kısa ID)");
+            out.println("13) Task güncelle (ID / kısa ID)");
+            out.println("14) Hatırlatmaları çalıştır (Proje seçimi)");
+            out.println("15) Projede görev ara (Proje seçimi)");
+            out.println("16) Delta CSV kaydet (checkpoint'ten beri değişenler)");
+            out.println("17) Tüm projeleri arşive aktar (ZIP)");
+            out.println("18) Sayfalı çıktı (" + (out.getPageSize() == 0 ? "kapalı" : out.getPageSize() + " satır") + ")");
+            out.println("0) Çıkış");
+            out.print("Seçim: ");
+
+            String choice = readLine().trim();
 
             try {
                 switch (choice) {
@@ -56,61 +60,77 @@ public class ConsoleMenu {
                     case "13" -> updateTask();
                     case "14" -> runReminders();
                     case "15" -> searchTasksInProjectAdvanced();
+                    case "16" -> exportDeltaCsvToFile();
+                    case "17" -> exportAllToArchive();
+                    case "18" -> configurePaging();
                     case "0" -> {
-                        System.out.println("Çıkış yapıldı.");
+                        out.println("Çıkış yapıldı.");
+                        out.flush();
                         return;
                     }
-                    default -> System.out.println("Geçersiz seçim.");
+                    default -> out.println("Geçersiz seçim.");
                 }
             } catch (Exception e) {
-                System.out.println("Hata: " + e.getMessage());
+                out.println("Hata: " + e.getMessage());
             }
         }
     }
 
+    /** Komut çıktısını (ve bekleyen istemi) boşaltıp kullanıcıdan bir satır okur. */
+    private String readLine() {
+        out.flush();
+        return sc.nextLine();
+    }
+
+    private void configurePaging() {
+        out.print("Sayfa başına satır (0=kapalı): ");
+        out.setPageSize(Integer.parseInt(readLine().trim()));
+        out.println("Sayfalı çıktı: " + (out.getPageSize() == 0 ? "kapalı" : out.getPageSize() + " satır"));
+    }
+
     private String askProjectSelection() {
-        System.out.println("\nProje seçimi:");
-        System.out.println("- Numara (örn: 1)");
-        System.out.println("- Proje ID");
-        System.out.println("- Proje adı");
-        System.out.print("Seçim: ");
-        return sc.nextLine().trim();
+        out.println("\nProje seçimi:");
+        out.println("- Numara (örn: 1)");
+        out.println("- Proje ID");
+        out.println("- Proje adı");
+        out.print("Seçim: ");
+        return readLine().trim();
     }
 
     private void createProject() {
-        System.out.print("Proje adı: ");
-        String name = sc.nextLine().trim();
+        out.print("Proje adı: ");
+        String name = readLine().trim();
         Project p = pm.createProject(name);
-        System.out.println("Proje oluşturuldu. ID: " + p.getId());
+        out.println("Proje oluşturuldu. ID: " + p.getId());
     }
 
     private void listProjects() {
         List<Project> list = pm.getProjectsAsList();
         if (list.isEmpty()) {
-            System.out.println("Proje yok.");
+            out.println("Proje yok.");
             return;
         }
 
-        System.out.println("--- Projeler ---");
-        for (int i = 0; i < list.size(); i++) {
-            Project p = list.get(i);
-            System.out.println((i + 1) + ") " + p.getName() + " | ID: " + p.getId() + " | Görev: " + p.getTasks().size());
-        }
-        System.out.println("(İpucu: Proje seçerken numara / ID / isim girebilirsin.)");
+        out.println("--- Projeler ---");
+        int[] no = {0};
+        out.printList(list, (sb, p) -> sb.append(++no[0]).append(") ").append(p.getName())
+                .append(" | ID: ").append(p.getId())
+                .append(" | Görev: ").append(p.getTasks().size()));
+        out.println("(İpucu: Proje seçerken numara / ID / isim girebilirsin.)");
     }
 
     private void createTask() {
-        System.out.println("Görev tipi seç:");
-        System.out.println("1) Normal Task");
-        System.out.println("2) TimedTask (başlangıç-bitiş)");
-        System.out.print("Seçim: ");
-        String type = sc.nextLine().trim();
+        out.println("Görev tipi seç:");
+        out.println("1) Normal Task");
+        out.println("2) TimedTask (başlangıç-bitiş)");
+        out.print("Seçim: ");
+        String type = readLine().trim();
 
-        System.out.print("Başlık: ");
-        String title = sc.nextLine().trim();
+        out.print("Başlık: ");
+        String title = readLine().trim();
 
-        System.out.print("Açıklama: ");
-        String desc = sc.nextLine().trim();
+        out.print("Açıklama: ");
+        String desc = readLine().trim();
 
         Priority pr = readPriority();
         LocalDateTime due = readDateTime("Deadline (yyyy-MM-dd H:mm): ");
@@ -119,69 +139,68 @@ public class ConsoleMenu {
             LocalDateTime start = readDateTime("Start (yyyy-MM-dd H:mm): ");
             LocalDateTime end = readDateTime("End (yyyy-MM-dd H:mm): ");
             TimedTask t = pm.createTimedTask(title, desc, due, pr, start, end);
-            System.out.println("TimedTask oluşturuldu.");
-            System.out.println("ID: " + t.getId() + " | Kısa ID: " + t.getShortId());
+            out.println("TimedTask oluşturuldu.");
+            out.println("ID: " + t.getId() + " | Kısa ID: " + t.getShortId());
         } else {
             Task t = pm.createTask(title, desc, due, pr);
-            System.out.println("Task oluşturuldu.");
-            System.out.println("ID: " + t.getId() + " | Kısa ID: " + t.getShortId());
+            out.println("Task oluşturuldu.");
+            out.println("ID: " + t.getId() + " | Kısa ID: " + t.getShortId());
         }
     }
 
     private void assignTaskToProject() {
-        System.out.print("Task ID veya kısa ID: ");
-        String taskIdOrShort = sc.nextLine().trim();
+        out.print("Task ID veya kısa ID: ");
+        String taskIdOrShort = readLine().trim();
 
-        System.out.println("(Önce projeleri görmek için 2'yi seçebilirsin.)");
+        out.println("(Önce projeleri görmek için 2'yi seçebilirsin.)");
         String projectSel = askProjectSelection();
 
         pm.assignTaskToProject(taskIdOrShort, projectSel);
-        System.out.println("Görev projeye atandı.");
+        out.println("Görev projeye atandı.");
     }
 
     private void completeTask() {
-        System.out.print("Tamamlanacak Task ID veya kısa ID: ");
-        String taskIdOrShort = sc.nextLine().trim();
+        out.print("Tamamlanacak Task ID veya kısa ID: ");
+        String taskIdOrShort = readLine().trim();
 
         pm.completeTask(taskIdOrShort);
-        System.out.println("Görev tamamlandı.");
+        out.println("Görev tamamlandı.");
     }
 
     private void listUpcoming() {
         String projectSel = askProjectSelection();
 
-        System.out.print("Kaç saat içinde? (örn: 24): ");
-        long hours = Long.parseLong(sc.nextLine().trim());
+        out.print("Kaç saat içinde? (örn: 24): ");
+        long hours = Long.parseLong(readLine().trim());
 
         List<Task> upcoming = pm.listUpcomingTasks(projectSel, hours);
         if (upcoming.isEmpty()) {
-            System.out.println("Yaklaşan görev yok (" + hours + " saat içinde).");
+            out.println("Yaklaşan görev yok (" + hours + " saat içinde).");
             return;
         }
 
-        System.out.println("--- Yaklaşan Görevler ---");
-        for (Task t : upcoming) {
-            System.out.println("ID: " + t.getId() + " | Kısa: " + t.getShortId() + " | " + Notification.upcoming(t));
-        }
+        long now = pm.getTimeSource().millis();
+        out.println("--- Yaklaşan Görevler ---");
+        out.printList(upcoming, (sb, t) -> appendNotificationRow(sb, t, now));
     }
 
     private void exportCsv() {
         String projectSel = askProjectSelection();
 
         String csv = pm.exportProjectAsCSV(projectSel);
-        System.out.println("\n--- CSV ---");
-        System.out.println(csv);
+        out.println("\n--- CSV ---");
+        out.println(csv);
     }
 
     private void listAllProjectTasks() {
         String projectSel = askProjectSelection();
 
-        System.out.println("Filtre seç:");
-        System.out.println("1) Tümü");
-        System.out.println("2) Sadece tamamlanan");
-        System.out.println("3) Sadece tamamlanmayan");
-        System.out.print("Seçim: ");
-        String f = sc.nextLine().trim();
+        out.println("Filtre seç:");
+        out.println("1) Tümü");
+        out.println("2) Sadece tamamlanan");
+        out.println("3) Sadece tamamlanmayan");
+        out.print("Seçim: ");
+        String f = readLine().trim();
 
         Boolean filter = null;
         if ("2".equals(f)) filter = true;
@@ -189,164 +208,187 @@ public class ConsoleMenu {
 
         List<Task> list = pm.listProjectTasks(projectSel, filter);
         if (list.isEmpty()) {
-            System.out.println("Görev bulunamadı.");
+            out.println("Görev bulunamadı.");
             return;
         }
 
-        System.out.println("--- Görevler ---");
-        for (Task t : list) {
-            String status = t.isCompleted() ? "✅ Tamamlandı" : "🟡 Devam ediyor";
-            System.out.println(status +
-                    " | ID: " + t.getId() +
-                    " | Kısa: " + t.getShortId() +
-                    " | " + t.getTitle() +
-                    " | Öncelik: " + t.getPriority().getLabel() +
-                    " | Deadline: " + t.getDeadline().getDue());
-        }
+        out.println("--- Görevler ---");
+        out.printList(list, (sb, t) -> appendTaskRow(sb, t, t.isCompleted() ? "✅ Tamamlandı" : "🟡 Devam ediyor"));
+    }
+
+    private static void appendTaskRow(StringBuilder sb, Task t, String status) {
+        sb.append(status)
+                .append(" | ID: ").append(t.getId())
+                .append(" | Kısa: ").append(t.getShortId())
+                .append(" | ").append(t.getTitle())
+                .append(" | Öncelik: ").append(t.getPriority().getLabel())
+                .append(" | Deadline: ").append(t.getDeadline().getDue());
+    }
+
+    private static void appendNotificationRow(StringBuilder sb, Task t, long now) {
+        sb.append("ID: ").append(t.getId()).append(" | Kısa: ").append(t.getShortId()).append(" | ");
+        Notification.appendUpcoming(sb, t, now);
     }
 
     private void exportCsvToFile() throws Exception {
         String projectSel = askProjectSelection();
 
-        System.out.print("Dosya yolu (örn: C:\\temp\\project.csv): ");
-        String path = sc.nextLine().trim();
+        out.print("Dosya yolu (örn: C:\\temp\\project.csv): ");
+        String path = readLine().trim();
 
         Path saved = pm.exportProjectCSVToFile(projectSel, path);
-        System.out.println("CSV kaydedildi: " + saved.toAbsolutePath());
+        out.println("CSV kaydedildi: " + saved.toAbsolutePath());
+    }
+
+    private void exportDeltaCsvToFile() throws Exception {
+        String projectSel = askProjectSelection();
+
+        out.print("Checkpoint (önceki export'un sürümü) (boş=0): ");
+        String cp = readLine().trim();
+        long since = cp.isBlank() ? 0 : Long.parseLong(cp);
+
+        out.print("Dosya yolu: ");
+        String path = readLine().trim();
+
+        ProjectManager.DeltaExportResult result = pm.exportProjectDeltaCSVToFile(projectSel, since, path);
+        out.println("Delta CSV kaydedildi: " + result.getPath().toAbsolutePath()
+                + " | Satır: " + result.getRows() + " | Yeni checkpoint: " + result.getCheckpoint());
+    }
+
+    private void exportAllToArchive() throws Exception {
+        out.print("ZIP dosya yolu (örn: C:\\temp\\projects.zip): ");
+        String path = readLine().trim();
+
+        BulkExporter.Result result = pm.exportProjectsArchive(null, path, BulkExporter.Format.ZIP,
+                Runtime.getRuntime().availableProcessors());
+        out.println("Arşiv kaydedildi: " + result.getTarget().toAbsolutePath()
+                + " | Proje: " + result.getEntries().size() + " | Satır: " + result.getTotalRows());
     }
 
     private void importCsvFromFile() throws Exception {
         String projectSel = askProjectSelection();
 
-        System.out.print("CSV dosya yolu: ");
-        String path = sc.nextLine().trim();
+        out.print("CSV dosya yolu: ");
+        String path = readLine().trim();
 
         ProjectManager.ImportResult result = pm.importTasksFromCSV(projectSel, path);
-        System.out.println("İçe aktarma tamamlandı. Eklenen: " + result.getAdded() + " | Atlanan: " + result.getSkipped());
+        out.println("İçe aktarma tamamlandı. Eklenen: " + result.getAdded() + " | Atlanan: " + result.getSkipped()
+                + " | Güncellenen: " + result.getUpdated() + " | Silinen: " + result.getDeleted());
     }
 
     private void runReminders() {
         String projectSel = askProjectSelection();
 
-        System.out.print("Kaç dakika içinde yaklaşanlar? (örn: 60): ");
-        long mins = Long.parseLong(sc.nextLine().trim());
+        out.print("Kaç dakika içinde yaklaşanlar? (örn: 60): ");
+        long mins = Long.parseLong(readLine().trim());
 
         List<Task> remind = pm.runReminders(projectSel, mins);
         if (remind.isEmpty()) {
-            System.out.println("Hatırlatma yok.");
+            out.println("Hatırlatma yok.");
             return;
         }
 
-        System.out.println("--- HATIRLATMALAR ---");
-        for (Task t : remind) {
-            System.out.println("ID: " + t.getId() + " | Kısa: " + t.getShortId() + " | " + Notification.upcoming(t));
-        }
+        long now = pm.getTimeSource().millis();
+        out.println("--- HATIRLATMALAR ---");
+        out.printList(remind, (sb, t) -> appendNotificationRow(sb, t, now));
     }
 
     private void searchTasksInProjectAdvanced() {
         String projectSel = askProjectSelection();
 
-        System.out.print("Aranacak kelime: ");
-        String keyword = sc.nextLine().trim();
+        out.print("Aranacak kelime: ");
+        String keyword = readLine().trim();
 
-        System.out.print("Açıklamada da ara? (E/H): ");
-        boolean inDesc = sc.nextLine().trim().equalsIgnoreCase("E");
+        out.print("Açıklamada da ara? (E/H): ");
+        boolean inDesc = readLine().trim().equalsIgnoreCase("E");
 
-        System.out.println("Filtre seç:");
-        System.out.println("1) Tümü");
-        System.out.println("2) Sadece tamamlanan");
-        System.out.println("3) Sadece tamamlanmayan");
-        System.out.print("Seçim: ");
-        String f = sc.nextLine().trim();
+        out.println("Filtre seç:");
+        out.println("1) Tümü");
+        out.println("2) Sadece tamamlanan");
+        out.println("3) Sadece tamamlanmayan");
+        out.print("Seçim: ");
+        String f = readLine().trim();
 
         Boolean filter = null;
         if ("2".equals(f)) filter = true;
         else if ("3".equals(f)) filter = false;
 
-        System.out.print("Sadece yaklaşanlar? (X saat içinde) (boş=tümü): ");
-        String up = sc.nextLine().trim();
+        out.print("Sadece yaklaşanlar? (X saat içinde) (boş=tümü): ");
+        String up = readLine().trim();
         Long withinHours = null;
         if (!up.isBlank()) withinHours = Long.parseLong(up);
 
-        System.out.print("Kaç sonuç gösterilsin? (örn: 5) (boş=limit yok): ");
-        String lim = sc.nextLine().trim();
+        out.print("Kaç sonuç gösterilsin? (örn: 5) (boş=limit yok): ");
+        String lim = readLine().trim();
         int limit = 0;
         if (!lim.isBlank()) limit = Integer.parseInt(lim);
 
         List<Task> result = pm.searchProjectTasksAdvanced(projectSel, keyword, inDesc, filter, withinHours, limit);
 
         if (result.isEmpty()) {
-            System.out.println("Sonuç bulunamadı.");
+            out.println("Sonuç bulunamadı.");
             return;
         }
 
-        System.out.println("--- ARAMA SONUÇLARI (deadline en yakın üstte) ---");
-        for (Task t : result) {
-            String status = t.isCompleted() ? "✅" : "🟡";
-            System.out.println(status +
-                    " | ID: " + t.getId() +
-                    " | Kısa: " + t.getShortId() +
-                    " | " + t.getTitle() +
-                    " | Öncelik: " + t.getPriority().getLabel() +
-                    " | Deadline: " + t.getDeadline().getDue());
-        }
+        out.println("--- ARAMA SONUÇLARI (deadline en yakın üstte) ---");
+        out.printList(result, (sb, t) -> appendTaskRow(sb, t, t.isCompleted() ? "✅" : "🟡"));
     }
 
     private void showTaskDetails() {
-        System.out.print("Task ID veya kısa ID: ");
-        String idOrShort = sc.nextLine().trim();
+        out.print("Task ID veya kısa ID: ");
+        String idOrShort = readLine().trim();
 
         Task t = pm.getTaskByIdOrShortId(idOrShort);
 
-        System.out.println("\n--- TASK DETAY ---");
-        System.out.println("ID: " + t.getId());
-        System.out.println("Kısa ID: " + t.getShortId());
-        System.out.println("Başlık: " + t.getTitle());
-        System.out.println("Açıklama: " + (t.getDescription() == null ? "" : t.getDescription()));
-        System.out.println("Öncelik: " + t.getPriority().getLabel());
-        System.out.println("Deadline: " + t.getDeadline().getDue());
-        System.out.println("Durum: " + (t.isCompleted() ? "✅ Tamamlandı" : "🟡 Devam ediyor"));
-        System.out.println("--------------");
+        out.println("\n--- TASK DETAY ---");
+        out.println("ID: " + t.getId());
+        out.println("Kısa ID: " + t.getShortId());
+        out.println("Başlık: " + t.getTitle());
+        out.println("Açıklama: " + (t.getDescription() == null ? "" : t.getDescription()));
+        out.println("Öncelik: " + t.getPriority().getLabel());
+        out.println("Deadline: " + t.getDeadline().getDue());
+        out.println("Durum: " + (t.isCompleted() ? "✅ Tamamlandı" : "🟡 Devam ediyor"));
+        out.println("--------------");
     }
 
     private void deleteTask() {
-        System.out.print("Silinecek Task ID veya kısa ID: ");
-        String idOrShort = sc.nextLine().trim();
+        out.print("Silinecek Task ID veya kısa ID: ");
+        String idOrShort = readLine().trim();
 
-        System.out.print("Emin misin? (E/H): ");
-        String confirm = sc.nextLine().trim().toUpperCase();
+        out.print("Emin misin? (E/H): ");
+        String confirm = readLine().trim().toUpperCase();
 
         if (!"E".equals(confirm)) {
-            System.out.println("İptal edildi.");
+            out.println("İptal edildi.");
             return;
         }
 
         String deletedId = pm.deleteTask(idOrShort);
-        System.out.println("Task silindi. ID: " + deletedId);
+        out.println("Task silindi. ID: " + deletedId);
     }
 
     private void updateTask() {
-        System.out.print("Güncellenecek Task ID veya kısa ID: ");
-        String idOrShort = sc.nextLine().trim();
+        out.print("Güncellenecek Task ID veya kısa ID: ");
+        String idOrShort = readLine().trim();
 
         Task existing = pm.getTaskByIdOrShortId(idOrShort);
-        System.out.println("Mevcut: " + existing);
+        out.println("Mevcut: " + existing);
 
-        System.out.println("Boş bırakırsan aynı kalır.");
+        out.println("Boş bırakırsan aynı kalır.");
 
-        System.out.print("Yeni başlık: ");
-        String newTitle = sc.nextLine();
+        out.print("Yeni başlık: ");
+        String newTitle = readLine();
 
-        System.out.print("Yeni açıklama (boş bırakabilirsin): ");
-        String newDesc = sc.nextLine();
+        out.print("Yeni açıklama (boş bırakabilirsin): ");
+        String newDesc = readLine();
 
-        System.out.print("Yeni öncelik (DUSUK/ORTA/YUKSEK) (boş=değişmesin): ");
-        String pr = sc.nextLine().trim().toUpperCase();
+        out.print("Yeni öncelik (DUSUK/ORTA/YUKSEK) (boş=değişmesin): ");
+        String pr = readLine().trim().toUpperCase();
         Priority newPriority = null;
         if (!pr.isBlank()) newPriority = Priority.valueOf(pr);
 
-        System.out.print("Yeni deadline (yyyy-MM-dd H:mm) (boş=değişmesin): ");
-        String dl = sc.nextLine().trim();
+        out.print("Yeni deadline (yyyy-MM-dd H:mm) (boş=değişmesin): ");
+        String dl = readLine().trim();
         LocalDateTime newDeadline = null;
         if (!dl.isBlank()) newDeadline = LocalDateTime.parse(dl, fmt);
 
@@ -356,30 +398,30 @@ public class ConsoleMenu {
                 newPriority,
                 newDeadline);
 
-        System.out.println("Task güncellendi.");
-        System.out.println("Yeni: " + pm.getTaskByIdOrShortId(idOrShort));
+        out.println("Task güncellendi.");
+        out.println("Yeni: " + pm.getTaskByIdOrShortId(idOrShort));
     }
 
     private Priority readPriority() {
         while (true) {
-            System.out.print("Öncelik (DUSUK/ORTA/YUKSEK): ");
-            String p = sc.nextLine().trim().toUpperCase();
+            out.print("Öncelik (DUSUK/ORTA/YUKSEK): ");
+            String p = readLine().trim().toUpperCase();
             try {
                 return Priority.valueOf(p);
             } catch (Exception e) {
-                System.out.println("Geçersiz öncelik.");
+                out.println("Geçersiz öncelik.");
             }
         }
     }
 
     private LocalDateTime readDateTime(String prompt) {
         while (true) {
-            System.out.print(prompt);
-            String input = sc.nextLine().trim();
+            out.print(prompt);
+            String input = readLine().trim();
             try {
                 return LocalDateTime.parse(input, fmt);
             } catch (Exception e) {
-                System.out.println("Format yanlış. Örnek: 2025-12-18 8:30 veya 2025-12-18 08:30");
+                out.println("Format yanlış. Örnek: 2025-12-18 8:30 veya 2025-12-18 08:30");
             }
         }
     }
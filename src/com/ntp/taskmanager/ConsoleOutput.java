@@ -0,0 +1,113 @@
+package com.ntp.taskmanager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Konsol menüsü için tamponlu (buffered) çıktı katmanı.
+ *
+ * <p>
+ * Satırlar büyük bir tampona yazılır ve komut başına bir kez ({@link #flush()}) akışa aktarılır;
+ * {@code System.out}'un satır başına kilit + flush maliyeti ödenmez. Liste satırları
+ * {@link #printList(List, BiConsumer)} ile tekrar kullanılan tek bir {@link StringBuilder}'a
+ * biçimlendirilir. Sayfalı modda her {@code pageSize} satırda tampon boşaltılır ve kullanıcıdan
+ * devam onayı istenir. Thread-safe değildir (tek konsol thread'i içindir).
+ * </p>
+ */
+public final class ConsoleOutput {
+
+    /** Varsayılan tampon boyutu (karakter). */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final Writer out;
+    private final Supplier<String> input;
+    private final StringBuilder row = new StringBuilder(256);
+
+    private int pageSize;
+
+    /**
+     * @param stream hedef akış (genelde {@code System.out}); karakter kodlaması ondan alınır
+     * @param input sayfalı modda devam onayı için satır okuyucu
+     */
+    public ConsoleOutput(PrintStream stream, Supplier<String> input) {
+        this(stream, input, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ConsoleOutput(PrintStream stream, Supplier<String> input, int bufferSize) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize pozitif olmalı.");
+        this.out = new BufferedWriter(new OutputStreamWriter(stream, stream.charset()), bufferSize);
+        this.input = input;
+    }
+
+    /** @return sayfa boyutu (0 ise sayfalama kapalı) */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @param pageSize sayfa başına satır (0: sayfalama kapalı)
+     */
+    public void setPageSize(int pageSize) {
+        if (pageSize < 0) throw new IllegalArgumentException("pageSize negatif olamaz.");
+        this.pageSize = pageSize;
+    }
+
+    public void print(CharSequence s) {
+        try {
+            out.append(s);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void println(CharSequence s) {
+        print(s);
+        println();
+    }
+
+    public void println() {
+        print(System.lineSeparator());
+    }
+
+    /**
+     * Listeyi satır satır yazar; her satır aynı tampona biçimlendirilir.
+     *
+     * @return yazılan satır sayısı (sayfalı modda kullanıcı çıkarsa listeden az olabilir)
+     */
+    public <T> int printList(List<T> items, BiConsumer<StringBuilder, T> formatter) {
+        int written = 0;
+        for (T item : items) {
+            if (pageSize > 0 && written > 0 && written % pageSize == 0 && !askContinue(written, items.size())) {
+                break;
+            }
+            row.setLength(0);
+            formatter.accept(row, item);
+            println(row);
+            written++;
+        }
+        return written;
+    }
+
+    private boolean askContinue(int written, int total) {
+        print("-- " + written + "/" + total + " | devam için Enter, çıkmak için q: ");
+        flush();
+        String answer = input.get();
+        return answer == null || !answer.trim().equalsIgnoreCase("q");
+    }
+
+    /** Tampondaki her şeyi akışa yazar. */
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.ntp.taskmanager;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -9,6 +11,7 @@ import java.util.List;
  * <p>
  * - Virgül içeren alanları (",") tırnak ile sarılmış olarak destekler.
  * - Çift tırnak kaçışını ("") destekler.
+ * - Tırnak içindeki satır sonlarını destekler ({@link #readRecord(BufferedReader)}).
  * </p>
  */
 public final class CsvUtil {
@@ -59,4 +62,37 @@ public final class CsvUtil {
         fields.add(current.toString());
         return fields;
     }
+
+    /**
+     * Okuyucudan bir CSV kaydı okur ve alanlarına böler.
+     * Tırnak içinde satır sonu varsa kayıt sonraki satırlarla birleştirilir.
+     * Kaydın başındaki/sonundaki boşluklar kırpılır.
+     *
+     * @return alanlar; dosya sonunda null
+     */
+    public static List<String> readRecord(BufferedReader in) throws IOException {
+        String line = in.readLine();
+        if (line == null) return null;
+
+        if (quoteCount(line) % 2 != 0) {
+            StringBuilder record = new StringBuilder(line);
+            int quotes = quoteCount(line);
+            String next;
+            while (quotes % 2 != 0 && (next = in.readLine()) != null) {
+                record.append('\n').append(next);
+                quotes += quoteCount(next);
+            }
+            line = record.toString();
+        }
+
+        return parseLine(line.trim());
+    }
+
+    private static int quoteCount(String s) {
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) == '"') n++;
+        }
+        return n;
+    }
 }
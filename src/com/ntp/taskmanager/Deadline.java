@@ -1,6 +1,5 @@
 package com.ntp.taskmanager;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -8,32 +7,33 @@ import java.util.Objects;
  * Görevlerin teslim tarihini temsil eden value object sınıfıdır.
  *
  * <p>
- * Deadline bilgisi kapsülleme (encapsulation) prensibine uygun olarak private tutulur.
- * Erişim kontrollü getter/setter ile sağlanır.
+ * Değişmezdir (immutable): {@link Task.Snapshot} aynı nesneyi paylaştığı için deadline
+ * değişikliği yeni bir Deadline ile {@link Task.Patch#deadline(LocalDateTime)} üzerinden yapılır.
+ * </p>
+ *
+ * <p>
+ * Tarih, yerel duvar saatinin epoch-milisaniye değeri olarak ({@code long}) saklanır;
+ * karşılaştırma ve süre hesapları nesne üretmeden yapılır. {@link LocalDateTime}
+ * sadece gösterim/CSV için {@link #getDue()} çağrıldığında üretilir
+ * (hassasiyet milisaniyedir).
  * </p>
  */
-public class Deadline {
+public final class Deadline {
 
-    private LocalDateTime due; // encapsulated
+    private final long dueMillis;
 
     public Deadline(LocalDateTime due) {
-        setDue(due);
+        Objects.requireNonNull(due, "Deadline (due) null olamaz.");
+        this.dueMillis = TimeSource.toMillis(due);
     }
 
     public LocalDateTime getDue() {
-        return due;
+        return TimeSource.toLocalDateTime(dueMillis);
     }
 
-    /**
-     * Deadline günceller.
-     * Null olamaz ve geçmiş tarih olarak ayarlanamaz.
-     */
-    public void setDue(LocalDateTime due) {
-        Objects.requireNonNull(due, "Deadline (due) null olamaz.");
-        // if (due.isBefore(LocalDateTime.now())) {
-        //     throw new IllegalArgumentException("Deadline geçmiş bir tarih olamaz.");
-        // }
-        this.due = due;
+    /** Deadline'ın yerel duvar saati epoch-milisaniye değeri (sıralama/karşılaştırma için). */
+    public long getDueMillis() {
+        return dueMillis;
     }
 
     /**
@@ -43,22 +43,40 @@ public class Deadline {
      * @return true ise deadline belirtilen saat aralığı içindedir
      */
     public boolean isWithinHours(long hours) {
-        if (hours < 0) throw new IllegalArgumentException("hours negatif olamaz.");
+        return isWithinHours(hours, TimeSource.toMillis(LocalDateTime.now()));
+    }
 
-        LocalDateTime now = LocalDateTime.now();
-        if (now.isAfter(due)) return false;
+    /**
+     * {@link #isWithinHours(long)} ile aynıdır; "şimdi" dışarıdan verilir.
+     *
+     * @param nowMillis {@link TimeSource#millis()} ile alınmış zaman
+     */
+    public boolean isWithinHours(long hours, long nowMillis) {
+        if (hours < 0) throw new IllegalArgumentException("hours negatif olamaz.");
 
-        long minutesLeft = Duration.between(now, due).toMinutes();
-        return minutesLeft <= hours * 60;
+        if (isOverdue(nowMillis)) return false;
+        return minutesUntil(nowMillis) <= hours * 60;
     }
 
-    
     public boolean isOverdue() {
-        return LocalDateTime.now().isAfter(due);
+        return isOverdue(TimeSource.toMillis(LocalDateTime.now()));
+    }
+
+    public boolean isOverdue(long nowMillis) {
+        return nowMillis > dueMillis;
+    }
+
+    /**
+     * Deadline'a kalan tam dakika sayısı (geçmişse negatif).
+     *
+     * @param nowMillis {@link TimeSource#millis()} ile alınmış zaman
+     */
+    public long minutesUntil(long nowMillis) {
+        return (dueMillis - nowMillis) / 60_000L;
     }
 
     @Override
     public String toString() {
-        return due.toString();
+        return getDue().toString();
     }
 }
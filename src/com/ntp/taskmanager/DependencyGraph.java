@@ -0,0 +1,338 @@
+package com.ntp.taskmanager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Görevler arası bağımlılık grafiği ("A, B bitmeden başlayamaz").
+ *
+ * <p>
+ * Her görev için tamamlanmamış ön koşul sayısı, hazır (ready) durumu ve kendisinde biten en uzun
+ * zincir tutulur. Bunlar yalnızca bir görev değiştiğinde (tamamlanma, atama, silme, kenar
+ * ekleme/çıkarma) ve yalnızca etkilenen görevler için güncellenir; sorgular hesap yapmaz:
+ * </p>
+ * <ul>
+ *   <li>{@link #getReadyTasks(String)} projenin hazır görev kümesini döndürür (hazır görev sayısıyla orantılı).</li>
+ *   <li>{@link #getCriticalPath(String, List)} proje değişmediyse önbellekteki sonucu döndürür.</li>
+ * </ul>
+ *
+ * <p>
+ * Kritik yol: tamamlanmamış görevlerden oluşan, {@link TimedTask} süreleri toplamı en büyük
+ * zincir; eşitlikte daha çok görev içeren, sonra son deadline'ı daha geç olan seçilir
+ * (süresi olmayan görevlerde zincir uzunluğu ve deadline belirleyicidir). Zincir projede biten
+ * zincirlerdir; ön koşullar başka projelerde olabilir. Ekleme sırasında döngü oluşturacak kenar
+ * reddedilir. {@link ProjectManager} gibi thread-safe değildir.
+ * </p>
+ */
+public final class DependencyGraph {
+
+    private final Map<String, Node> nodes = new HashMap<>();
+    /** projectId -> projedeki hazır görevler (eklenme sırasıyla). */
+    private final Map<String, LinkedHashSet<Task>> readyByProject = new HashMap<>();
+    private final Map<String, CriticalPath> criticalPaths = new HashMap<>();
+
+    /* ===================== KENARLAR ===================== */
+
+    /**
+     * {@code task}, {@code prerequisite} tamamlanmadan hazır olmaz.
+     *
+     * @return kenar yeni eklendiyse true
+     * @throws IllegalArgumentException kenar döngü oluşturuyorsa veya görev kendisine bağlanıyorsa
+     */
+    public boolean addDependency(Task task, Task prerequisite) {
+        if (task.getId().equals(prerequisite.getId())) {
+            throw new IllegalArgumentException("Görev kendisine bağımlı olamaz: " + task.getShortId());
+        }
+        Node n = node(task);
+        Node p = node(prerequisite);
+        if (n.prerequisites.contains(p)) return false;
+        if (reaches(n, p)) {
+            throw new IllegalArgumentException("Bağımlılık döngü oluşturur: " + task.getShortId()
+                    + " -> " + prerequisite.getShortId());
+        }
+
+        n.prerequisites.add(p);
+        p.dependents.add(n);
+        if (!p.completed) setUnmet(n, n.unmet + 1);
+        propagate(n);
+        return true;
+    }
+
+    /** @return kenar varsa ve kaldırıldıysa true */
+    public boolean removeDependency(Task task, Task prerequisite) {
+        Node n = nodes.get(task.getId());
+        Node p = nodes.get(prerequisite.getId());
+        if (n == null || p == null || !n.prerequisites.remove(p)) return false;
+
+        p.dependents.remove(n);
+        if (!p.completed) setUnmet(n, n.unmet - 1);
+        propagate(n);
+        return true;
+    }
+
+    /** Görevin doğrudan ön koşulları. */
+    public List<Task> getPrerequisites(Task task) {
+        Node n = nodes.get(task.getId());
+        if (n == null) return Collections.emptyList();
+        List<Task> out = new ArrayList<>(n.prerequisites.size());
+        for (Node p : n.prerequisites) out.add(p.task);
+        return out;
+    }
+
+    /** Görevin doğrudan bağımlıları (bu görevi bekleyenler). */
+    public List<Task> getDependents(Task task) {
+        Node n = nodes.get(task.getId());
+        if (n == null) return Collections.emptyList();
+        List<Task> out = new ArrayList<>(n.dependents.size());
+        for (Node d : n.dependents) out.add(d.task);
+        return out;
+    }
+
+    /** Tamamlanmamış ön koşulu olan görev bloke durumdadır. */
+    public boolean isBlocked(Task task) {
+        Node n = nodes.get(task.getId());
+        return n != null && n.unmet > 0;
+    }
+
+    /** Projenin hazır (tamamlanmamış ve bloke olmayan) görevleri; değiştirilemez görünüm. */
+    public Set<Task> getReadyTasks(String projectId) {
+        LinkedHashSet<Task> set = readyByProject.get(projectId);
+        return set == null ? Collections.emptySet() : Collections.unmodifiableSet(set);
+    }
+
+    /** Projenin kritik yolu (önbellekli; proje etkilenmediyse tekrar hesaplanmaz). */
+    public CriticalPath getCriticalPath(String projectId, List<Task> projectTasks) {
+        CriticalPath cached = criticalPaths.get(projectId);
+        if (cached != null) return cached;
+
+        Node best = null;
+        for (Task t : projectTasks) {
+            Node n = nodes.get(t.getId());
+            if (n != null && !n.completed && (best == null || longer(n, best))) best = n;
+        }
+
+        List<Task> chain = new ArrayList<>();
+        long minutes = best == null ? 0 : best.chainMinutes;
+        for (Node n = best; n != null; n = n.chainPrev) chain.add(n.task);
+        Collections.reverse(chain);
+
+        CriticalPath cp = new CriticalPath(chain, minutes);
+        criticalPaths.put(projectId, cp);
+        return cp;
+    }
+
+    /* ===================== DEĞİŞİKLİK BİLDİRİMLERİ (ProjectManager) ===================== */
+
+    /**
+     * Görev oluşturuldu, değişti veya bir projeye atandı. Tamamlanma ve süre değişimleri buradan
+     * bağımlılara yayılır. Deadline değişimi zincir değerlerini değiştirmez ama eşitlik bozmada
+     * kullanıldığı için görevin projelerindeki kritik yol silinir ve bağımlıların seçimi yenilenir.
+     */
+    void onTaskChanged(Task task) {
+        Node n = node(task);
+        syncMembership(n);
+
+        if (n.completed != task.isCompleted()) {
+            n.completed = task.isCompleted();
+            int delta = n.completed ? -1 : 1;
+            for (Node d : n.dependents) setUnmet(d, d.unmet + delta);
+            updateReady(n);
+        }
+        long due = task.getDeadline().getDueMillis();
+        if (n.dueMillis != due) {
+            n.dueMillis = due;
+            for (String pid : n.projects) criticalPaths.remove(pid);
+            for (Node d : n.dependents) propagate(d);
+        }
+        propagate(n);
+    }
+
+    /** Görev projeden çıkarıldı (silme). */
+    void onRemovedFromProject(String taskId, String projectId) {
+        Node n = nodes.get(taskId);
+        if (n == null) return;
+        syncMembership(n);
+        criticalPaths.remove(projectId);
+    }
+
+    /** Görev depodan silindi; kenarları da kaldırılır. */
+    void onTaskDeleted(String taskId) {
+        Node n = nodes.remove(taskId);
+        if (n == null) return;
+
+        for (Node p : n.prerequisites) p.dependents.remove(n);
+        for (String pid : n.projects) {
+            LinkedHashSet<Task> set = readyByProject.get(pid);
+            if (set != null) set.remove(n.task);
+            criticalPaths.remove(pid);
+        }
+
+        // bağımlılar için artık engel değil
+        for (Node d : n.dependents) {
+            d.prerequisites.remove(n);
+            if (!n.completed) setUnmet(d, d.unmet - 1);
+            propagate(d);
+        }
+    }
+
+    /* ===================== İÇ İŞLEYİŞ ===================== */
+
+    private Node node(Task task) {
+        Node n = nodes.get(task.getId());
+        if (n == null) {
+            n = new Node(task);
+            nodes.put(task.getId(), n);
+            syncMembership(n);
+            updateReady(n);
+            propagate(n);
+        }
+        return n;
+    }
+
+    /** prerequisite'ten ön koşullar yönünde task'a ulaşılıyor mu (yeni kenar döngü oluşturur mu)? */
+    private static boolean reaches(Node task, Node prerequisite) {
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        Set<Node> seen = new HashSet<>();
+        stack.push(prerequisite);
+        while (!stack.isEmpty()) {
+            Node x = stack.pop();
+            if (x == task) return true;
+            if (!seen.add(x)) continue;
+            for (Node p : x.prerequisites) stack.push(p);
+        }
+        return false;
+    }
+
+    private void setUnmet(Node n, int unmet) {
+        n.unmet = unmet;
+        updateReady(n);
+    }
+
+    private void updateReady(Node n) {
+        boolean ready = !n.completed && n.unmet == 0;
+        if (ready == n.ready) return;
+        n.ready = ready;
+        for (String pid : n.projects) {
+            if (ready) readyByProject.computeIfAbsent(pid, k -> new LinkedHashSet<>()).add(n.task);
+            else {
+                LinkedHashSet<Task> set = readyByProject.get(pid);
+                if (set != null) set.remove(n.task);
+            }
+        }
+    }
+
+    /** Görevin proje listesini günceller; hazır kümeleri ve kritik yol önbelleğini buna göre düzeltir. */
+    private void syncMembership(Node n) {
+        List<String> current = n.task.getProjectIds();
+        if (current.equals(n.projects)) return;
+
+        for (String pid : n.projects) {
+            if (!current.contains(pid)) {
+                LinkedHashSet<Task> set = readyByProject.get(pid);
+                if (set != null) set.remove(n.task);
+                criticalPaths.remove(pid);
+            }
+        }
+        for (String pid : current) {
+            if (!n.projects.contains(pid)) {
+                if (n.ready) readyByProject.computeIfAbsent(pid, k -> new LinkedHashSet<>()).add(n.task);
+                criticalPaths.remove(pid);
+            }
+        }
+        n.projects = current;
+    }
+
+    /**
+     * Düğümün zincir değerlerini yeniden hesaplar; değiştiyse bağımlılarına yayar. Yalnızca değeri
+     * değişen düğümlerin projelerindeki kritik yol önbelleği silinir.
+     */
+    private void propagate(Node start) {
+        ArrayDeque<Node> work = new ArrayDeque<>();
+        work.add(start);
+        while (!work.isEmpty()) {
+            Node n = work.poll();
+            if (!recompute(n)) continue;
+            for (String pid : n.projects) criticalPaths.remove(pid);
+            work.addAll(n.dependents);
+        }
+    }
+
+    /** @return değerler değiştiyse true */
+    private static boolean recompute(Node n) {
+        Node prev = null;
+        long minutes = 0;
+        int length = 0;
+        if (!n.completed) {
+            for (Node p : n.prerequisites) {
+                if (p.completed) continue;
+                if (prev == null || longer(p, prev)) prev = p;
+            }
+            minutes = durationMinutes(n.task) + (prev == null ? 0 : prev.chainMinutes);
+            length = 1 + (prev == null ? 0 : prev.chainLength);
+        }
+        if (prev == n.chainPrev && minutes == n.chainMinutes && length == n.chainLength) return false;
+        n.chainPrev = prev;
+        n.chainMinutes = minutes;
+        n.chainLength = length;
+        return true;
+    }
+
+    /** a'da biten zincir b'dekinden uzun mu (süre, görev sayısı, son deadline)? */
+    private static boolean longer(Node a, Node b) {
+        if (a.chainMinutes != b.chainMinutes) return a.chainMinutes > b.chainMinutes;
+        if (a.chainLength != b.chainLength) return a.chainLength > b.chainLength;
+        return a.task.getDeadline().getDueMillis() > b.task.getDeadline().getDueMillis();
+    }
+
+    private static long durationMinutes(Task t) {
+        if (!(t instanceof TimedTask tt)) return 0;
+        return Math.max(0, Duration.between(tt.getStart(), tt.getEnd()).toMinutes());
+    }
+
+    private static final class Node {
+        final Task task;
+        final List<Node> prerequisites = new ArrayList<>(2);
+        final List<Node> dependents = new ArrayList<>(2);
+        List<String> projects = List.of();
+
+        boolean completed;
+        boolean ready;
+        int unmet;
+        long dueMillis;
+
+        Node chainPrev;
+        long chainMinutes;
+        int chainLength;
+
+        Node(Task task) {
+            this.task = task;
+            this.completed = task.isCompleted();
+            this.dueMillis = task.getDeadline().getDueMillis();
+        }
+    }
+
+    /** Bir projenin kritik yolu: baştan sona görevler ve toplam süre. Değişmezdir. */
+    public static final class CriticalPath {
+        private final List<Task> tasks;
+        private final long totalMinutes;
+
+        CriticalPath(List<Task> tasks, long totalMinutes) {
+            this.tasks = List.copyOf(tasks);
+            this.totalMinutes = totalMinutes;
+        }
+
+        /** İlk (en eski ön koşul) görevden son göreve. Proje boşsa veya tüm görevler bittiyse boş. */
+        public List<Task> getTasks() { return tasks; }
+
+        /** Zincirdeki {@link TimedTask} sürelerinin toplamı (dakika). */
+        public long getTotalMinutes() { return totalMinutes; }
+    }
+}
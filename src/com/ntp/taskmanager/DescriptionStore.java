@@ -0,0 +1,230 @@
+package com.ntp.taskmanager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Görev açıklamalarını ayrı, yalnızca sona eklenen (append-only) bir dosyada tutan depo.
+ *
+ * <p>
+ * {@link ProjectManager#setDescriptionStore(DescriptionStore)} ile etkinleştirilince eşikten uzun
+ * açıklamalar dosyaya yazılır, görevde yalnızca ofset/uzunluk ({@link Ref}) kalır. Açıklama
+ * okunduğunda (görev detayı, açıklamada arama, CSV export) bayt boyutuna göre sınırlı bir LRU
+ * önbellekten ya da diskten yüklenir; listeler ve hatırlatmalar dosyaya hiç dokunmaz.
+ * </p>
+ *
+ * <p>
+ * Aynı metin bir kez yazılır: tekrar eden açıklamalar (örn. şablonlar) mevcut {@link Ref}'i paylaşır.
+ * Güncellenen veya silinen açıklamaların eski kayıtları dosyada kalır ({@link #getFileBytes()}).
+ * Dosya yalnızca bu sürecin ömrü boyunca geçerlidir; açılışta sıfırlanır. Thread-safe'tir.
+ * </p>
+ */
+public final class DescriptionStore implements AutoCloseable {
+
+    /** Önbellekte kayıt başına eklenen tahmini nesne yükü (bayt). */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final boolean deleteOnClose;
+    private final long maxCacheBytes;
+    private final int inlineThreshold;
+
+    private final LinkedHashMap<Long, String> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private long cachedBytes;
+    private long position;
+
+    /** (hashCode, bayt uzunluğu) -> o içerikle en son yazılan kayıt; eşleşme içerikle doğrulanır. */
+    private final HashMap<Long, Ref> written = new HashMap<>();
+    private long deduplicated;
+
+    private long hits;
+    private long misses;
+
+    private DescriptionStore(Path file, boolean deleteOnClose, long maxCacheBytes, int inlineThreshold) throws IOException {
+        if (maxCacheBytes < 0) throw new IllegalArgumentException("maxCacheBytes negatif olamaz.");
+        if (inlineThreshold < 0) throw new IllegalArgumentException("inlineThreshold negatif olamaz.");
+        this.file = file;
+        this.deleteOnClose = deleteOnClose;
+        this.maxCacheBytes = maxCacheBytes;
+        this.inlineThreshold = inlineThreshold;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * @param file açıklama dosyası (varsa sıfırlanır)
+     * @param maxCacheBytes önbellekteki açıklamaların en fazla (tahmini) heap baytı
+     * @param inlineThreshold bu uzunluktan (karakter) kısa açıklamalar görevde kalır
+     */
+    public static DescriptionStore open(Path file, long maxCacheBytes, int inlineThreshold) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        return new DescriptionStore(file, false, maxCacheBytes, inlineThreshold);
+    }
+
+    /** Geçici dosyada depo açar; {@link #close()} dosyayı siler. */
+    public static DescriptionStore openTemp(long maxCacheBytes, int inlineThreshold) throws IOException {
+        return new DescriptionStore(Files.createTempFile("task-desc", ".bin"), true, maxCacheBytes, inlineThreshold);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getInlineThreshold() {
+        return inlineThreshold;
+    }
+
+    /** Metni dosyanın sonuna yazar; aynı metin daha önce yazıldıysa o kaydı döndürür. */
+    public synchronized Ref append(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        long key = ((long) text.hashCode() << 32) | bytes.length;
+        Ref existing = written.get(key);
+        if (existing != null && text.equals(load(existing.offset, existing.length))) {
+            deduplicated++;
+            return existing;
+        }
+
+        long offset = position;
+        try {
+            ByteBuffer buf = ByteBuffer.wrap(bytes);
+            while (buf.hasRemaining()) channel.write(buf, offset + buf.position());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Açıklama yazılamadı: " + file, e);
+        }
+        position += bytes.length;
+        Ref ref = new Ref(this, offset, bytes.length);
+        written.put(key, ref);
+        return ref;
+    }
+
+    /** Önbellekten veya diskten okur. */
+    String read(long offset, int length) {
+        synchronized (this) {
+            String cached = cache.get(offset);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+        return load(offset, length);
+    }
+
+    /** Diskten okuyup önbelleğe koyar (isabet sayaçlarına dokunmaz). */
+    private String load(long offset, int length) {
+        synchronized (this) {
+            String cached = cache.get(offset);
+            if (cached != null) return cached;
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(length);
+        try {
+            while (buf.hasRemaining()) {
+                if (channel.read(buf, offset + buf.position()) < 0) {
+                    throw new IOException("Beklenmeyen dosya sonu (offset " + offset + ")");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Açıklama okunamadı: " + file, e);
+        }
+        String text = new String(buf.array(), StandardCharsets.UTF_8);
+
+        synchronized (this) {
+            long weight = weight(text);
+            if (weight <= maxCacheBytes && cache.putIfAbsent(offset, text) == null) {
+                cachedBytes += weight;
+                evict();
+            }
+        }
+        return text;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Long, String>> it = cache.entrySet().iterator();
+        while (cachedBytes > maxCacheBytes && it.hasNext()) {
+            Map.Entry<Long, String> eldest = it.next();
+            cachedBytes -= weight(eldest.getValue());
+            it.remove();
+        }
+    }
+
+    /** Önbellekteki metnin tahmini heap maliyeti. */
+    private static long weight(String text) {
+        return 2L * text.length() + ENTRY_OVERHEAD;
+    }
+
+    /** Dosyaya yazılmış toplam bayt (eski sürümler dahil). */
+    public synchronized long getFileBytes() {
+        return position;
+    }
+
+    /** Yeniden yazılmayıp mevcut kaydı paylaşan {@link #append} çağrıları. */
+    public synchronized long getDeduplicated() {
+        return deduplicated;
+    }
+
+    public synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    public synchronized int getCachedCount() {
+        return cache.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("DescriptionStore{file=%d B, dedup=%d, cache=%d kayıt / %d B (max %d), hits=%d, misses=%d}",
+                position, deduplicated, cache.size(), cachedBytes, maxCacheBytes, hits, misses);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        cache.clear();
+        written.clear();
+        cachedBytes = 0;
+        channel.close();
+        if (deleteOnClose) Files.deleteIfExists(file);
+    }
+
+    /**
+     * Dosyadaki bir açıklamanın yeri. Değişmezdir; görev snapshot'larında metnin yerine tutulur.
+     */
+    public static final class Ref {
+        private final DescriptionStore store;
+        private final long offset;
+        private final int length;
+
+        private Ref(DescriptionStore store, long offset, int length) {
+            this.store = store;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public long getOffset() { return offset; }
+        public int getLength() { return length; }
+
+        public String load() {
+            return store.read(offset, length);
+        }
+    }
+}
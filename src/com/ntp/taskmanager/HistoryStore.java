@@ -0,0 +1,956 @@
+package com.ntp.taskmanager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Görev sürümlerinin diskte, yalnızca sona eklenen (append-only) geçmiş kaydı.
+ *
+ * <p>
+ * {@link ProjectManager#setHistoryStore(HistoryStore)} ile etkinleştirilince her görev değişikliği
+ * bir kayıt olarak yazılır. Kayıt ya tam durumdur (keyframe) ya da bir önceki sürüme göre yalnızca
+ * değişen alanlardır (delta); her görev için ilk kayıt ve her {@code keyframeInterval} delta sonrası
+ * keyframe yazılır. Silme de bir kayıttır; hiçbir sürüm kaybolmaz.
+ * </p>
+ *
+ * <p>
+ * Heap'te yalnızca dizin (görev ve proje başına kayıt zamanları ve dosya ofsetleri) tutulur;
+ * metinler diskte kalır. Bir görevin T anındaki hali, T'den önceki son keyframe'den itibaren en
+ * fazla {@code keyframeInterval} kayıt okunarak kurulur. Projeler için de periyodik olarak tüm
+ * görevlerin tam halini içeren proje keyframe'i yazılır (en az {@code projectKeyframeInterval},
+ * en fazla projedeki görev sayısı kadar değişiklikte bir); projenin T anındaki hali son proje
+ * keyframe'i ile ondan sonraki kayıtlardan kurulur, projede bulunmuş tüm görevler taranmaz.
+ * </p>
+ *
+ * <p>
+ * {@link #close()} dizini yan dosyaya ({@code <dosya>.idx}) yazar; sonraki açılışta dizin oradan
+ * yüklenir ve yalnızca ondan sonra eklenen kayıtlar taranır. Yan dosya yüklenince silinir, yoksa
+ * veya okunamazsa dosyanın tamamı taranır. Zaman sırasının olay sırasıyla aynı olduğu varsayılır
+ * ({@link TimeSource}). Thread-safe'tir.
+ * </p>
+ *
+ * <p>
+ * Kayıt biçimi: {@code int uzunluk | byte tip | long sıra | long zaman | str taskId | gövde}.
+ * Metinler {@code int bayt sayısı (-1: null) + UTF-8} olarak yazılır. Keyframe görev türünü
+ * (TASK/TIMED/RECURRING) ve {@link TimedTask} başlangıç/bitişini de içerir; ilk biçimdeki
+ * (türsüz) keyframe'ler de okunur. Proje keyframe'inde taskId yerine projectId, gövdede
+ * {@code int n} ve n kez {@code str taskId | long sıra | long zaman | keyframe gövdesi} bulunur.
+ * </p>
+ */
+public final class HistoryStore implements AutoCloseable {
+
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 16;
+    public static final int DEFAULT_PROJECT_KEYFRAME_INTERVAL = 256;
+
+    /** İlk biçim: tür ve başlangıç/bitiş yok (yalnızca okunur). */
+    private static final byte KEYFRAME_V1 = 1;
+    private static final byte DELTA = 2;
+    private static final byte DELETED = 3;
+    private static final byte KEYFRAME = 4;
+    private static final byte PROJECT_KEYFRAME = 5;
+
+    /** Dizin yan dosyasının başlığı ve biçim sürümü. */
+    private static final int INDEX_MAGIC = 0x48494458;
+    private static final int INDEX_VERSION = 1;
+
+    private static final int F_TITLE = 1, F_DESCRIPTION = 2, F_PRIORITY = 4, F_DUE = 8, F_COMPLETED = 16, F_PROJECTS = 32,
+            F_START = 64, F_END = 128;
+
+    /** Keyframe'deki tür baytının karşılığı (0: TASK, 1: TIMED, 2: RECURRING). */
+    private static final String[] KINDS = { TaskCsvFormat.TYPE_TASK, TaskCsvFormat.TYPE_TIMED, TaskCsvFormat.TYPE_RECURRING };
+
+    /** Başlangıç/bitişi olmayan (TimedTask olmayan) görevler için. */
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final long KEY_BIT = 1L << 62;
+    private static final int WRITE_BUFFER = 1 << 16;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final boolean deleteOnClose;
+    private final int keyframeInterval;
+    private final int projectKeyframeInterval;
+
+    private ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER);
+    /** Diske yazılmış bayt (tampondakiler hariç). */
+    private long flushed;
+
+    private final Map<String, TaskIndex> byTask = new HashMap<>();
+    /** projectId -> projeye dokunan kayıtlar ve proje keyframe'leri. */
+    private final Map<String, ProjectIndex> byProject = new HashMap<>();
+
+    private long records;
+    private long keyframes;
+    private long projectKeyframes;
+
+    private HistoryStore(Path file, boolean deleteOnClose, int keyframeInterval, int projectKeyframeInterval) throws IOException {
+        if (keyframeInterval <= 0) throw new IllegalArgumentException("keyframeInterval pozitif olmalı.");
+        if (projectKeyframeInterval <= 0) throw new IllegalArgumentException("projectKeyframeInterval pozitif olmalı.");
+        this.file = file;
+        this.deleteOnClose = deleteOnClose;
+        this.keyframeInterval = keyframeInterval;
+        this.projectKeyframeInterval = projectKeyframeInterval;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        rebuildIndex(deleteOnClose ? 0 : loadIndex());
+    }
+
+    /**
+     * Geçmiş dosyasını açar; dosya varsa kayıtları korunur ve dizin yeniden kurulur.
+     *
+     * @param keyframeInterval bir görev için art arda yazılabilecek en fazla delta
+     */
+    public static HistoryStore open(Path file, int keyframeInterval) throws IOException {
+        return open(file, keyframeInterval, DEFAULT_PROJECT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * @param projectKeyframeInterval proje keyframe'leri arasındaki en az kayıt sayısı
+     */
+    public static HistoryStore open(Path file, int keyframeInterval, int projectKeyframeInterval) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        return new HistoryStore(file, false, keyframeInterval, projectKeyframeInterval);
+    }
+
+    /** Geçici dosyada depo açar; {@link #close()} dosyayı siler. */
+    public static HistoryStore openTemp(int keyframeInterval) throws IOException {
+        return openTemp(keyframeInterval, DEFAULT_PROJECT_KEYFRAME_INTERVAL);
+    }
+
+    public static HistoryStore openTemp(int keyframeInterval, int projectKeyframeInterval) throws IOException {
+        return new HistoryStore(Files.createTempFile("task-history", ".log"), true, keyframeInterval, projectKeyframeInterval);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /* ===================== YAZMA ===================== */
+
+    /** Görevin güncel halini kaydeder (önceki kayda göre değişmediyse yazmaz). */
+    synchronized void record(Task task, long sequence, long timestampMillis) {
+        TaskIndex idx = byTask.computeIfAbsent(task.getId(), k -> new TaskIndex());
+        Task.Snapshot s = task.snapshot();
+        List<String> projects = task.getProjectIds();
+        long start = NO_TIME, end = NO_TIME;
+        if (task instanceof TimedTask tt) {
+            start = TimeSource.toMillis(tt.getStart());
+            end = TimeSource.toMillis(tt.getEnd());
+        }
+
+        int mask = 0;
+        Task.Snapshot last = idx.last;
+        if (last != null) {
+            if (!last.getTitle().equals(s.getTitle())) mask |= F_TITLE;
+            if (last.rawDescription() != s.rawDescription()
+                    && !Objects.equals(last.rawDescription(), s.rawDescription())) mask |= F_DESCRIPTION;
+            if (last.getPriority() != s.getPriority()) mask |= F_PRIORITY;
+            if (last.getDeadline().getDueMillis() != s.getDeadline().getDueMillis()) mask |= F_DUE;
+            if (last.isCompleted() != s.isCompleted()) mask |= F_COMPLETED;
+            if (!idx.lastProjects.equals(projects)) mask |= F_PROJECTS;
+            if (idx.lastStart != start) mask |= F_START;
+            if (idx.lastEnd != end) mask |= F_END;
+            if (mask == 0) return;
+        }
+
+        boolean key = last == null || idx.deltasSinceKey >= keyframeInterval;
+        long offset = position();
+
+        begin(key ? KEYFRAME : DELTA, sequence, timestampMillis, task.getId());
+        if (key) {
+            putKeyframeBody(s.getTitle(), s.getDescription(), s.getPriority(), s.getDeadline().getDueMillis(),
+                    s.isCompleted(), projects, (byte) (task instanceof TimedTask ? 1 : task instanceof RecurringTask ? 2 : 0),
+                    start, end);
+        } else {
+            putByte((byte) mask);
+            if ((mask & F_TITLE) != 0) putString(s.getTitle());
+            if ((mask & F_DESCRIPTION) != 0) putString(s.getDescription());
+            if ((mask & F_PRIORITY) != 0) putByte((byte) s.getPriority().ordinal());
+            if ((mask & F_DUE) != 0) putLong(s.getDeadline().getDueMillis());
+            if ((mask & F_COMPLETED) != 0) putByte((byte) (s.isCompleted() ? 1 : 0));
+            if ((mask & F_PROJECTS) != 0) putProjects(projects);
+            if ((mask & F_START) != 0) putLong(start);
+            if ((mask & F_END) != 0) putLong(end);
+        }
+        end(offset);
+
+        List<String> before = idx.lastProjects;
+        idx.add(timestampMillis, key ? offset | KEY_BIT : offset);
+        idx.deltasSinceKey = key ? 0 : idx.deltasSinceKey + 1;
+        idx.last = s;
+        idx.lastProjects = projects;
+        idx.lastStart = start;
+        idx.lastEnd = end;
+        records++;
+        if (key) keyframes++;
+        touchProjects(before, projects, offset, sequence, timestampMillis);
+    }
+
+    /** Görevin silindiğini kaydeder. */
+    synchronized void recordDeleted(String taskId, long sequence, long timestampMillis) {
+        TaskIndex idx = byTask.get(taskId);
+        if (idx == null) return; // geçmişi hiç kaydedilmemiş görev
+
+        long offset = position();
+        begin(DELETED, sequence, timestampMillis, taskId);
+        end(offset);
+
+        List<String> before = idx.lastProjects;
+        idx.add(timestampMillis, offset);
+        idx.last = null; // yeniden oluşturulursa keyframe ile başlar
+        idx.lastProjects = List.of();
+        records++;
+        touchProjects(before, List.of(), offset, sequence, timestampMillis);
+    }
+
+    /**
+     * Kaydı, görevin önceki ve yeni projelerinin dizinine ekler (projeden çıkış da projenin
+     * geçmişidir); aralık dolan projeler için proje keyframe'i yazar.
+     */
+    private void touchProjects(List<String> before, List<String> after, long offset, long sequence, long timestampMillis) {
+        Set<String> touched = new LinkedHashSet<>(before);
+        touched.addAll(after);
+        for (String pid : touched) {
+            ProjectIndex p = byProject.computeIfAbsent(pid, k -> new ProjectIndex());
+            p.add(timestampMillis, offset);
+            // aralık proje büyüklüğüyle ölçeklenir: keyframe'in yazma maliyeti kayıt başına sabit kalır
+            if (++p.sinceKey >= Math.max(projectKeyframeInterval, p.keyMembers)) {
+                writeProjectKeyframe(pid, p, sequence, timestampMillis);
+            }
+        }
+    }
+
+    private void writeProjectKeyframe(String projectId, ProjectIndex p, long sequence, long timestampMillis) {
+        Map<String, State> states = projectStates(projectId, p, Long.MAX_VALUE);
+
+        long offset = position();
+        begin(PROJECT_KEYFRAME, sequence, timestampMillis, projectId);
+        ensure(4);
+        out.putInt(states.size());
+        for (State st : states.values()) {
+            putString(st.taskId);
+            putLong(st.sequence);
+            putLong(st.timestampMillis);
+            putKeyframeBody(st.title, st.description, st.priority, st.dueMillis, st.completed, st.projectIds,
+                    kindByte(st.kind), st.startMillis, st.endMillis);
+        }
+        end(offset);
+
+        p.addKey(timestampMillis, offset);
+        p.sinceKey = 0;
+        p.keyMembers = states.size();
+        projectKeyframes++;
+    }
+
+    private void putKeyframeBody(String title, String description, Priority priority, long dueMillis, boolean completed,
+                                 List<String> projects, byte kind, long start, long end) {
+        putString(title);
+        putString(description);
+        putByte((byte) priority.ordinal());
+        putLong(dueMillis);
+        putByte((byte) (completed ? 1 : 0));
+        putProjects(projects);
+        putByte(kind);
+        putLong(start);
+        putLong(end);
+    }
+
+    private static byte kindByte(String kind) {
+        for (int i = 0; i < KINDS.length; i++) if (KINDS[i].equals(kind)) return (byte) i;
+        return -1; // ilk biçimden gelen türsüz kayıt
+    }
+
+    private long position() {
+        return flushed + out.position();
+    }
+
+    private void begin(byte type, long sequence, long timestampMillis, String taskId) {
+        ensure(4 + 1 + 16);
+        out.putInt(0); // uzunluk end() içinde yazılır
+        out.put(type);
+        out.putLong(sequence);
+        out.putLong(timestampMillis);
+        putString(taskId);
+    }
+
+    private void end(long offset) {
+        int start = (int) (offset - flushed);
+        out.putInt(start, out.position() - start - 4);
+        if (out.position() >= WRITE_BUFFER) flush();
+    }
+
+    private void putByte(byte b) {
+        ensure(1);
+        out.put(b);
+    }
+
+    private void putLong(long v) {
+        ensure(8);
+        out.putLong(v);
+    }
+
+    private void putString(String s) {
+        if (s == null) {
+            ensure(4);
+            out.putInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        ensure(4 + bytes.length);
+        out.putInt(bytes.length);
+        out.put(bytes);
+    }
+
+    private void putProjects(List<String> projects) {
+        ensure(4);
+        out.putInt(projects.size());
+        for (String p : projects) putString(p);
+    }
+
+    /** Tampon bir kayıt ortasında dolabileceği için büyütülür (kayıt bütün olarak yazılmalı). */
+    private void ensure(int n) {
+        if (out.remaining() >= n) return;
+        ByteBuffer bigger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + n));
+        out.flip();
+        bigger.put(out);
+        out = bigger;
+    }
+
+    /** Tampondaki kayıtları dosyaya yazar. */
+    public synchronized void flush() {
+        out.flip();
+        try {
+            while (out.hasRemaining()) flushed += channel.write(out, flushed);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Geçmiş yazılamadı: " + file, e);
+        }
+        out.clear();
+        if (out.capacity() > WRITE_BUFFER) out = ByteBuffer.allocate(WRITE_BUFFER);
+    }
+
+    /* ===================== OKUMA ===================== */
+
+    /** Görevin en az bir sürümü kaydedilmiş mi? */
+    synchronized boolean knows(String taskId) {
+        return byTask.containsKey(taskId);
+    }
+
+    /** Görevin tüm sürümleri (eskiden yeniye; silme kaydı dahil). Görev bilinmiyorsa boş liste. */
+    public synchronized List<TaskVersion> getTaskHistory(String taskId) {
+        TaskIndex idx = byTask.get(taskId);
+        if (idx == null) return Collections.emptyList();
+        flush();
+
+        List<TaskVersion> out = new ArrayList<>(idx.size);
+        State state = new State(taskId);
+        for (int i = 0; i < idx.size; i++) {
+            apply(state, idx.offsets[i] & ~KEY_BIT);
+            out.add(state.toVersion());
+        }
+        return out;
+    }
+
+    /**
+     * Görevin verilen andaki hali.
+     *
+     * @return o anda henüz yoksa veya silinmişse null
+     */
+    public synchronized TaskVersion getTaskAt(String taskId, long timestampMillis) {
+        TaskIndex idx = byTask.get(taskId);
+        if (idx == null) return null;
+
+        int k = idx.lastAtOrBefore(timestampMillis);
+        if (k < 0) return null;
+        flush();
+
+        State state = stateAt(taskId, idx, k);
+        return state.deleted ? null : state.toVersion();
+    }
+
+    /** Görevin dizindeki {@code k}. kayıttan sonraki hali (önceki keyframe'den itibaren uygulanır). */
+    private State stateAt(String taskId, TaskIndex idx, int k) {
+        int key = k;
+        while (key > 0 && (idx.offsets[key] & KEY_BIT) == 0) key--;
+
+        State state = new State(taskId);
+        for (int i = key; i <= k; i++) apply(state, idx.offsets[i] & ~KEY_BIT);
+        return state;
+    }
+
+    /**
+     * Projenin verilen andaki görevleri (o anda projede olan, silinmemiş görevler; deadline sırasıyla).
+     * Son proje keyframe'i ve ondan sonra projeye dokunan kayıtlar okunur.
+     */
+    public synchronized List<TaskVersion> getProjectAt(String projectId, long timestampMillis) {
+        ProjectIndex p = byProject.get(projectId);
+        if (p == null) return Collections.emptyList();
+        flush();
+
+        List<TaskVersion> out = new ArrayList<>();
+        for (State st : projectStates(projectId, p, timestampMillis).values()) out.add(st.toVersion());
+        out.sort((a, b) -> Long.compare(a.getDueMillis(), b.getDueMillis()));
+        return out;
+    }
+
+    /** Projede {@code timestampMillis} anında bulunan görevlerin halleri (taskId -> durum). */
+    private Map<String, State> projectStates(String projectId, ProjectIndex p, long timestampMillis) {
+        flush();
+        Map<String, State> states = new LinkedHashMap<>();
+
+        int k = p.lastKeyAtOrBefore(timestampMillis);
+        long from = -1;
+        if (k >= 0) {
+            from = p.keyOffsets[k];
+            readProjectKeyframe(from, states);
+        }
+
+        for (int i = p.firstAfter(from); i < p.size && p.times[i] <= timestampMillis; i++) {
+            long offset = p.offsets[i];
+            ByteBuffer in = read(offset);
+            String taskId = taskIdOf(in);
+
+            State st = states.get(taskId);
+            if (st != null) {
+                decode(st, in);
+            } else {
+                // keyframe'den sonra projeye giren görev: kendi keyframe'inden kurulur
+                TaskIndex idx = byTask.get(taskId);
+                st = stateAt(taskId, idx, idx.indexOf(offset));
+            }
+
+            if (st.deleted || !st.projectIds.contains(projectId)) states.remove(taskId);
+            else states.put(taskId, st);
+        }
+        return states;
+    }
+
+    private void readProjectKeyframe(long offset, Map<String, State> states) {
+        ByteBuffer in = read(offset);
+        in.position(1 + 16);
+        getString(in); // projectId
+        int n = in.getInt();
+        for (int i = 0; i < n; i++) {
+            State st = new State(getString(in));
+            st.sequence = in.getLong();
+            st.timestampMillis = in.getLong();
+            decodeKeyframeBody(st, in);
+            states.put(st.taskId, st);
+        }
+    }
+
+    /** Kaydı okuyup duruma uygular. */
+    private void apply(State st, long offset) {
+        decode(st, read(offset));
+    }
+
+    /** Kaydın uzunluk alanından sonrasını okur. */
+    private ByteBuffer read(long offset) {
+        ByteBuffer len = ByteBuffer.allocate(4);
+        readFully(len, offset);
+        ByteBuffer in = ByteBuffer.allocate(len.getInt(0));
+        readFully(in, offset + 4);
+        in.flip();
+        return in;
+    }
+
+    private static String taskIdOf(ByteBuffer in) {
+        String taskId = getString(in.position(1 + 16));
+        in.position(0);
+        return taskId;
+    }
+
+    private static void decode(State st, ByteBuffer in) {
+        byte type = in.get();
+        st.sequence = in.getLong();
+        st.timestampMillis = in.getLong();
+        getString(in); // taskId
+
+        if (type == DELETED) {
+            st.deleted = true;
+            return;
+        }
+        st.deleted = false;
+
+        if (type == KEYFRAME) {
+            decodeKeyframeBody(st, in);
+            return;
+        }
+
+        int mask = type == KEYFRAME_V1 ? F_TITLE | F_DESCRIPTION | F_PRIORITY | F_DUE | F_COMPLETED | F_PROJECTS : in.get() & 0xFF;
+        if ((mask & F_TITLE) != 0) st.title = getString(in);
+        if ((mask & F_DESCRIPTION) != 0) st.description = getString(in);
+        if ((mask & F_PRIORITY) != 0) st.priority = Priority.values()[in.get()];
+        if ((mask & F_DUE) != 0) st.dueMillis = in.getLong();
+        if ((mask & F_COMPLETED) != 0) st.completed = in.get() != 0;
+        if ((mask & F_PROJECTS) != 0) {
+            int n = in.getInt();
+            String[] p = new String[n];
+            for (int i = 0; i < n; i++) p[i] = getString(in);
+            st.projectIds = List.of(p);
+        }
+        if ((mask & F_START) != 0) st.startMillis = in.getLong();
+        if ((mask & F_END) != 0) st.endMillis = in.getLong();
+    }
+
+    private static void decodeKeyframeBody(State st, ByteBuffer in) {
+        st.deleted = false;
+        st.title = getString(in);
+        st.description = getString(in);
+        st.priority = Priority.values()[in.get()];
+        st.dueMillis = in.getLong();
+        st.completed = in.get() != 0;
+        int n = in.getInt();
+        String[] p = new String[n];
+        for (int i = 0; i < n; i++) p[i] = getString(in);
+        st.projectIds = List.of(p);
+        byte kind = in.get();
+        st.kind = kind < 0 ? null : KINDS[kind];
+        st.startMillis = in.getLong();
+        st.endMillis = in.getLong();
+    }
+
+    private static String getString(ByteBuffer in) {
+        int n = in.getInt();
+        if (n < 0) return null;
+        String s = new String(in.array(), in.arrayOffset() + in.position(), n, StandardCharsets.UTF_8);
+        in.position(in.position() + n);
+        return s;
+    }
+
+    private void readFully(ByteBuffer buf, long offset) {
+        try {
+            while (buf.hasRemaining()) {
+                if (channel.read(buf, offset + buf.position()) < 0) {
+                    throw new IOException("Beklenmeyen dosya sonu (offset " + offset + ")");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Geçmiş okunamadı: " + file, e);
+        }
+    }
+
+    /**
+     * Dizini {@code from} ofsetinden itibaren dosyayı tarayarak tamamlar (yan dosyadan yüklenmediyse
+     * baştan); yarım kalmış son kayıt varsa kesilir.
+     */
+    private void rebuildIndex(long from) throws IOException {
+        long size = channel.size();
+        long pos = from;
+        ByteBuffer len = ByteBuffer.allocate(4);
+        while (pos + 4 <= size) {
+            len.clear();
+            readFully(len, pos);
+            int n = len.getInt(0);
+            if (n <= 0 || pos + 4 + n > size) break;
+
+            ByteBuffer in = ByteBuffer.allocate(n);
+            readFully(in, pos + 4);
+            in.flip();
+
+            byte type = in.get(0);
+            long time = in.getLong(1 + 8);
+            String id = taskIdOf(in);
+
+            if (type == PROJECT_KEYFRAME) {
+                ProjectIndex p = byProject.computeIfAbsent(id, k -> new ProjectIndex());
+                p.addKey(time, pos);
+                p.sinceKey = 0;
+                p.keyMembers = in.position(1 + 16 + 4 + id.getBytes(StandardCharsets.UTF_8).length).getInt();
+                projectKeyframes++;
+            } else {
+                TaskIndex idx = byTask.computeIfAbsent(id, k -> new TaskIndex());
+                State st = new State(id);
+                st.projectIds = idx.lastProjects;
+                decode(st, in);
+
+                boolean key = type == KEYFRAME || type == KEYFRAME_V1;
+                idx.add(time, key ? pos | KEY_BIT : pos);
+                List<String> before = idx.lastProjects;
+                idx.lastProjects = st.deleted ? List.of() : st.projectIds;
+
+                Set<String> touched = new LinkedHashSet<>(before);
+                touched.addAll(idx.lastProjects);
+                for (String pid : touched) {
+                    ProjectIndex p = byProject.computeIfAbsent(pid, k -> new ProjectIndex());
+                    p.add(time, pos);
+                    p.sinceKey++;
+                }
+                records++;
+                if (key) keyframes++;
+            }
+            pos += 4 + n;
+        }
+        if (pos < size) channel.truncate(pos);
+        flushed = pos;
+    }
+
+    private Path indexFile() {
+        return file.resolveSibling(file.getFileName() + ".idx");
+    }
+
+    /**
+     * Yan dosyadaki dizini yükleyip dosyayı siler (bir sonraki {@link #close()} yenisini yazar).
+     *
+     * @return dizinin kapsadığı dosya uzunluğu; yan dosya yoksa veya geçersizse 0 (tam tarama)
+     */
+    private long loadIndex() {
+        Path idxFile = indexFile();
+        if (!Files.exists(idxFile)) return 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(idxFile), 1 << 16))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION) return 0;
+            long covered = in.readLong();
+            if (covered > channel.size()) return 0;
+            records = in.readLong();
+            keyframes = in.readLong();
+            projectKeyframes = in.readLong();
+
+            for (int t = in.readInt(); t > 0; t--) {
+                TaskIndex idx = new TaskIndex();
+                String taskId = in.readUTF();
+                idx.size = in.readInt();
+                idx.times = readLongs(in, idx.size);
+                idx.offsets = readLongs(in, idx.size);
+                idx.lastProjects = readStrings(in);
+                byTask.put(taskId, idx);
+            }
+            for (int n = in.readInt(); n > 0; n--) {
+                ProjectIndex p = new ProjectIndex();
+                String projectId = in.readUTF();
+                p.size = in.readInt();
+                p.times = readLongs(in, p.size);
+                p.offsets = readLongs(in, p.size);
+                p.keySize = in.readInt();
+                p.keyTimes = readLongs(in, p.keySize);
+                p.keyOffsets = readLongs(in, p.keySize);
+                p.sinceKey = in.readInt();
+                p.keyMembers = in.readInt();
+                byProject.put(projectId, p);
+            }
+            return covered;
+        } catch (IOException | RuntimeException e) {
+            byTask.clear();
+            byProject.clear();
+            records = keyframes = projectKeyframes = 0;
+            return 0;
+        } finally {
+            try {
+                Files.deleteIfExists(idxFile);
+            } catch (IOException ignored) {
+                // bir sonraki açılış yan dosyanın kapsadığı uzunluğu doğrular
+            }
+        }
+    }
+
+    private void saveIndex() throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile()), 1 << 16))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(INDEX_VERSION);
+            out.writeLong(flushed);
+            out.writeLong(records);
+            out.writeLong(keyframes);
+            out.writeLong(projectKeyframes);
+
+            out.writeInt(byTask.size());
+            for (Map.Entry<String, TaskIndex> e : byTask.entrySet()) {
+                TaskIndex idx = e.getValue();
+                out.writeUTF(e.getKey());
+                out.writeInt(idx.size);
+                writeLongs(out, idx.times, idx.size);
+                writeLongs(out, idx.offsets, idx.size);
+                out.writeInt(idx.lastProjects.size());
+                for (String pid : idx.lastProjects) out.writeUTF(pid);
+            }
+            out.writeInt(byProject.size());
+            for (Map.Entry<String, ProjectIndex> e : byProject.entrySet()) {
+                ProjectIndex p = e.getValue();
+                out.writeUTF(e.getKey());
+                out.writeInt(p.size);
+                writeLongs(out, p.times, p.size);
+                writeLongs(out, p.offsets, p.size);
+                out.writeInt(p.keySize);
+                writeLongs(out, p.keyTimes, p.keySize);
+                writeLongs(out, p.keyOffsets, p.keySize);
+                out.writeInt(p.sinceKey);
+                out.writeInt(p.keyMembers);
+            }
+        }
+    }
+
+    private static long[] readLongs(DataInputStream in, int n) throws IOException {
+        long[] a = new long[Math.max(n, 4)];
+        for (int i = 0; i < n; i++) a[i] = in.readLong();
+        return a;
+    }
+
+    private static void writeLongs(DataOutputStream out, long[] a, int n) throws IOException {
+        for (int i = 0; i < n; i++) out.writeLong(a[i]);
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        String[] a = new String[in.readInt()];
+        for (int i = 0; i < a.length; i++) a[i] = in.readUTF();
+        return List.of(a);
+    }
+
+    /* ===================== İSTATİSTİK ===================== */
+
+    public synchronized long getFileBytes() {
+        return position();
+    }
+
+    public synchronized long getRecordCount() {
+        return records;
+    }
+
+    public synchronized long getKeyframeCount() {
+        return keyframes;
+    }
+
+    public synchronized long getProjectKeyframeCount() {
+        return projectKeyframes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("HistoryStore{file=%d B, görev=%d, kayıt=%d, keyframe=%d, proje keyframe=%d}",
+                position(), byTask.size(), records, keyframes, projectKeyframes);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen()) return;
+        flush();
+        channel.close();
+        if (deleteOnClose) Files.deleteIfExists(file);
+        else saveIndex();
+    }
+
+    /* ===================== İÇ SINIFLAR ===================== */
+
+    /** Görev başına dizin: sürüm zamanları ve kayıt ofsetleri (keyframe'ler KEY_BIT ile işaretli). */
+    private static final class TaskIndex {
+        long[] times = new long[4];
+        long[] offsets = new long[4];
+        int size;
+
+        /** Yalnızca yazarken kullanılır (delta hesabı); açılıştan sonra ilk kayıt keyframe olur. */
+        Task.Snapshot last;
+        List<String> lastProjects = List.of();
+        long lastStart = NO_TIME;
+        long lastEnd = NO_TIME;
+        int deltasSinceKey;
+
+        void add(long time, long offset) {
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            times[size] = time;
+            offsets[size] = offset;
+            size++;
+        }
+
+        /** Zamanı {@code t} veya öncesi olan son kaydın sırası; yoksa -1. */
+        int lastAtOrBefore(long t) {
+            return HistoryStore.lastAtOrBefore(times, size, t);
+        }
+
+        /** Verilen ofsetteki kaydın sırası (ofsetler KEY_BIT hariç artan sıradadır). */
+        int indexOf(long offset) {
+            int lo = 0, hi = size - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                long o = offsets[mid] & ~KEY_BIT;
+                if (o == offset) return mid;
+                if (o < offset) lo = mid + 1;
+                else hi = mid - 1;
+            }
+            throw new IllegalStateException("Geçmiş dizini bozuk (offset " + offset + ")");
+        }
+    }
+
+    /**
+     * Proje başına dizin: projeye dokunan (projeye giren, projedeyken değişen veya projeden çıkan)
+     * görev kayıtları ve proje keyframe'leri, dosya sırasıyla.
+     */
+    private static final class ProjectIndex {
+        long[] times = new long[4];
+        long[] offsets = new long[4];
+        int size;
+
+        long[] keyTimes = new long[4];
+        long[] keyOffsets = new long[4];
+        int keySize;
+
+        /** Son proje keyframe'inden sonraki kayıt sayısı ve o keyframe'deki görev sayısı. */
+        int sinceKey;
+        int keyMembers;
+
+        void add(long time, long offset) {
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            times[size] = time;
+            offsets[size] = offset;
+            size++;
+        }
+
+        void addKey(long time, long offset) {
+            if (keySize == keyTimes.length) {
+                keyTimes = Arrays.copyOf(keyTimes, keySize * 2);
+                keyOffsets = Arrays.copyOf(keyOffsets, keySize * 2);
+            }
+            keyTimes[keySize] = time;
+            keyOffsets[keySize] = offset;
+            keySize++;
+        }
+
+        int lastKeyAtOrBefore(long t) {
+            return HistoryStore.lastAtOrBefore(keyTimes, keySize, t);
+        }
+
+        /** Ofseti {@code offset}'ten büyük ilk kaydın sırası. */
+        int firstAfter(long offset) {
+            int lo = 0, hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (offsets[mid] <= offset) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+
+    /** Zamanı {@code t} veya öncesi olan son elemanın sırası; yoksa -1. */
+    private static int lastAtOrBefore(long[] times, int size, long t) {
+        int lo = 0, hi = size - 1, found = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[mid] <= t) {
+                found = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    /** Kayıtlar uygulanırken biriken durum. */
+    private static final class State {
+        final String taskId;
+        long sequence;
+        long timestampMillis;
+        String title;
+        String description;
+        Priority priority;
+        long dueMillis;
+        boolean completed;
+        List<String> projectIds = List.of();
+        String kind;
+        long startMillis = NO_TIME;
+        long endMillis = NO_TIME;
+        boolean deleted;
+
+        State(String taskId) {
+            this.taskId = taskId;
+        }
+
+        TaskVersion toVersion() {
+            return new TaskVersion(taskId, sequence, timestampMillis, title, description, priority, dueMillis,
+                    completed, projectIds, kind, startMillis, endMillis, deleted);
+        }
+    }
+
+    /** Bir görevin geçmişteki tek bir sürümü. Değişmezdir. */
+    public static final class TaskVersion {
+        private final String taskId;
+        private final long sequence;
+        private final long timestampMillis;
+        private final String title;
+        private final String description;
+        private final Priority priority;
+        private final long dueMillis;
+        private final boolean completed;
+        private final List<String> projectIds;
+        private final String type;
+        private final long startMillis;
+        private final long endMillis;
+        private final boolean deleted;
+
+        TaskVersion(String taskId, long sequence, long timestampMillis, String title, String description,
+                    Priority priority, long dueMillis, boolean completed, List<String> projectIds,
+                    String type, long startMillis, long endMillis, boolean deleted) {
+            this.taskId = taskId;
+            this.sequence = sequence;
+            this.timestampMillis = timestampMillis;
+            this.title = title;
+            this.description = description;
+            this.priority = priority;
+            this.dueMillis = dueMillis;
+            this.completed = completed;
+            this.projectIds = projectIds;
+            this.type = type;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.deleted = deleted;
+        }
+
+        public String getTaskId() { return taskId; }
+
+        /** Değişikliğin {@link ChangeFeed} sıra numarası. */
+        public long getSequence() { return sequence; }
+        public LocalDateTime getTimestamp() { return TimeSource.toLocalDateTime(timestampMillis); }
+        public long getTimestampMillis() { return timestampMillis; }
+        public String getTitle() { return title; }
+        public String getDescription() { return description; }
+        public Priority getPriority() { return priority; }
+        public LocalDateTime getDue() { return TimeSource.toLocalDateTime(dueMillis); }
+        public long getDueMillis() { return dueMillis; }
+        public boolean isCompleted() { return completed; }
+        public List<String> getProjectIds() { return projectIds; }
+
+        /** Görev türü ({@link TaskCsvFormat#TYPE_TASK}, {@code TYPE_TIMED}, {@code TYPE_RECURRING}); eski kayıtlarda null. */
+        public String getType() { return type; }
+
+        /** {@link TimedTask} başlangıcı; zamanlı görev değilse null. */
+        public LocalDateTime getStart() { return startMillis == NO_TIME ? null : TimeSource.toLocalDateTime(startMillis); }
+
+        /** {@link TimedTask} bitişi; zamanlı görev değilse null. */
+        public LocalDateTime getEnd() { return endMillis == NO_TIME ? null : TimeSource.toLocalDateTime(endMillis); }
+
+        /** Bu sürüm bir silme kaydıysa true (diğer alanlar silinmeden önceki haldir). */
+        public boolean isDeleted() { return deleted; }
+
+        @Override
+        public String toString() {
+            return "TaskVersion{seq=" + sequence + ", at=" + getTimestamp() + ", title='" + title + "'"
+                    + ", priority=" + (priority == null ? null : priority.getLabel()) + ", due=" + getDue()
+                    + ", completed=" + completed
+                    + (startMillis != NO_TIME ? ", start=" + getStart() + ", end=" + getEnd() : "")
+                    + (deleted ? ", SİLİNDİ" : "") + "}";
+        }
+    }
+}
@@ -0,0 +1,508 @@
+package com.ntp.taskmanager;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * {@link ProjectManager} için gömülü HTTP/JSON API sunucusu.
+ *
+ * <p>
+ * JDK'nın {@code com.sun.net.httpserver} paketini kullanır (harici bağımlılık yok);
+ * her istek kendi sanal thread'inde (virtual thread) çalışır.
+ * {@link ProjectManager} thread-safe olmadığı için okuma istekleri ortak okuma kilidi,
+ * değiştiren istekler yazma kilidi altında çalışır. Yanıta girecek alanlar kilit altında
+ * kopyalanır ({@code TaskView}, {@code ProjectView}); büyük listeler bu kopyalardan, kilit
+ * bırakıldıktan sonra parça parça (chunked) JSON olarak akıtılır.
+ * </p>
+ *
+ * <pre>
+ * GET    /projects                             projeleri listeler
+ * POST   /projects                {name}       proje oluşturur
+ * GET    /projects/{p}/tasks?completed=        proje görevleri
+ * GET    /projects/{p}/upcoming?hours=24       yaklaşan görevler
+ * GET    /projects/{p}/search?q=&amp;desc=&amp;completed=&amp;within=&amp;limit=
+ * GET    /projects/{p}/export[?since=N]        CSV (since verilirse delta)
+ * POST   /projects/{p}/tasks/{t}               görevi projeye atar
+ * POST   /tasks                   {title, description, priority, deadline, start?, end?}
+ * GET    /tasks/upcoming?hours=&amp;priority=      tüm projelerde yaklaşanlar
+ * GET    /tasks/search?q=&amp;desc=&amp;completed=     tüm projelerde arama
+ * GET    /tasks/{t}                            görev detayı
+ * PUT    /tasks/{t}               {title?, description?, priority?, deadline?, version?}
+ *                                       (version verilirse iyimser güncelleme; uyuşmazsa 409)
+ * POST   /tasks/{t}/complete                   görevi tamamlar
+ * DELETE /tasks/{t}                            görevi siler
+ * </pre>
+ *
+ * <p>{p}: proje numarası / ID / adı, {t}: görev ID / kısa ID. Tarihler ISO formatındadır
+ * (örn: 2025-12-18T08:30). Tanımsız adresler 404, desteklenmeyen metodlar 405 döner.</p>
+ *
+ * <p>
+ * Küçük yanıtlarda Nagle + gecikmeli ACK istek başına ~40ms ekler. JDK sunucusu bunu
+ * JVM genelindeki {@code sun.net.httpserver.nodelay} ayarıyla kapatır; sunucu bu ayarı kendisi
+ * değiştirmez, başlatırken verin: {@code java -Dsun.net.httpserver.nodelay=true ... --http}.
+ * </p>
+ *
+ * <p>
+ * Beklenmeyen hatalarda istemciye yalnızca genel bir 500 mesajı döner; ayrıntı
+ * {@link System.Logger} ile loglanır.
+ * </p>
+ */
+public final class HttpApiServer implements AutoCloseable {
+
+    private static final System.Logger LOG = System.getLogger(HttpApiServer.class.getName());
+
+    private final ProjectManager pm;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public HttpApiServer(ProjectManager pm) {
+        this.pm = Objects.requireNonNull(pm, "pm null olamaz.");
+    }
+
+    /**
+     * Sunucuyu başlatır.
+     *
+     * @param port 0 ise boş bir port seçilir (bkz. {@link #getPort()})
+     */
+    public void start(String host, int port) throws IOException {
+        if (server != null) throw new IllegalStateException("Sunucu zaten çalışıyor.");
+
+        server = HttpServer.create(new InetSocketAddress(host, port), 4096);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public int getPort() {
+        if (server == null) throw new IllegalStateException("Sunucu çalışmıyor.");
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        if (server == null) return;
+        server.stop(0);
+        executor.close();
+        server = null;
+        executor = null;
+    }
+
+    /* ===================== ROUTING ===================== */
+
+    private void handle(HttpExchange ex) throws IOException {
+        try {
+            route(ex);
+        } catch (VersionConflictException e) {
+            sendError(ex, 409, e.getMessage());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            sendError(ex, 400, e.getMessage());
+        } catch (NotFoundException e) {
+            sendError(ex, 404, e.getMessage());
+        } catch (MethodNotAllowedException e) {
+            sendError(ex, 405, e.getMessage());
+        } catch (Exception e) {
+            LOG.log(System.Logger.Level.ERROR, ex.getRequestMethod() + " " + ex.getRequestURI() + " başarısız", e);
+            sendError(ex, 500, "Sunucu hatası.");
+        } finally {
+            ex.close();
+        }
+    }
+
+    private void route(HttpExchange ex) throws IOException {
+        String method = ex.getRequestMethod();
+        List<String> path = pathSegments(ex);
+        Map<String, String> q = queryParams(ex);
+
+        if (path.isEmpty()) throw notFound();
+
+        if (path.get(0).equals("projects")) {
+            if (path.size() == 1) {
+                if (method.equals("GET")) {
+                    List<ProjectView> list = read(() -> projectViews(pm.getProjectsAsList()));
+                    sendList(ex, list, HttpApiServer::projectJson);
+                    return;
+                }
+                if (method.equals("POST")) {
+                    Map<String, Object> body = readBody(ex);
+                    ProjectView p = write(() -> new ProjectView(pm.createProject(requireString(body, "name"))));
+                    sendJson(ex, 201, projectJson(new StringBuilder(), p));
+                    return;
+                }
+                throw notAllowed(method);
+            }
+
+            String sel = path.get(1);
+
+            if (path.size() == 4 && path.get(2).equals("tasks") && method.equals("POST")) {
+                write(() -> { pm.assignTaskToProject(path.get(3), sel); return null; });
+                sendJson(ex, 200, new StringBuilder("{\"assigned\":true}"));
+                return;
+            }
+            if (path.size() != 3 || !method.equals("GET")) throw notAllowed(method);
+
+            switch (path.get(2)) {
+                case "tasks" -> {
+                    Boolean completed = boolParam(q, "completed");
+                    sendList(ex, read(() -> taskViews(pm.listProjectTasks(sel, completed))), HttpApiServer::taskJson);
+                }
+                case "upcoming" -> {
+                    long hours = longParam(q, "hours", 24);
+                    sendList(ex, read(() -> taskViews(pm.listUpcomingTasks(sel, hours))), HttpApiServer::taskJson);
+                }
+                case "search" -> {
+                    String keyword = q.get("q");
+                    boolean inDesc = Boolean.TRUE.equals(boolParam(q, "desc"));
+                    Boolean completed = boolParam(q, "completed");
+                    Long within = q.containsKey("within") ? longParam(q, "within", 0) : null;
+                    int limit = (int) longParam(q, "limit", 0);
+                    sendList(ex, read(() -> taskViews(pm.searchProjectTasksAdvanced(sel, keyword, inDesc, completed, within, limit))),
+                            HttpApiServer::taskJson);
+                }
+                case "export" -> {
+                    String csv = q.containsKey("since")
+                            ? read(() -> pm.exportProjectDeltaAsCSV(sel, longParam(q, "since", 0)))
+                            : pm.snapshot().exportProjectAsCSV(read(() -> pm.getProjectByNumberOrIdOrName(sel).getId()));
+                    sendText(ex, 200, "text/csv; charset=utf-8", csv);
+                }
+                default -> throw notFound();
+            }
+            return;
+        }
+
+        if (path.get(0).equals("tasks")) {
+            if (path.size() == 1) {
+                if (!method.equals("POST")) throw notAllowed(method);
+                Map<String, Object> body = readBody(ex);
+                TaskView t = write(() -> new TaskView(createTask(body)));
+                sendJson(ex, 201, taskJson(new StringBuilder(), t));
+                return;
+            }
+
+            String id = path.get(1);
+
+            if (path.size() == 2 && method.equals("GET") && id.equals("upcoming")) {
+                long hours = longParam(q, "hours", 24);
+                Priority pr = q.containsKey("priority") ? Priority.valueOf(q.get("priority").toUpperCase()) : null;
+                sendList(ex, read(() -> taskViews(pm.listUpcomingTasksAcrossProjects(hours, pr))), HttpApiServer::taskJson);
+                return;
+            }
+            if (path.size() == 2 && method.equals("GET") && id.equals("search")) {
+                String keyword = q.get("q");
+                boolean inDesc = Boolean.TRUE.equals(boolParam(q, "desc"));
+                Boolean completed = boolParam(q, "completed");
+                sendList(ex, read(() -> taskViews(pm.searchTasksAcrossProjects(keyword, inDesc, completed))), HttpApiServer::taskJson);
+                return;
+            }
+            if (path.size() == 3 && path.get(2).equals("complete") && method.equals("POST")) {
+                TaskView t = write(() -> { pm.completeTask(id); return new TaskView(pm.getTaskByIdOrShortId(id)); });
+                sendJson(ex, 200, taskJson(new StringBuilder(), t));
+                return;
+            }
+            if (path.size() != 2) throw notFound();
+
+            switch (method) {
+                case "GET" -> sendJson(ex, 200, taskJson(new StringBuilder(), read(() -> new TaskView(pm.getTaskByIdOrShortId(id)))));
+                case "PUT" -> {
+                    Map<String, Object> body = readBody(ex);
+                    String title = optString(body, "title");
+                    String desc = optString(body, "description");
+                    Priority pr = body.containsKey("priority") ? Priority.valueOf(requireString(body, "priority").toUpperCase()) : null;
+                    LocalDateTime due = body.containsKey("deadline") ? LocalDateTime.parse(requireString(body, "deadline")) : null;
+                    Object version = body.get("version");
+
+                    TaskView t = write(() -> {
+                        if (version instanceof Number n) pm.updateTaskIfVersion(id, n.longValue(), title, desc, pr, due);
+                        else pm.updateTask(id, title, desc, pr, due);
+                        return new TaskView(pm.getTaskByIdOrShortId(id));
+                    });
+                    sendJson(ex, 200, taskJson(new StringBuilder(), t));
+                }
+                case "DELETE" -> {
+                    String deleted = write(() -> pm.deleteTask(id));
+                    sendJson(ex, 200, Json.quote(new StringBuilder("{\"deleted\":"), deleted).append('}'));
+                }
+                default -> throw notAllowed(method);
+            }
+            return;
+        }
+
+        throw notFound();
+    }
+
+    private Task createTask(Map<String, Object> body) {
+        String title = requireString(body, "title");
+        String desc = optString(body, "description");
+        Priority pr = Priority.valueOf(requireString(body, "priority").toUpperCase());
+        LocalDateTime due = LocalDateTime.parse(requireString(body, "deadline"));
+
+        if (body.containsKey("start") || body.containsKey("end")) {
+            return pm.createTimedTask(title, desc, due, pr,
+                    LocalDateTime.parse(requireString(body, "start")),
+                    LocalDateTime.parse(requireString(body, "end")));
+        }
+        return pm.createTask(title, desc, due, pr);
+    }
+
+    /* ===================== LOCKING ===================== */
+
+    private <T> T read(Supplier<T> op) {
+        lock.readLock().lock();
+        try {
+            return op.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <T> T write(Supplier<T> op) {
+        lock.writeLock().lock();
+        try {
+            return op.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* ===================== JSON ===================== */
+
+    private interface JsonWriter<T> {
+        StringBuilder write(StringBuilder sb, T value);
+    }
+
+    /** Kilit altında alınmış proje kopyası. */
+    private static final class ProjectView {
+        final String id;
+        final String name;
+        final int taskCount;
+
+        ProjectView(Project p) {
+            this.id = p.getId();
+            this.name = p.getName();
+            this.taskCount = p.getTaskCount();
+        }
+    }
+
+    /**
+     * Kilit altında alınmış görev kopyası. Alanlar tek {@link Task.Snapshot}'tan okunur;
+     * açıklama da yüklenir, böylece JSON yazılırken görev nesnesine dokunulmaz.
+     */
+    private static final class TaskView {
+        final String id;
+        final String shortId;
+        final String type;
+        final Task.Snapshot state;
+        final String description;
+        final LocalDateTime start;
+        final LocalDateTime end;
+        final List<String> projectIds;
+
+        TaskView(Task t) {
+            this.id = t.getId();
+            this.shortId = t.getShortId();
+            this.type = t instanceof TimedTask ? TaskCsvFormat.TYPE_TIMED
+                    : t instanceof RecurringTask ? TaskCsvFormat.TYPE_RECURRING
+                    : t instanceof RecurringTask.Occurrence ? TaskCsvFormat.TYPE_OCCURRENCE
+                    : TaskCsvFormat.TYPE_TASK;
+            this.state = t.snapshot();
+            this.description = state.getDescription();
+            TimedTask tt = t instanceof TimedTask x ? x : null;
+            this.start = tt == null ? null : tt.getStart();
+            this.end = tt == null ? null : tt.getEnd();
+            this.projectIds = t.getProjectIds();
+        }
+    }
+
+    private static List<ProjectView> projectViews(List<Project> projects) {
+        List<ProjectView> views = new ArrayList<>(projects.size());
+        for (Project p : projects) views.add(new ProjectView(p));
+        return views;
+    }
+
+    private static List<TaskView> taskViews(List<Task> tasks) {
+        List<TaskView> views = new ArrayList<>(tasks.size());
+        for (Task t : tasks) views.add(new TaskView(t));
+        return views;
+    }
+
+    private static StringBuilder projectJson(StringBuilder sb, ProjectView p) {
+        sb.append("{\"id\":");
+        Json.quote(sb, p.id);
+        sb.append(",\"name\":");
+        Json.quote(sb, p.name);
+        return sb.append(",\"taskCount\":").append(p.taskCount).append('}');
+    }
+
+    private static StringBuilder taskJson(StringBuilder sb, TaskView t) {
+        Task.Snapshot s = t.state;
+
+        sb.append("{\"id\":");
+        Json.quote(sb, t.id);
+        sb.append(",\"shortId\":");
+        Json.quote(sb, t.shortId);
+        sb.append(",\"type\":\"").append(t.type).append('"');
+        sb.append(",\"title\":");
+        Json.quote(sb, s.getTitle());
+        sb.append(",\"description\":");
+        Json.quote(sb, t.description);
+        sb.append(",\"priority\":\"").append(s.getPriority().name()).append('"');
+        sb.append(",\"deadline\":\"").append(s.getDeadline().getDue()).append('"');
+        sb.append(",\"completed\":").append(s.isCompleted());
+        sb.append(",\"version\":").append(s.getVersion());
+        if (t.start != null) {
+            sb.append(",\"start\":\"").append(t.start).append('"');
+            sb.append(",\"end\":\"").append(t.end).append('"');
+        }
+        sb.append(",\"projects\":[");
+        List<String> pids = t.projectIds;
+        for (int i = 0; i < pids.size(); i++) {
+            if (i > 0) sb.append(',');
+            Json.quote(sb, pids.get(i));
+        }
+        return sb.append("]}");
+    }
+
+    /* ===================== REQUEST / RESPONSE ===================== */
+
+    private static List<String> pathSegments(HttpExchange ex) {
+        List<String> segments = new ArrayList<>();
+        for (String s : ex.getRequestURI().getRawPath().split("/")) {
+            if (!s.isEmpty()) segments.add(URLDecoder.decode(s, StandardCharsets.UTF_8));
+        }
+        return segments;
+    }
+
+    private static Map<String, String> queryParams(HttpExchange ex) {
+        Map<String, String> params = new HashMap<>();
+        String raw = ex.getRequestURI().getRawQuery();
+        if (raw == null || raw.isEmpty()) return params;
+
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String k = eq < 0 ? pair : pair.substring(0, eq);
+            String v = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(k, StandardCharsets.UTF_8), URLDecoder.decode(v, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static Boolean boolParam(Map<String, String> q, String name) {
+        String v = q.get(name);
+        return v == null || v.isBlank() ? null : Boolean.parseBoolean(v);
+    }
+
+    private static long longParam(Map<String, String> q, String name, long def) {
+        String v = q.get(name);
+        if (v == null || v.isBlank()) return def;
+        try {
+            return Long.parseLong(v.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Geçersiz sayı (" + name + "): " + v);
+        }
+    }
+
+    private static Map<String, Object> readBody(HttpExchange ex) throws IOException {
+        try (InputStream in = ex.getRequestBody()) {
+            return Json.parseObject(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String requireString(Map<String, Object> body, String name) {
+        Object v = body.get(name);
+        if (!(v instanceof String s) || s.isBlank()) throw new IllegalArgumentException("Alan gerekli: " + name);
+        return s;
+    }
+
+    private static String optString(Map<String, Object> body, String name) {
+        Object v = body.get(name);
+        return v == null ? null : v.toString();
+    }
+
+    private static MethodNotAllowedException notAllowed(String method) {
+        return new MethodNotAllowedException("Desteklenmeyen metod: " + method);
+    }
+
+    private static NotFoundException notFound() {
+        return new NotFoundException("Bilinmeyen adres.");
+    }
+
+    /** Böyle bir adres yok (404). */
+    private static final class NotFoundException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        NotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    /** Adres var ama metod desteklenmiyor (405). */
+    private static final class MethodNotAllowedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        MethodNotAllowedException(String message) {
+            super(message);
+        }
+    }
+
+    /** Listeyi parça parça (chunked) JSON dizisi olarak akıtır. */
+    private static <T> void sendList(HttpExchange ex, List<T> items, JsonWriter<T> writer) throws IOException {
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        ex.sendResponseHeaders(200, 0);
+
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(ex.getResponseBody(), StandardCharsets.UTF_8), 1 << 16)) {
+            StringBuilder sb = new StringBuilder(256);
+            out.write('[');
+            for (int i = 0; i < items.size(); i++) {
+                sb.setLength(0);
+                if (i > 0) sb.append(',');
+                writer.write(sb, items.get(i));
+                out.append(sb);
+            }
+            out.write(']');
+        }
+    }
+
+    private static void sendJson(HttpExchange ex, int status, CharSequence json) throws IOException {
+        sendText(ex, status, "application/json; charset=utf-8", json.toString());
+    }
+
+    /** Yanıt başlıkları gönderildiyse (örn. akış sırasında hata) yalnızca bağlantı kapatılır. */
+    private static void sendError(HttpExchange ex, int status, String message) throws IOException {
+        if (ex.getResponseCode() != -1) return;
+        StringBuilder sb = new StringBuilder("{\"error\":");
+        Json.quote(sb, message).append('}');
+        sendJson(ex, status, sb);
+    }
+
+    private static void sendText(HttpExchange ex, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", contentType);
+        ex.sendResponseHeaders(status, bytes.length);
+        ex.getResponseBody().write(bytes);
+    }
+}
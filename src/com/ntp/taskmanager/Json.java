@@ -0,0 +1,186 @@
+package com.ntp.taskmanager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Harici bağımlılık olmadan kullanılan küçük JSON yardımcı sınıfı.
+ *
+ * <p>
+ * - {@link #quote(StringBuilder, String)}: string değeri kaçışlı yazar.
+ * - {@link #parse(String)}: nesne, dizi, string, sayı, boolean ve null okur.
+ *   Nesneler {@code Map<String, Object>}, diziler {@code List<Object>},
+ *   sayılar {@code Long} veya {@code Double} olarak döner.
+ * </p>
+ */
+public final class Json {
+
+    private Json() { }
+
+    /** Değeri tırnaklı ve kaçışlı olarak ekler; null ise {@code null} yazar. */
+    public static StringBuilder quote(StringBuilder sb, String value) {
+        if (value == null) return sb.append("null");
+
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (ch < 0x20) sb.append(String.format("\\u%04x", (int) ch));
+                    else sb.append(ch);
+                }
+            }
+        }
+        return sb.append('"');
+    }
+
+    /** JSON metnini okur. Hatalı metinde {@link IllegalArgumentException} verir. */
+    public static Object parse(String text) {
+        Parser p = new Parser(text == null ? "" : text);
+        p.skipWs();
+        Object value = p.value();
+        p.skipWs();
+        if (p.pos != p.s.length()) throw p.error("Fazladan karakter");
+        return value;
+    }
+
+    /** JSON nesnesi okur; kök nesne değilse hata verir. */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> parseObject(String text) {
+        Object v = parse(text);
+        if (!(v instanceof Map)) throw new IllegalArgumentException("JSON nesnesi bekleniyordu.");
+        return (Map<String, Object>) v;
+    }
+
+    private static final class Parser {
+        private final String s;
+        private int pos;
+
+        Parser(String s) {
+            this.s = s;
+        }
+
+        Object value() {
+            if (pos >= s.length()) throw error("Beklenmeyen son");
+            char ch = s.charAt(pos);
+            return switch (ch) {
+                case '{' -> object();
+                case '[' -> array();
+                case '"' -> string();
+                case 't' -> literal("true", Boolean.TRUE);
+                case 'f' -> literal("false", Boolean.FALSE);
+                case 'n' -> literal("null", null);
+                default -> number();
+            };
+        }
+
+        Map<String, Object> object() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            pos++; // {
+            skipWs();
+            if (peek('}')) { pos++; return map; }
+
+            while (true) {
+                skipWs();
+                if (!peek('"')) throw error("Anahtar bekleniyordu");
+                String key = string();
+                skipWs();
+                expect(':');
+                skipWs();
+                map.put(key, value());
+                skipWs();
+                if (peek(',')) { pos++; continue; }
+                expect('}');
+                return map;
+            }
+        }
+
+        List<Object> array() {
+            List<Object> list = new ArrayList<>();
+            pos++; // [
+            skipWs();
+            if (peek(']')) { pos++; return list; }
+
+            while (true) {
+                skipWs();
+                list.add(value());
+                skipWs();
+                if (peek(',')) { pos++; continue; }
+                expect(']');
+                return list;
+            }
+        }
+
+        String string() {
+            pos++; // "
+            StringBuilder sb = new StringBuilder();
+            while (pos < s.length()) {
+                char ch = s.charAt(pos++);
+                if (ch == '"') return sb.toString();
+                if (ch != '\\') {
+                    sb.append(ch);
+                    continue;
+                }
+                if (pos >= s.length()) break;
+                char esc = s.charAt(pos++);
+                switch (esc) {
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'u' -> {
+                        if (pos + 4 > s.length()) throw error("Hatalı \\u kaçışı");
+                        sb.append((char) Integer.parseInt(s.substring(pos, pos + 4), 16));
+                        pos += 4;
+                    }
+                    default -> sb.append(esc); // " \ /
+                }
+            }
+            throw error("Kapanmamış string");
+        }
+
+        Object number() {
+            int start = pos;
+            while (pos < s.length() && "+-0123456789.eE".indexOf(s.charAt(pos)) >= 0) pos++;
+            String n = s.substring(start, pos);
+            if (n.isEmpty()) throw error("Beklenmeyen karakter");
+            try {
+                if (n.contains(".") || n.contains("e") || n.contains("E")) return Double.parseDouble(n);
+                return Long.parseLong(n);
+            } catch (NumberFormatException e) {
+                throw error("Hatalı sayı");
+            }
+        }
+
+        Object literal(String word, Object value) {
+            if (!s.startsWith(word, pos)) throw error("Beklenmeyen karakter");
+            pos += word.length();
+            return value;
+        }
+
+        boolean peek(char ch) {
+            return pos < s.length() && s.charAt(pos) == ch;
+        }
+
+        void expect(char ch) {
+            if (!peek(ch)) throw error("'" + ch + "' bekleniyordu");
+            pos++;
+        }
+
+        void skipWs() {
+            while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) pos++;
+        }
+
+        IllegalArgumentException error(String msg) {
+            return new IllegalArgumentException("JSON hatası (" + pos + "): " + msg);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ntp.taskmanager;
+
+/**
+ * Gecikme ölçümleri için sabit bellekli, log-lineer histogram.
+ *
+ * <p>
+ * Değerler (nanosaniye) 2'nin kuvveti aralıklarına, her aralık da 16 alt kovaya bölünür;
+ * yüzdelik hatası en fazla ~%6'dır. Kayıt O(1)'dir ve nesne üretmez.
+ * Thread-safe değildir; her thread kendi histogramını tutup sonra {@link #add(LatencyHistogram)} ile birleştirir.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    private final long[] counts = new long[64 * SUB_COUNT];
+    private long total;
+    private long max;
+    private long sum;
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[index(nanos)]++;
+        total++;
+        sum += nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) counts[i] += other.counts[i];
+        total += other.total;
+        sum += other.sum;
+        if (other.max > max) max = other.max;
+    }
+
+    public long getCount() { return total; }
+    public long getMaxNanos() { return max; }
+
+    public double getMeanNanos() {
+        return total == 0 ? 0 : (double) sum / total;
+    }
+
+    /**
+     * @param percentile 0-100 arası (örn: 99.9)
+     * @return yüzdeliğe karşılık gelen kovanın üst sınırı (nanosaniye)
+     */
+    public long percentileNanos(double percentile) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(percentile / 100.0 * total);
+        if (rank < 1) rank = 1;
+
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(upperBound(i), max);
+        }
+        return max;
+    }
+
+    private static int index(long v) {
+        if (v < SUB_COUNT) return (int) v;
+        int exp = 63 - Long.numberOfLeadingZeros(v);          // v >= 2^exp
+        int sub = (int) (v >>> (exp - SUB_BITS)) & (SUB_COUNT - 1);
+        return (exp - SUB_BITS + 1) * SUB_COUNT + sub;
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_COUNT) return index;
+        int exp = index / SUB_COUNT + SUB_BITS - 1;
+        int sub = index % SUB_COUNT;
+        long base = 1L << exp;
+        long step = 1L << (exp - SUB_BITS);
+        return base + (sub + 1) * step - 1;
+    }
+}
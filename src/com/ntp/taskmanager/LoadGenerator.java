@@ -0,0 +1,495 @@
+package com.ntp.taskmanager;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Sentetik iş yükü üreticisi ve dayanıklılık (soak) testi aracı.
+ *
+ * <p>
+ * N proje ve M görev oluşturur (başlık uzunluğu, açıklama boyutu, öncelik, deadline ve
+ * TimedTask oranı gerçekçi dağılımlarla), ardından birçok thread'den belirli bir süre boyunca
+ * ağırlıklı bir {@link ProjectManager} işlem karışımı çalıştırır. Sonuçta işlem başına
+ * throughput, gecikme yüzdelikleri, bellek ayırma hızı ve GC duraklamaları raporlanır.
+ * </p>
+ *
+ * <p>
+ * {@link ProjectManager} thread-safe olmadığı için işlemler {@link HttpApiServer} ile aynı
+ * şekilde okuma/yazma kilidi altında çalışır. Görev slotları thread'lere paylaştırılır (her thread
+ * yalnızca kendi slotlarındaki görevlere dokunur); böylece sayılan hatalar aracın kendi
+ * yarışlarından değil, yöneticiden gelir. İçe aktarma, dışa aktarılan satırları yeni görev olarak
+ * ayrı bir karalama projesine yükler ve ardından o projeyi boşaltır.
+ * </p>
+ *
+ * <p>
+ * Komut satırı (eşik aşılırsa çıkış kodu 1 olur, CI'da regresyon kapısı olarak kullanılabilir):
+ * </p>
+ * <pre>
+ * java -m emirntp/com.ntp.taskmanager.LoadGenerator --projects 100 --tasks 100000 \
+ *      --threads 8 --seconds 30 --min-throughput 20000 --max-p99-ms 5
+ * </pre>
+ */
+public final class LoadGenerator {
+
+    /** Çalıştırılan işlem tipleri. */
+    public enum Op {
+        LOOKUP_SHORT_ID,
+        SEARCH,
+        UPCOMING,
+        COMPLETE,
+        UPDATE,
+        DELETE,
+        IMPORT_EXPORT
+    }
+
+    /** Yük ayarları (varsayılanlar küçük bir geliştirici makinesi içindir). */
+    public static final class Config {
+        private int projects = 100;
+        private int tasks = 100_000;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private long durationMillis = 30_000;
+        private long seed = 42;
+        private double timedTaskRatio = 0.2;
+        private final Map<Op, Integer> mix = new EnumMap<>(Op.class);
+
+        public Config() {
+            mix.put(Op.LOOKUP_SHORT_ID, 30);
+            mix.put(Op.SEARCH, 20);
+            mix.put(Op.UPCOMING, 20);
+            mix.put(Op.COMPLETE, 5);
+            mix.put(Op.UPDATE, 15);
+            mix.put(Op.DELETE, 9);
+            mix.put(Op.IMPORT_EXPORT, 1);
+        }
+
+        public int getProjects() { return projects; }
+        public void setProjects(int projects) { this.projects = requirePositive(projects, "projects"); }
+
+        public int getTasks() { return tasks; }
+        public void setTasks(int tasks) { this.tasks = requirePositive(tasks, "tasks"); }
+
+        public int getThreads() { return threads; }
+        public void setThreads(int threads) { this.threads = requirePositive(threads, "threads"); }
+
+        public long getDurationMillis() { return durationMillis; }
+        public void setDurationMillis(long durationMillis) {
+            if (durationMillis <= 0) throw new IllegalArgumentException("durationMillis pozitif olmalı.");
+            this.durationMillis = durationMillis;
+        }
+
+        public long getSeed() { return seed; }
+        public void setSeed(long seed) { this.seed = seed; }
+
+        public double getTimedTaskRatio() { return timedTaskRatio; }
+        public void setTimedTaskRatio(double timedTaskRatio) {
+            if (timedTaskRatio < 0 || timedTaskRatio > 1) throw new IllegalArgumentException("timedTaskRatio 0-1 arası olmalı.");
+            this.timedTaskRatio = timedTaskRatio;
+        }
+
+        /** İşlemin karışımdaki ağırlığı (0 = hiç çalıştırma). */
+        public void setWeight(Op op, int weight) {
+            if (weight < 0) throw new IllegalArgumentException("weight negatif olamaz.");
+            mix.put(op, weight);
+        }
+
+        public int getWeight(Op op) { return mix.getOrDefault(op, 0); }
+
+        private static int requirePositive(int v, String name) {
+            if (v <= 0) throw new IllegalArgumentException(name + " pozitif olmalı.");
+            return v;
+        }
+    }
+
+    /** Çalıştırma sonucu. */
+    public static final class Report {
+        private final Map<Op, LatencyHistogram> latencies;
+        private final long errors;
+        private final long elapsedNanos;
+        private final long allocatedBytes;
+        private final long gcCount;
+        private final long gcMillis;
+
+        Report(Map<Op, LatencyHistogram> latencies, long errors, long elapsedNanos,
+               long allocatedBytes, long gcCount, long gcMillis) {
+            this.latencies = latencies;
+            this.errors = errors;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        public LatencyHistogram getLatency(Op op) { return latencies.get(op); }
+        public long getErrors() { return errors; }
+        public long getAllocatedBytes() { return allocatedBytes; }
+        public long getGcCount() { return gcCount; }
+        public long getGcMillis() { return gcMillis; }
+
+        public LatencyHistogram getTotalLatency() {
+            LatencyHistogram all = new LatencyHistogram();
+            for (LatencyHistogram h : latencies.values()) all.add(h);
+            return all;
+        }
+
+        public double getThroughput() {
+            return getTotalLatency().getCount() / (elapsedNanos / 1e9);
+        }
+
+        /** Saniyede ayrılan bellek (MB); ölçülemiyorsa -1. */
+        public double getAllocationRateMb() {
+            return allocatedBytes < 0 ? -1 : allocatedBytes / (elapsedNanos / 1e9) / (1024.0 * 1024.0);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%-16s %10s %9s %9s %9s %9s %9s%n", "op", "count", "p50(us)", "p90(us)", "p99(us)", "p999(us)", "max(us)"));
+            for (Map.Entry<Op, LatencyHistogram> e : latencies.entrySet()) appendLine(sb, e.getKey().name(), e.getValue());
+            appendLine(sb, "TOTAL", getTotalLatency());
+            sb.append(String.format("throughput: %.0f ops/s | errors: %d | alloc: %.1f MB/s | GC: %d kez, %d ms%n",
+                    getThroughput(), errors, getAllocationRateMb(), gcCount, gcMillis));
+            return sb.toString();
+        }
+
+        private static void appendLine(StringBuilder sb, String name, LatencyHistogram h) {
+            sb.append(String.format("%-16s %10d %9d %9d %9d %9d %9d%n", name, h.getCount(),
+                    h.percentileNanos(50) / 1000, h.percentileNanos(90) / 1000, h.percentileNanos(99) / 1000,
+                    h.percentileNanos(99.9) / 1000, h.getMaxNanos() / 1000));
+        }
+    }
+
+    private static final String[] WORDS = {
+            "rapor", "toplantı", "müşteri", "fatura", "sunum", "test", "deploy", "gözden", "geçir",
+            "hazırla", "gönder", "ara", "planla", "güncelle", "yedekle", "analiz", "bütçe", "sözleşme"
+    };
+
+    private final Config config;
+    private final ProjectManager pm;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<String> projectIds = new ArrayList<>();
+    private AtomicReferenceArray<String> taskIds;
+    /** IMPORT_EXPORT hedefi; ölçülen projelere karışmaz. */
+    private String scratchProjectId;
+
+    public LoadGenerator(ProjectManager pm, Config config) {
+        this.pm = pm;
+        this.config = config;
+    }
+
+    /* ===================== VERİ ÜRETİMİ ===================== */
+
+    /** Projeleri ve görevleri oluşturur. */
+    public void populate() {
+        SplittableRandom rnd = new SplittableRandom(config.getSeed());
+        LocalDateTime now = pm.getTimeSource().now();
+
+        for (int i = 0; i < config.getProjects(); i++) {
+            projectIds.add(pm.createProject("Proje " + i).getId());
+        }
+        scratchProjectId = pm.createProject("Yük içe aktarma").getId();
+
+        taskIds = new AtomicReferenceArray<>(config.getTasks());
+        for (int i = 0; i < config.getTasks(); i++) {
+            taskIds.set(i, createRandomTask(rnd, now));
+        }
+    }
+
+    private String createRandomTask(SplittableRandom rnd, LocalDateTime now) {
+        String title = randomText(rnd, titleWords(rnd));
+        String desc = rnd.nextInt(100) < 40 ? "" : randomText(rnd, 5 + (int) Math.min(300, -Math.log(1 - rnd.nextDouble()) * 30));
+        Priority pr = randomPriority(rnd);
+        // Çoğu görev önümüzdeki günlerde, bir kısmı geçmişte.
+        LocalDateTime due = now.plusMinutes((long) (rnd.nextDouble() * rnd.nextDouble() * 60 * 24 * 30) - 60 * 24 * 3);
+
+        Task t;
+        if (rnd.nextDouble() < config.getTimedTaskRatio()) {
+            LocalDateTime start = due.minusHours(1 + rnd.nextInt(48));
+            t = pm.createTimedTask(title, desc, due, pr, start, due);
+        } else {
+            t = pm.createTask(title, desc, due, pr);
+        }
+
+        pm.assignTaskToProject(t.getId(), projectIds.get(rnd.nextInt(projectIds.size())));
+        return t.getId();
+    }
+
+    /** Başlık kelime sayısı: çoğunlukla 2-4, nadiren 10'a kadar. */
+    private static int titleWords(SplittableRandom rnd) {
+        int n = 2 + (int) (-Math.log(1 - rnd.nextDouble()) * 1.5);
+        return Math.min(n, 10);
+    }
+
+    private static Priority randomPriority(SplittableRandom rnd) {
+        int r = rnd.nextInt(100);
+        if (r < 30) return Priority.DUSUK;
+        if (r < 80) return Priority.ORTA;
+        return Priority.YUKSEK;
+    }
+
+    private static String randomText(SplittableRandom rnd, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[rnd.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    /* ===================== ÇALIŞTIRMA ===================== */
+
+    /** İşlem karışımını yapılandırılan süre boyunca çalıştırır. */
+    public Report run() throws InterruptedException {
+        if (taskIds == null) populate();
+
+        Op[] table = weightedTable();
+        int threads = config.getThreads();
+        if (threads > taskIds.length()) throw new IllegalArgumentException("threads görev sayısından büyük olamaz.");
+
+        List<Map<Op, LatencyHistogram>> perThread = new ArrayList<>();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong allocated = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        long gcCountBefore = gcCount(), gcMillisBefore = gcMillis();
+        long endAt = System.nanoTime() + config.getDurationMillis() * 1_000_000L;
+
+        for (int i = 0; i < threads; i++) {
+            Map<Op, LatencyHistogram> hist = new EnumMap<>(Op.class);
+            for (Op op : Op.values()) hist.put(op, new LatencyHistogram());
+            perThread.add(hist);
+
+            SplittableRandom rnd = new SplittableRandom(config.getSeed() + i + 1);
+            int worker = i;
+            Thread th = new Thread(() -> {
+                long allocBefore = threadAllocatedBytes();
+                try {
+                    start.await();
+                    while (System.nanoTime() < endAt) {
+                        Op op = table[rnd.nextInt(table.length)];
+                        long t0 = System.nanoTime();
+                        try {
+                            execute(op, rnd, worker);
+                        } catch (RuntimeException | IOException e) {
+                            errors.incrementAndGet();
+                        }
+                        hist.get(op).record(System.nanoTime() - t0);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    long allocAfter = threadAllocatedBytes();
+                    if (allocBefore < 0 || allocAfter < 0) allocated.set(Long.MIN_VALUE);
+                    else allocated.addAndGet(allocAfter - allocBefore);
+                    done.countDown();
+                }
+            }, "load-" + i);
+            th.start();
+        }
+
+        long t0 = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - t0;
+
+        Map<Op, LatencyHistogram> merged = new EnumMap<>(Op.class);
+        for (Op op : Op.values()) {
+            if (config.getWeight(op) == 0) continue;
+            LatencyHistogram h = new LatencyHistogram();
+            for (Map<Op, LatencyHistogram> m : perThread) h.add(m.get(op));
+            merged.put(op, h);
+        }
+
+        long alloc = allocated.get();
+        return new Report(merged, errors.get(), elapsed, alloc < 0 ? -1 : alloc,
+                gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+    }
+
+    private Op[] weightedTable() {
+        List<Op> table = new ArrayList<>();
+        for (Op op : Op.values()) {
+            for (int i = 0; i < config.getWeight(op); i++) table.add(op);
+        }
+        if (table.isEmpty()) throw new IllegalArgumentException("İşlem karışımı boş.");
+        return table.toArray(new Op[0]);
+    }
+
+    private void execute(Op op, SplittableRandom rnd, int worker) throws IOException {
+        // worker, worker + threads, worker + 2*threads, ... yalnızca bu thread'in slotları
+        int threads = config.getThreads();
+        int slot = worker + threads * rnd.nextInt((taskIds.length() - worker + threads - 1) / threads);
+        String taskId = taskIds.get(slot);
+        String project = projectIds.get(rnd.nextInt(projectIds.size()));
+
+        switch (op) {
+            case LOOKUP_SHORT_ID -> read(() -> pm.getTaskByIdOrShortId(taskId.substring(0, 8)));
+            case SEARCH -> read(() -> pm.searchProjectTasksAdvanced(project, WORDS[rnd.nextInt(WORDS.length)],
+                    rnd.nextBoolean(), null, null, 20));
+            case UPCOMING -> read(() -> pm.listUpcomingTasks(project, 1 + rnd.nextInt(72)));
+            case COMPLETE -> write(() -> { pm.completeTask(taskId); return null; });
+            case UPDATE -> write(() -> {
+                pm.updateTask(taskId, randomText(rnd, titleWords(rnd)), null, randomPriority(rnd), null);
+                return null;
+            });
+            case DELETE -> write(() -> {
+                // Veri boyutu sabit kalsın diye silinen görevin yerine yenisi oluşturulur.
+                pm.deleteTask(taskId);
+                taskIds.set(slot, createRandomTask(rnd, pm.getTimeSource().now()));
+                return null;
+            });
+            case IMPORT_EXPORT -> {
+                String csv = asNewTasks(read(() -> pm.exportProjectAsCSV(project)));
+                Path tmp = Files.createTempFile("loadgen-", ".csv");
+                try {
+                    Files.writeString(tmp, csv);
+                    write(() -> {
+                        try {
+                            pm.importTasksFromCSV(scratchProjectId, tmp.toString());
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        // veri boyutu sabit kalsın
+                        for (Task t : pm.listProjectTasks(scratchProjectId, null)) pm.deleteTask(t.getId());
+                        return null;
+                    });
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+        }
+    }
+
+    /**
+     * Başlıktaki id ve projects sütunlarını yeniden adlandırır: içe aktarma satırları mevcut
+     * görevler olarak atlamaz ve kaynak projeye atamaz, hepsini yeni görev olarak ekler.
+     */
+    private static String asNewTasks(String csv) {
+        String header = String.join(",", TaskCsvFormat.COLUMNS);
+        int at = csv.indexOf(header);
+        if (at < 0) throw new IllegalStateException("Beklenmeyen CSV başlığı.");
+        List<String> renamed = new ArrayList<>(TaskCsvFormat.COLUMNS.size());
+        for (String c : TaskCsvFormat.COLUMNS) {
+            renamed.add(c.equals("id") || c.equals("projects") ? "source_" + c : c);
+        }
+        return csv.substring(0, at) + String.join(",", renamed) + csv.substring(at + header.length());
+    }
+
+    private <T> T read(Supplier<T> op) {
+        lock.readLock().lock();
+        try {
+            return op.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <T> T write(Supplier<T> op) {
+        lock.writeLock().lock();
+        try {
+            return op.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* ===================== JVM METRİKLERİ ===================== */
+
+    private static long threadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private static long gcCount() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) n += Math.max(0, gc.getCollectionCount());
+        return n;
+    }
+
+    private static long gcMillis() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) n += Math.max(0, gc.getCollectionTime());
+        return n;
+    }
+
+    /* ===================== KOMUT SATIRI ===================== */
+
+    public static void main(String[] args) throws Exception {
+        Config config = new Config();
+        double minThroughput = 0;
+        double maxP99Ms = 0;
+        long maxErrors = Long.MAX_VALUE;
+
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) throw new IllegalArgumentException("Parametre değeri eksik: " + args[i]);
+            String v = args[i + 1];
+            switch (args[i]) {
+                case "--projects" -> config.setProjects(Integer.parseInt(v));
+                case "--tasks" -> config.setTasks(Integer.parseInt(v));
+                case "--threads" -> config.setThreads(Integer.parseInt(v));
+                case "--seconds" -> config.setDurationMillis(Long.parseLong(v) * 1000);
+                case "--seed" -> config.setSeed(Long.parseLong(v));
+                case "--timed-ratio" -> config.setTimedTaskRatio(Double.parseDouble(v));
+                case "--min-throughput" -> minThroughput = Double.parseDouble(v);
+                case "--max-p99-ms" -> maxP99Ms = Double.parseDouble(v);
+                case "--max-errors" -> maxErrors = Long.parseLong(v);
+                default -> {
+                    if (args[i].startsWith("--weight-")) {
+                        config.setWeight(Op.valueOf(args[i].substring("--weight-".length()).toUpperCase()), Integer.parseInt(v));
+                    } else {
+                        throw new IllegalArgumentException("Bilinmeyen parametre: " + args[i]);
+                    }
+                }
+            }
+        }
+
+        ProjectManager pm = new ProjectManager();
+        LoadGenerator gen = new LoadGenerator(pm, config);
+
+        long t0 = System.nanoTime();
+        gen.populate();
+        System.out.printf("Veri hazır: %d proje, %d görev (%d ms)%n",
+                config.getProjects(), config.getTasks(), (System.nanoTime() - t0) / 1_000_000);
+
+        Report report = gen.run();
+        System.out.print(report);
+        System.out.println(pm.getStringPool());
+        System.out.println(pm.getQueryCache());
+
+        List<String> failures = new ArrayList<>();
+        if (minThroughput > 0 && report.getThroughput() < minThroughput) {
+            failures.add(String.format("throughput %.0f < %.0f", report.getThroughput(), minThroughput));
+        }
+        double p99Ms = report.getTotalLatency().percentileNanos(99) / 1e6;
+        if (maxP99Ms > 0 && p99Ms > maxP99Ms) {
+            failures.add(String.format("p99 %.2f ms > %.2f ms", p99Ms, maxP99Ms));
+        }
+        if (report.getErrors() > maxErrors) {
+            failures.add("errors " + report.getErrors() + " > " + maxErrors);
+        }
+
+        if (!failures.isEmpty()) {
+            System.out.println("REGRESYON: " + String.join(", ", failures));
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+}
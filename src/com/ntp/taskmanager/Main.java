@@ -1,11 +1,48 @@
 package com.ntp.taskmanager;
 
+import java.nio.file.Path;
+
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
         ProjectInfo.printBanner();
-        
+
+        // --data <klasör>  -> yedekten yükle (bkz. Bootstrap)
+        // --warmup         -> yükleme sırasında sıcak yolları ısıt
+        // --cds-train      -> açılıştan sonra çık (AppCDS arşivi üretmek için)
+        // --http [port]    -> konsol yerine HTTP/JSON API sunucusu (JVM seçeneği önerilir:
+        //                     -Dsun.net.httpserver.nodelay=true, bkz. HttpApiServer)
+        Path dataDir = null;
+        boolean warmUp = false;
+        boolean cdsTrain = false;
+        Integer httpPort = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--data" -> dataDir = Path.of(args[++i]);
+                case "--warmup" -> warmUp = true;
+                case "--cds-train" -> cdsTrain = true;
+                case "--http" -> httpPort = i + 1 < args.length && !args[i + 1].startsWith("--")
+                        ? Integer.parseInt(args[++i]) : 8080;
+                default -> throw new IllegalArgumentException("Bilinmeyen parametre: " + args[i]);
+            }
+        }
 
         ProjectManager pm = new ProjectManager();
+
+        if (dataDir != null || warmUp || cdsTrain) {
+            Bootstrap.Report report = new Bootstrap(dataDir, warmUp || cdsTrain, 4).start(pm);
+            System.out.println(report);
+            if (cdsTrain) return;
+        }
+
+        if (httpPort != null) {
+            HttpApiServer server = new HttpApiServer(pm);
+            server.start("localhost", httpPort);
+            System.out.println("HTTP API: http://localhost:" + server.getPort() + "/projects");
+            Thread.currentThread().join();
+            return;
+        }
+
         ConsoleMenu menu = new ConsoleMenu(pm);
         menu.start();
     }
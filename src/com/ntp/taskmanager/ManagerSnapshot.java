@@ -0,0 +1,250 @@
+package com.ntp.taskmanager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link ProjectManager} durumunun belirli bir sürümdeki değişmez görünümü (MVCC okuma yolu).
+ *
+ * <p>
+ * Proje ve görevler kalıcı (persistent) {@link PersistentMap}/{@link PersistentVector} yapılarında
+ * tutulur. Her değişiklikte ProjectManager yeni bir snapshot üretir (değişmeyen dallar paylaşılır)
+ * ve volatile alanla yayınlar. {@link ProjectManager#snapshot()} O(1)'dir; okuyan taraf
+ * snapshot'ı kilit almadan ve yazanları bekletmeden istediği kadar gezebilir.
+ * </p>
+ *
+ * <p>
+ * Projenin görev listesinden silme O(log n)'dir: görevin slotu boşaltılır (null) ve ID -> slot
+ * tablosundan çıkarılır; boş slotlar dolu olanları geçince liste tek seferde sıkıştırılır.
+ * </p>
+ */
+public final class ManagerSnapshot {
+
+    static final ManagerSnapshot EMPTY =
+            new ManagerSnapshot(0, PersistentMap.empty(), PersistentVector.empty(), PersistentMap.empty());
+
+    private final long version;
+    private final PersistentMap<String, ProjectView> projects;
+    private final PersistentVector<String> projectOrder;
+    private final PersistentMap<String, TaskView> tasks;
+
+    private ManagerSnapshot(long version,
+                            PersistentMap<String, ProjectView> projects,
+                            PersistentVector<String> projectOrder,
+                            PersistentMap<String, TaskView> tasks) {
+        this.version = version;
+        this.projects = projects;
+        this.projectOrder = projectOrder;
+        this.tasks = tasks;
+    }
+
+    /** Snapshot'ın ait olduğu değişiklik sıra numarası ({@link ChangeFeed}). */
+    public long getVersion() { return version; }
+
+    public int getProjectCount() { return projects.size(); }
+
+    public int getTaskCount() { return tasks.size(); }
+
+    public TaskView getTask(String taskId) {
+        return tasks.get(taskId);
+    }
+
+    public ProjectView getProject(String projectId) {
+        return projects.get(projectId);
+    }
+
+    /** Projeler oluşturulma sırasıyla. */
+    public List<ProjectView> getProjects() {
+        List<ProjectView> list = new ArrayList<>(projectOrder.size());
+        for (String id : projectOrder) list.add(projects.get(id));
+        return list;
+    }
+
+    /** Projedeki görevler (projeye eklenme sırasıyla). */
+    public List<TaskView> getProjectTasks(String projectId) {
+        ProjectView p = projects.get(projectId);
+        if (p == null) throw new IllegalArgumentException("Project not found: " + projectId);
+
+        List<TaskView> list = new ArrayList<>(p.getTaskCount());
+        for (String id : p.taskIds) {
+            if (id == null) continue; // silinmiş slot
+            TaskView t = tasks.get(id);
+            if (t != null) list.add(t);
+        }
+        return list;
+    }
+
+    /** Tüm görevler (belirsiz sırada). */
+    public List<TaskView> getAllTasks() {
+        return tasks.values();
+    }
+
+    /** {@link ProjectManager#exportProjectAsCSV(String)} ile aynı biçimde, bu snapshot'tan CSV üretir. */
+    public String exportProjectAsCSV(String projectId) {
+        StringBuilder sb = new StringBuilder();
+        appendProjectCSV(sb, projectId);
+        return sb.toString();
+    }
+
+    /**
+     * Projenin CSV'sini (sürüm işareti ve başlık dahil, bkz. {@link TaskCsvFormat}) verilen tampona yazar.
+     *
+     * @return yazılan görev satırı sayısı
+     */
+    int appendProjectCSV(StringBuilder sb, String projectId) {
+        List<TaskView> list = getProjectTasks(projectId);
+        sb.append(TaskCsvFormat.header());
+        for (TaskView t : list) TaskCsvFormat.appendRow(sb, t);
+        return list.size();
+    }
+
+    /* ===================== YAZAN TARAF (ProjectManager) ===================== */
+
+    ManagerSnapshot withProject(Project p, long version) {
+        ProjectView old = projects.get(p.getId());
+        ProjectView view = old == null
+                ? new ProjectView(p.getId(), p.getName(), PersistentVector.empty(), PersistentMap.empty())
+                : new ProjectView(p.getId(), p.getName(), old.taskIds, old.positions);
+        return new ManagerSnapshot(version,
+                projects.put(p.getId(), view),
+                old == null ? projectOrder.add(p.getId()) : projectOrder,
+                tasks);
+    }
+
+    ManagerSnapshot withTask(Task t, long version) {
+        return new ManagerSnapshot(version, projects, projectOrder, tasks.put(t.getId(), TaskView.of(t)));
+    }
+
+    /** Görevi güncel haliyle yazar ve projenin görev listesine ekler. */
+    ManagerSnapshot withAssignment(Task t, String projectId, long version) {
+        ProjectView p = projects.get(projectId);
+        PersistentMap<String, ProjectView> newProjects = p == null ? projects
+                : projects.put(projectId, p.withTask(t.getId()));
+        return new ManagerSnapshot(version, newProjects, projectOrder, tasks.put(t.getId(), TaskView.of(t)));
+    }
+
+    /** Görevi projeden (verildiyse) ve görev tablosundan çıkarır. */
+    ManagerSnapshot withoutTask(String taskId, String projectId, long version) {
+        PersistentMap<String, ProjectView> newProjects = projects;
+        ProjectView p = projectId == null ? null : projects.get(projectId);
+        if (p != null) {
+            newProjects = projects.put(projectId, p.withoutTask(taskId));
+        }
+        return new ManagerSnapshot(version, newProjects, projectOrder, tasks.remove(taskId));
+    }
+
+    /**
+     * Projenin değişmez görünümü.
+     */
+    public static final class ProjectView {
+        /** Bu sayıdan az boş slot varken sıkıştırılmaz. */
+        private static final int MIN_COMPACT = 32;
+
+        private final String id;
+        private final String name;
+        /** Eklenme sırasıyla görev ID'leri; silinenlerin slotu null. */
+        private final PersistentVector<String> taskIds;
+        /** Canlı görev ID'si -> taskIds içindeki slot. */
+        private final PersistentMap<String, Integer> positions;
+
+        private ProjectView(String id, String name, PersistentVector<String> taskIds,
+                            PersistentMap<String, Integer> positions) {
+            this.id = id;
+            this.name = name;
+            this.taskIds = taskIds;
+            this.positions = positions;
+        }
+
+        public String getId() { return id; }
+        public String getName() { return name; }
+        public int getTaskCount() { return positions.size(); }
+
+        private ProjectView withTask(String taskId) {
+            if (positions.containsKey(taskId)) return this;
+            return new ProjectView(id, name, taskIds.add(taskId), positions.put(taskId, taskIds.size()));
+        }
+
+        private ProjectView withoutTask(String taskId) {
+            Integer slot = positions.get(taskId);
+            if (slot == null) return this;
+
+            PersistentVector<String> ids = taskIds.set(slot, null);
+            PersistentMap<String, Integer> pos = positions.remove(taskId);
+            int holes = ids.size() - pos.size();
+            if (holes < MIN_COMPACT || holes < pos.size()) return new ProjectView(id, name, ids, pos);
+
+            // sıkıştır: boş slotları at, slotları yeniden numarala (amortize O(1))
+            ids = ids.removeIf(Objects::isNull);
+            pos = PersistentMap.empty();
+            for (int i = 0; i < ids.size(); i++) pos = pos.put(ids.get(i), i);
+            return new ProjectView(id, name, ids, pos);
+        }
+    }
+
+    /**
+     * Görevin değişmez görünümü: ID, tip bilgisi, proje üyelikleri ve alanların {@link Task.Snapshot}'ı.
+     */
+    public static final class TaskView {
+        private static final long[] NO_INDICES = new long[0];
+
+        private final String id;
+        private final boolean timed;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final Task.Snapshot state;
+        private final List<String> projectIds;
+
+        /* Yalnızca tekrarlanan seriler için (diğerlerinde null / boş). */
+        private final Recurrence recurrence;
+        private final long[] skipped;
+        private final List<TaskView> occurrences;
+
+        private TaskView(String id, boolean timed, LocalDateTime start, LocalDateTime end,
+                         Task.Snapshot state, List<String> projectIds,
+                         Recurrence recurrence, long[] skipped, List<TaskView> occurrences) {
+            this.id = id;
+            this.timed = timed;
+            this.start = start;
+            this.end = end;
+            this.state = state;
+            this.projectIds = projectIds;
+            this.recurrence = recurrence;
+            this.skipped = skipped;
+            this.occurrences = occurrences;
+        }
+
+        static TaskView of(Task t) {
+            if (t instanceof TimedTask tt) {
+                return new TaskView(t.getId(), true, tt.getStart(), tt.getEnd(), t.snapshot(), t.getProjectIds(),
+                        null, NO_INDICES, List.of());
+            }
+            if (t instanceof RecurringTask r) {
+                List<TaskView> occ = new ArrayList<>();
+                for (RecurringTask.Occurrence o : r.getStoredOccurrences()) {
+                    occ.add(new TaskView(o.getId(), false, null, null, o.snapshot(), List.of(), null, NO_INDICES, List.of()));
+                }
+                return new TaskView(t.getId(), false, null, null, t.snapshot(), t.getProjectIds(),
+                        r.getRecurrence(), r.getSkippedIndices(), List.copyOf(occ));
+            }
+            return new TaskView(t.getId(), false, null, null, t.snapshot(), t.getProjectIds(), null, NO_INDICES, List.of());
+        }
+
+        public String getId() { return id; }
+        public boolean isTimed() { return timed; }
+        public LocalDateTime getStart() { return start; }
+        public LocalDateTime getEnd() { return end; }
+        public Task.Snapshot getState() { return state; }
+        public List<String> getProjectIds() { return projectIds; }
+
+        /** Tekrarlanan serinin kuralı; seri değilse null. */
+        public Recurrence getRecurrence() { return recurrence; }
+
+        /** Serinin atlanan tekrar numaraları (artan). */
+        public long[] getSkippedIndices() { return skipped.clone(); }
+
+        /** Serinin saklanan (tamamlanmış/değiştirilmiş) tekrarları. */
+        public List<TaskView> getStoredOccurrences() { return occurrences; }
+    }
+}
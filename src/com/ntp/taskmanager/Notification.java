@@ -1,26 +1,82 @@
 package com.ntp.taskmanager;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Yaklaşan görevler için bildirim metni üretir.
+ * Yaklaşan görevler için bildirim.
+ *
+ * <p>
+ * Statik {@link #upcoming(Task, long)} hazır metin üretir. Programatik tüketiciler için
+ * {@link #of(Task, long)} metne dönüştürülmemiş, değişmez bir bildirim nesnesi döndürür;
+ * metin gerektiğinde {@link NotificationRenderer} ile tampona yazılır.
+ * </p>
  */
 public class Notification {
 
-    public static String upcoming(Task task) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime due = task.getDeadline().getDue();
+    private final String taskId;
+    private final String title;
+    private final long dueMillis;
+    private final Priority priority;
+    private final long minutesLeft;
+
+    private Notification(String taskId, String title, long dueMillis, Priority priority, long minutesLeft) {
+        this.taskId = taskId;
+        this.title = title;
+        this.dueMillis = dueMillis;
+        this.priority = priority;
+        this.minutesLeft = minutesLeft;
+    }
+
+    /**
+     * Alanlar tek bir {@link Task#snapshot()}'tan okunur.
+     *
+     * @param nowMillis {@link TimeSource#millis()} ile alınmış, listedeki tüm görevler için ortak zaman
+     */
+    public static Notification of(Task task, long nowMillis) {
+        Task.Snapshot s = task.snapshot();
+        long minutes = s.getDeadline().minutesUntil(nowMillis);
+        return new Notification(task.getId(), s.getTitle(), s.getDeadline().getDueMillis(),
+                s.getPriority(), minutes < 0 ? 0 : minutes);
+    }
+
+    /** Listedeki görevlerin bildirimleri (aynı "şimdi" ile). */
+    public static List<Notification> ofAll(List<Task> tasks, long nowMillis) {
+        List<Notification> out = new ArrayList<>(tasks.size());
+        for (Task t : tasks) out.add(of(t, nowMillis));
+        return out;
+    }
 
-        long minutes = Duration.between(now, due).toMinutes();
-        if (minutes < 0) minutes = 0;
+    public String getTaskId() { return taskId; }
+    public String getTitle() { return title; }
+    public long getDueMillis() { return dueMillis; }
+    public LocalDateTime getDue() { return TimeSource.toLocalDateTime(dueMillis); }
+    public Priority getPriority() { return priority; }
 
-        long hoursPart = minutes / 60;
-        long minutesPart = minutes % 60;
+    /** Deadline'a kalan tam dakika (geçmişse 0). */
+    public long getMinutesLeft() { return minutesLeft; }
+
+    @Override
+    public String toString() {
+        return NotificationRenderer.DEFAULT.render(this, new StringBuilder(128)).toString();
+    }
+
+    public static String upcoming(Task task) {
+        return upcoming(task, TimeSource.toMillis(LocalDateTime.now()));
+    }
+
+    /**
+     * @param nowMillis {@link TimeSource#millis()} ile alınmış, listedeki tüm görevler için ortak zaman
+     */
+    public static String upcoming(Task task, long nowMillis) {
+        return appendUpcoming(new StringBuilder(128), task, nowMillis).toString();
+    }
 
-        return "⏰ Yaklaşan görev: " + task.getTitle()
-                + " | Deadline: " + due
-                + " | Öncelik: " + task.getPriority().getLabel()
-                + " | Kalan: " + hoursPart + "s " + minutesPart + "dk";
+    /**
+     * {@link #upcoming(Task, long)} metnini ara {@link String} üretmeden verilen tampona ekler.
+     */
+    public static StringBuilder appendUpcoming(StringBuilder sb, Task task, long nowMillis) {
+        return NotificationRenderer.DEFAULT.render(task, nowMillis, sb);
     }
 }
@@ -0,0 +1,388 @@
+package com.ntp.taskmanager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hatırlatma sonuçlarını asenkron olarak sink'lere ({@link NotificationSink}) teslim eden hat.
+ *
+ * <p>
+ * Akış: {@link #offer(String, List)} -> sınırlı giriş kuyruğu -> birleştirme (coalescing) ->
+ * sink başına sınırlı kuyruk + teslimat thread'i.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@code offer} hiç beklemez; giriş kuyruğu doluysa bildirimi düşürür ve sayar. Böylece
+ *       hatırlatma değerlendirmesi teslimat hızından bağımsızdır.</li>
+ *   <li>Aynı anahtara (proje/kullanıcı) gelen bildirimler, ilk bildirimden itibaren
+ *       {@code coalesceMillis} boyunca (veya {@code maxBatch} dolana kadar) tek pakette toplanır;
+ *       aynı görev pakette bir kez yer alır (en yeni hali).</li>
+ *   <li>Her sink kendi kuyruğundan sırayla teslim eder. Hata alan teslimat artan beklemeyle
+ *       {@code maxAttempts} kez denenir, sonra başarısız sayılır. Sink kuyruğu doluysa birleştirici
+ *       beklemez, paketi yalnızca o sink için düşürür ve sink'in sayacına yazar; yavaş bir sink
+ *       diğerlerinin teslimatını geciktirmez.</li>
+ * </ul>
+ */
+public final class NotificationDispatcher implements AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 4096;
+    public static final int DEFAULT_SINK_QUEUE_CAPACITY = 64;
+
+    private static final long RETRY_BASE_MILLIS = 50;
+    private static final long RETRY_MAX_MILLIS = 2000;
+
+    private final BlockingQueue<Item> queue;
+    private final long coalesceNanos;
+    private final int maxBatch;
+    private final long maxBlockMillis;
+    private final int maxAttempts;
+    private final List<SinkWorker> workers = new ArrayList<>();
+
+    /** Birleştirici thread'ine özel: anahtar -> bekleyen paket (geliş sırasına göre). */
+    private final LinkedHashMap<String, Pending> pending = new LinkedHashMap<>();
+
+    private final Thread coalescer;
+    private volatile boolean closed;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    /**
+     * @param sinks teslimat hedefleri (en az bir tane)
+     * @param coalesceMillis aynı anahtar için paket toplama süresi
+     * @param maxBatch bir paketteki en fazla bildirim
+     */
+    public NotificationDispatcher(List<NotificationSink> sinks, long coalesceMillis, int maxBatch) {
+        this(sinks, coalesceMillis, maxBatch, DEFAULT_QUEUE_CAPACITY, DEFAULT_SINK_QUEUE_CAPACITY, 1000, 3);
+    }
+
+    /**
+     * @param queueCapacity giriş kuyruğu kapasitesi (bildirim grubu sayısı)
+     * @param sinkQueueCapacity sink başına bekleyen paket kapasitesi
+     * @param maxBlockMillis kapanışta dolu sink kuyruğuna durdurma işaretini koymak için en fazla
+     *        bekleme; süre dolarsa sink kuyruğu boşalınca kendiliğinden durur
+     * @param maxAttempts bir paket için en fazla teslimat denemesi
+     */
+    public NotificationDispatcher(List<NotificationSink> sinks, long coalesceMillis, int maxBatch,
+                                  int queueCapacity, int sinkQueueCapacity, long maxBlockMillis, int maxAttempts) {
+        Objects.requireNonNull(sinks, "sinks null olamaz.");
+        if (sinks.isEmpty()) throw new IllegalArgumentException("En az bir sink gerekli.");
+        if (coalesceMillis < 0) throw new IllegalArgumentException("coalesceMillis negatif olamaz.");
+        if (maxBatch <= 0) throw new IllegalArgumentException("maxBatch pozitif olmalı.");
+        if (queueCapacity <= 0 || sinkQueueCapacity <= 0) throw new IllegalArgumentException("Kuyruk kapasitesi pozitif olmalı.");
+        if (maxBlockMillis < 0) throw new IllegalArgumentException("maxBlockMillis negatif olamaz.");
+        if (maxAttempts <= 0) throw new IllegalArgumentException("maxAttempts pozitif olmalı.");
+
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.coalesceNanos = TimeUnit.MILLISECONDS.toNanos(coalesceMillis);
+        this.maxBatch = maxBatch;
+        this.maxBlockMillis = maxBlockMillis;
+        this.maxAttempts = maxAttempts;
+
+        for (NotificationSink sink : sinks) {
+            workers.add(new SinkWorker(Objects.requireNonNull(sink, "sink null olamaz."), sinkQueueCapacity));
+        }
+
+        this.coalescer = new Thread(this::coalesceLoop, "notification-dispatcher");
+        coalescer.setDaemon(true);
+        coalescer.start();
+        for (SinkWorker w : workers) w.thread.start();
+    }
+
+    /**
+     * Bildirimleri kuyruğa ekler; hiç beklemez.
+     *
+     * @param key birleştirme anahtarı (örn. proje ID'si veya kullanıcı ID'si)
+     * @return kuyruk dolu veya dispatcher kapalıysa false (bildirimler düşürülür)
+     */
+    public boolean offer(String key, List<Notification> notifications) {
+        Objects.requireNonNull(key, "key null olamaz.");
+        if (notifications.isEmpty()) return true;
+
+        if (!closed && queue.offer(new Item(key, notifications))) {
+            accepted.addAndGet(notifications.size());
+            return true;
+        }
+        dropped.addAndGet(notifications.size());
+        return false;
+    }
+
+    private void coalesceLoop() {
+        try {
+            while (true) {
+                long wait = nanosUntilNextFlush();
+                Item item = wait == Long.MAX_VALUE
+                        ? (closed ? queue.poll() : queue.poll(100, TimeUnit.MILLISECONDS))
+                        : queue.poll(wait, TimeUnit.NANOSECONDS);
+
+                if (item != null) add(item);
+                flushDue(closed && queue.isEmpty());
+
+                if (closed && queue.isEmpty() && pending.isEmpty()) break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (SinkWorker w : workers) w.finish();
+        }
+    }
+
+    private void add(Item item) {
+        long now = System.nanoTime();
+        Pending p = pending.get(item.key);
+        for (Notification n : item.notifications) {
+            if (p == null) {
+                p = new Pending(now);
+                pending.put(item.key, p);
+            }
+            if (p.byTask.put(n.getTaskId(), n) != null) coalesced.incrementAndGet();
+            if (p.byTask.size() >= maxBatch) {
+                pending.remove(item.key);
+                dispatch(item.key, p);
+                p = null;
+            }
+        }
+    }
+
+    private long nanosUntilNextFlush() {
+        if (pending.isEmpty()) return Long.MAX_VALUE;
+        // LinkedHashMap ekleme sırası = ilk bildirim sırası; en eski paket baştadır
+        long oldest = pending.values().iterator().next().firstNanos;
+        return Math.max(0, oldest + coalesceNanos - System.nanoTime());
+    }
+
+    private void flushDue(boolean all) {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<String, Pending>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Pending> e = it.next();
+            if (!all && now - e.getValue().firstNanos < coalesceNanos) break;
+            it.remove();
+            dispatch(e.getKey(), e.getValue());
+        }
+    }
+
+    private void dispatch(String key, Pending p) {
+        Batch batch = new Batch(key, List.copyOf(p.byTask.values()));
+        batches.incrementAndGet();
+        for (SinkWorker w : workers) w.enqueue(batch);
+    }
+
+    /**
+     * Yeni bildirim almayı durdurur, bekleyenleri teslim eder ve thread'lerin bitmesini en fazla
+     * {@code timeoutMillis} bekler.
+     *
+     * @return her şey zamanında teslim edildiyse true
+     */
+    public boolean close(long timeoutMillis) throws InterruptedException {
+        closed = true;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        coalescer.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        boolean done = !coalescer.isAlive();
+        for (SinkWorker w : workers) {
+            long left = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            w.thread.join(Math.max(1, left));
+            if (w.thread.isAlive()) {
+                w.thread.interrupt();
+                done = false;
+            }
+        }
+        return done;
+    }
+
+    @Override
+    public void close() {
+        try {
+            close(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getAccepted() {
+        return accepted.get();
+    }
+
+    /** Giriş kuyruğu dolu olduğu için düşürülen bildirimler. */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /** Aynı pakette zaten olduğu için birleştirilen bildirimler. */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    public long getBatches() {
+        return batches.get();
+    }
+
+    public List<SinkStats> getSinkStats() {
+        List<SinkStats> out = new ArrayList<>(workers.size());
+        for (SinkWorker w : workers) {
+            out.add(new SinkStats(w.sink.getName(), w.delivered.get(), w.retries.get(), w.failed.get(), w.dropped.get()));
+        }
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationDispatcher{accepted=" + accepted + ", dropped=" + dropped + ", coalesced=" + coalesced
+                + ", batches=" + batches + ", sinks=" + getSinkStats() + "}";
+    }
+
+    /* ===================== İÇ SINIFLAR ===================== */
+
+    /** Tek anahtar için teslim edilen bildirim paketi. Değişmezdir. */
+    public static final class Batch {
+        private final String key;
+        private final List<Notification> notifications;
+
+        Batch(String key, List<Notification> notifications) {
+            this.key = key;
+            this.notifications = notifications;
+        }
+
+        public String getKey() { return key; }
+        public List<Notification> getNotifications() { return notifications; }
+    }
+
+    /** Bir sink'in teslimat sayaçları. */
+    public static final class SinkStats {
+        private final String name;
+        private final long delivered;
+        private final long retries;
+        private final long failed;
+        private final long dropped;
+
+        SinkStats(String name, long delivered, long retries, long failed, long dropped) {
+            this.name = name;
+            this.delivered = delivered;
+            this.retries = retries;
+            this.failed = failed;
+            this.dropped = dropped;
+        }
+
+        public String getName() { return name; }
+        public long getDelivered() { return delivered; }
+        public long getRetries() { return retries; }
+        public long getFailed() { return failed; }
+        public long getDropped() { return dropped; }
+
+        @Override
+        public String toString() {
+            return name + "{delivered=" + delivered + ", retries=" + retries + ", failed=" + failed + ", dropped=" + dropped + "}";
+        }
+    }
+
+    private static final class Item {
+        final String key;
+        final List<Notification> notifications;
+
+        Item(String key, List<Notification> notifications) {
+            this.key = key;
+            this.notifications = notifications;
+        }
+    }
+
+    private static final class Pending {
+        final long firstNanos;
+        final LinkedHashMap<String, Notification> byTask = new LinkedHashMap<>();
+
+        Pending(long firstNanos) {
+            this.firstNanos = firstNanos;
+        }
+    }
+
+    private final class SinkWorker {
+        /** Kuyruğa konunca teslimat thread'inin durması gerektiğini bildirir. */
+        private final Batch poison = new Batch("", List.of());
+
+        final NotificationSink sink;
+        final BlockingQueue<Batch> batches;
+        final Thread thread;
+
+        final AtomicLong delivered = new AtomicLong();
+        final AtomicLong retries = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final AtomicLong dropped = new AtomicLong();
+
+        /** Durdurma işareti zamanında kuyruğa konamadıysa true; kuyruk boşalınca thread biter. */
+        private volatile boolean finishing;
+
+        SinkWorker(NotificationSink sink, int capacity) {
+            this.sink = sink;
+            this.batches = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this::run, "notification-sink-" + sink.getName());
+            thread.setDaemon(true);
+        }
+
+        /** Birleştirici thread'inden çağrılır; hiç beklemez, kuyruk doluysa paketi bu sink için düşürür. */
+        void enqueue(Batch batch) {
+            if (!batches.offer(batch)) dropped.addAndGet(batch.getNotifications().size());
+        }
+
+        void finish() {
+            try {
+                if (!batches.offer(poison, maxBlockMillis, TimeUnit.MILLISECONDS)) finishing = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                finishing = true;
+            }
+        }
+
+        private void run() {
+            try {
+                while (true) {
+                    Batch batch = finishing ? batches.poll() : batches.poll(100, TimeUnit.MILLISECONDS);
+                    if (batch == poison || (batch == null && finishing)) return;
+                    if (batch != null) deliver(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // close() süresi doldu; kuyrukta kalanlar teslim edilmeyecek
+                for (Batch b; (b = batches.poll()) != null; ) {
+                    if (b != poison) dropped.addAndGet(b.getNotifications().size());
+                }
+            }
+        }
+
+        private void deliver(Batch batch) throws InterruptedException {
+            long backoff = RETRY_BASE_MILLIS;
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    sink.deliver(batch);
+                    delivered.addAndGet(batch.getNotifications().size());
+                    return;
+                } catch (InterruptedException e) {
+                    dropped.addAndGet(batch.getNotifications().size());
+                    throw e;
+                } catch (Exception e) {
+                    if (attempt >= maxAttempts) {
+                        failed.addAndGet(batch.getNotifications().size());
+                        return;
+                    }
+                    retries.incrementAndGet();
+                }
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    dropped.addAndGet(batch.getNotifications().size());
+                    throw e;
+                }
+                backoff = Math.min(backoff * 2, RETRY_MAX_MILLIS);
+            }
+        }
+    }
+}
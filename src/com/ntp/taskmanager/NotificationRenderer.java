@@ -0,0 +1,225 @@
+package com.ntp.taskmanager;
+
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bildirim metinlerini önceden derlenmiş bir şablondan, verilen tampona yazan renderer.
+ *
+ * <p>
+ * Şablon bir kez {@link #compile(String)} ile parçalanır (sabit metin + alan). Render sırasında
+ * ara {@link String} üretilmez: sayılar ve deadline tarihi doğrudan tampona basılır, "şimdi"
+ * çağıran tarafından bir kez alınıp tüm liste için paylaşılır. Böylece binlerce hatırlatmalık bir
+ * tur, tek bir {@link StringBuilder} ile neredeyse hiç çöp üretmeden yazılabilir.
+ * </p>
+ *
+ * <p>
+ * Alanlar: {@code {id} {shortId} {title} {due} {priority} {hours} {minutes} {totalMinutes}}.
+ * Süslü parantezin kendisi için <code>{{</code> yazılır. Örnekler değişmezdir ve thread-safe'tir.
+ * </p>
+ */
+public final class NotificationRenderer {
+
+    private static final String[] FIELDS = {
+            "id", "shortId", "title", "due", "priority", "hours", "minutes", "totalMinutes"
+    };
+    private static final int ID = 0, SHORT_ID = 1, TITLE = 2, DUE = 3, PRIORITY = 4,
+            HOURS = 5, MINUTES = 6, TOTAL_MINUTES = 7;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /** {@link Notification#upcoming(Task, long)} ile aynı çıktıyı üreten şablon. */
+    public static final NotificationRenderer DEFAULT = compile(
+            "⏰ Yaklaşan görev: {title} | Deadline: {due} | Öncelik: {priority} | Kalan: {hours}s {minutes}dk");
+
+    private static final ThreadLocal<StringBuilder> SCRATCH = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final String template;
+    /** Her parça ya sabit metin (literals[i] != null) ya da alan kodudur (fields[i]). */
+    private final String[] literals;
+    private final int[] fields;
+
+    private NotificationRenderer(String template, String[] literals, int[] fields) {
+        this.template = template;
+        this.literals = literals;
+        this.fields = fields;
+    }
+
+    /**
+     * @throws IllegalArgumentException şablonda bilinmeyen alan veya kapanmamış süslü parantez varsa
+     */
+    public static NotificationRenderer compile(String template) {
+        Objects.requireNonNull(template, "template null olamaz.");
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> fields = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c != '{') {
+                text.append(c);
+                i++;
+                continue;
+            }
+            if (i + 1 < template.length() && template.charAt(i + 1) == '{') {
+                text.append('{');
+                i += 2;
+                continue;
+            }
+            int close = template.indexOf('}', i);
+            if (close < 0) throw new IllegalArgumentException("Kapanmamış alan: " + template.substring(i));
+
+            String name = template.substring(i + 1, close);
+            int field = fieldCode(name);
+            if (field < 0) throw new IllegalArgumentException("Bilinmeyen şablon alanı: {" + name + "}");
+
+            if (text.length() > 0) {
+                literals.add(text.toString());
+                fields.add(-1);
+                text.setLength(0);
+            }
+            literals.add(null);
+            fields.add(field);
+            i = close + 1;
+        }
+        if (text.length() > 0) {
+            literals.add(text.toString());
+            fields.add(-1);
+        }
+
+        int[] codes = new int[fields.size()];
+        for (int k = 0; k < codes.length; k++) codes[k] = fields.get(k);
+        return new NotificationRenderer(template, literals.toArray(new String[0]), codes);
+    }
+
+    private static int fieldCode(String name) {
+        for (int k = 0; k < FIELDS.length; k++) {
+            if (FIELDS[k].equals(name)) return k;
+        }
+        return -1;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Görevin bildirimini tampona ekler. Alanlar tek bir {@link Task#snapshot()}'tan okunur; eşzamanlı
+     * güncellemede başlık, bitiş tarihi ve öncelik aynı sürüme aittir.
+     *
+     * @param nowMillis {@link TimeSource#millis()} ile alınmış, listedeki tüm görevler için ortak zaman
+     */
+    public StringBuilder render(Task task, long nowMillis, StringBuilder sb) {
+        Task.Snapshot s = task.snapshot();
+        long minutes = s.getDeadline().minutesUntil(nowMillis);
+        return render(task.getId(), s.getTitle(), s.getDeadline().getDueMillis(), s.getPriority(),
+                minutes < 0 ? 0 : minutes, sb);
+    }
+
+    public StringBuilder render(Notification n, StringBuilder sb) {
+        return render(n.getTaskId(), n.getTitle(), n.getDueMillis(), n.getPriority(), n.getMinutesLeft(), sb);
+    }
+
+    /**
+     * Görevin bildirimini {@link CharBuffer}'a yazar.
+     *
+     * @throws BufferOverflowException tamponda yer yoksa (tampon pozisyonu değişmez)
+     */
+    public CharBuffer render(Task task, long nowMillis, CharBuffer out) {
+        StringBuilder sb = SCRATCH.get();
+        sb.setLength(0);
+        render(task, nowMillis, sb);
+
+        int n = sb.length();
+        if (out.remaining() < n) throw new BufferOverflowException();
+        for (int k = 0; k < n; k++) out.put(sb.charAt(k));
+        return out;
+    }
+
+    /**
+     * Listedeki her görevi aynı "şimdi" ile, aralarına ayraç koyarak tampona ekler.
+     */
+    public StringBuilder renderAll(List<Task> tasks, long nowMillis, StringBuilder sb, CharSequence separator) {
+        for (int k = 0; k < tasks.size(); k++) {
+            if (k > 0) sb.append(separator);
+            render(tasks.get(k), nowMillis, sb);
+        }
+        return sb;
+    }
+
+    private StringBuilder render(String id, String title, long dueMillis, Priority priority, long minutesLeft,
+                                 StringBuilder sb) {
+        for (int k = 0; k < fields.length; k++) {
+            switch (fields[k]) {
+                case -1 -> sb.append(literals[k]);
+                case ID -> sb.append(id);
+                case SHORT_ID -> sb.append(id, 0, Math.min(8, id.length()));
+                case TITLE -> sb.append(title);
+                case DUE -> appendDateTime(sb, dueMillis);
+                case PRIORITY -> sb.append(priority.getLabel());
+                case HOURS -> sb.append(minutesLeft / 60);
+                case MINUTES -> sb.append(minutesLeft % 60);
+                case TOTAL_MINUTES -> sb.append(minutesLeft);
+                default -> throw new IllegalStateException("Alan kodu: " + fields[k]);
+            }
+        }
+        return sb;
+    }
+
+    /**
+     * Yerel duvar saati epoch-milisaniyesini {@link java.time.LocalDateTime#toString()} biçiminde
+     * (nesne üretmeden) yazar.
+     */
+    static void appendDateTime(StringBuilder sb, long millis) {
+        long days = Math.floorDiv(millis, MILLIS_PER_DAY);
+        int msOfDay = (int) Math.floorMod(millis, MILLIS_PER_DAY);
+
+        // Gün sayısından proleptik Gregoryen tarih (H. Hinnant, civil_from_days)
+        long z = days + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long doe = z - era * 146_097;
+        long yoe = (doe - doe / 1460 + doe / 36_524 - doe / 146_096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 1000 || year > 9999) {
+            sb.append(TimeSource.toLocalDateTime(millis)); // nadir: işaret/dolgu kurallarını java.time'a bırak
+            return;
+        }
+
+        int secOfDay = msOfDay / 1000;
+        int ms = msOfDay % 1000;
+        int sec = secOfDay % 60;
+
+        sb.append(year).append('-');
+        pad2(sb, month).append('-');
+        pad2(sb, day).append('T');
+        pad2(sb, secOfDay / 3600).append(':');
+        pad2(sb, secOfDay / 60 % 60);
+        if (sec != 0 || ms != 0) pad2(sb.append(':'), sec);
+        if (ms != 0) {
+            sb.append('.');
+            if (ms < 100) sb.append('0');
+            if (ms < 10) sb.append('0');
+            sb.append(ms);
+        }
+    }
+
+    private static StringBuilder pad2(StringBuilder sb, int v) {
+        if (v < 10) sb.append('0');
+        return sb.append(v);
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationRenderer{" + template + "}";
+    }
+}
@@ -0,0 +1,166 @@
+package com.ntp.taskmanager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link NotificationDispatcher}'ın bildirim paketlerini (batch) teslim ettiği hedef.
+ *
+ * <p>
+ * Her sink kendi teslimat thread'inde çağrılır; aynı sink'e çağrılar sıralıdır, bu yüzden
+ * uygulamaların thread-safe olması gerekmez. Hata fırlatan teslimat dispatcher tarafından
+ * yeniden denenir.
+ * </p>
+ */
+public interface NotificationSink {
+
+    /** Loglarda ve istatistiklerde görünen ad. */
+    String getName();
+
+    /**
+     * Paketi teslim eder.
+     *
+     * @throws Exception teslimat başarısızsa (yeniden denenir)
+     */
+    void deliver(NotificationDispatcher.Batch batch) throws Exception;
+
+    /** Paketi tek seferde, varsayılan şablonla akışa yazar. */
+    static NotificationSink console(PrintStream out) {
+        Objects.requireNonNull(out, "out null olamaz.");
+        StringBuilder sb = new StringBuilder(1024);
+        return new NotificationSink() {
+            @Override
+            public String getName() {
+                return "console";
+            }
+
+            @Override
+            public void deliver(NotificationDispatcher.Batch batch) {
+                sb.setLength(0);
+                appendBatch(sb, batch);
+                out.print(sb);
+                out.flush();
+            }
+        };
+    }
+
+    /** Paketi dosyanın sonuna ekler (dosya yoksa oluşturulur). */
+    static NotificationSink file(Path file) {
+        Objects.requireNonNull(file, "file null olamaz.");
+        StringBuilder sb = new StringBuilder(1024);
+        return new NotificationSink() {
+            @Override
+            public String getName() {
+                return "file:" + file.getFileName();
+            }
+
+            @Override
+            public void deliver(NotificationDispatcher.Batch batch) throws IOException {
+                sb.setLength(0);
+                appendBatch(sb, batch);
+                try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE)) {
+                    w.append(sb);
+                }
+            }
+        };
+    }
+
+    private static void appendBatch(StringBuilder sb, NotificationDispatcher.Batch batch) {
+        sb.append("--- Bildirimler [").append(batch.getKey()).append("] (")
+                .append(batch.getNotifications().size()).append(") ---").append(System.lineSeparator());
+        for (Notification n : batch.getNotifications()) {
+            NotificationRenderer.DEFAULT.render(n, sb).append(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Yerel webhook taslağı: paketi bir webhook'a gönderilecek JSON gövdesine çevirir ve ağa çıkmak
+     * yerine son {@code capacity} gövdeyi bellekte tutar. Gecikme ve hata oranı test için ayarlanabilir.
+     */
+    final class WebhookStub implements NotificationSink {
+
+        private final String url;
+        private final int capacity;
+        private final ArrayDeque<String> payloads = new ArrayDeque<>();
+
+        private volatile long latencyMillis;
+        private volatile int failEvery;
+        private long calls;
+
+        public WebhookStub(String url, int capacity) {
+            if (capacity <= 0) throw new IllegalArgumentException("capacity pozitif olmalı.");
+            this.url = Objects.requireNonNull(url, "url null olamaz.");
+            this.capacity = capacity;
+        }
+
+        /** Her teslimata eklenecek yapay gecikme. */
+        public void setLatencyMillis(long latencyMillis) {
+            if (latencyMillis < 0) throw new IllegalArgumentException("latencyMillis negatif olamaz.");
+            this.latencyMillis = latencyMillis;
+        }
+
+        /** Her {@code n}. çağrı hata fırlatır (0: hiç). */
+        public void setFailEvery(int n) {
+            if (n < 0) throw new IllegalArgumentException("n negatif olamaz.");
+            this.failEvery = n;
+        }
+
+        @Override
+        public String getName() {
+            return "webhook:" + url;
+        }
+
+        @Override
+        public void deliver(NotificationDispatcher.Batch batch) throws Exception {
+            if (latencyMillis > 0) Thread.sleep(latencyMillis);
+
+            long n;
+            synchronized (this) {
+                n = ++calls;
+            }
+            if (failEvery > 0 && n % failEvery == 0) throw new IOException("Webhook yanıt vermedi: " + url);
+
+            String body = toJson(batch);
+            synchronized (this) {
+                if (payloads.size() == capacity) payloads.removeFirst();
+                payloads.addLast(body);
+            }
+        }
+
+        /** Saklanan son gövdeler (eskiden yeniye). */
+        public synchronized List<String> getPayloads() {
+            return new ArrayList<>(payloads);
+        }
+
+        static String toJson(NotificationDispatcher.Batch batch) {
+            StringBuilder sb = new StringBuilder(128 + 128 * batch.getNotifications().size());
+            sb.append("{\"key\":");
+            Json.quote(sb, batch.getKey());
+            sb.append(",\"notifications\":[");
+            List<Notification> list = batch.getNotifications();
+            for (int i = 0; i < list.size(); i++) {
+                Notification n = list.get(i);
+                if (i > 0) sb.append(',');
+                sb.append("{\"taskId\":");
+                Json.quote(sb, n.getTaskId());
+                sb.append(",\"title\":");
+                Json.quote(sb, n.getTitle());
+                sb.append(",\"due\":\"");
+                NotificationRenderer.appendDateTime(sb, n.getDueMillis());
+                sb.append("\",\"priority\":\"").append(n.getPriority().name())
+                        .append("\",\"minutesLeft\":").append(n.getMinutesLeft()).append('}');
+            }
+            return sb.append("]}").toString();
+        }
+    }
+}
@@ -0,0 +1,553 @@
+package com.ntp.taskmanager;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Çok büyük veri setleri için görevleri Java heap'i dışında (direct {@link ByteBuffer}) tutan depo.
+ *
+ * <p>
+ * Her görev sabit genişlikte ({@value #RECORD_SIZE} bayt) bir kayıttır: UUID (iki long), deadline,
+ * start/end (epoch millis), sürüm, öncelik, bayraklar ve başlık/açıklama referansları. Başlık ve
+ * açıklamalar ayrı bir string arena'sında UTF-8 olarak tutulur. Kayıtlar ve arena parçalar (chunk)
+ * halinde büyür; ID indeksi de heap dışında açık adresli bir tablodur. Böylece görev başına
+ * {@code Task}/{@code Deadline}/{@code LocalDateTime}/{@code String} nesnesi oluşmaz, GC'nin
+ * gezeceği nesne sayısı görev sayısından bağımsızdır.
+ * </p>
+ *
+ * <p>
+ * Kapsam: bu sınıf {@link ProjectManager}'ın bir arka ucu <b>değildir</b>, tek başına kullanılan
+ * bir görev deposudur (örn. çok büyük arşiv/analiz veri setleri). Yalnızca görev düzeyindeki
+ * işlemleri sunar: ekleme, ID ile okuma, tamamlama, güncelleme, silme, tüm görevlerde yaklaşan ve
+ * kelime sorguları. Proje, atama, proje listeleri, CSV, değişiklik akışı ({@link ChangeFeed}),
+ * snapshot, bağımlılık ve geçmiş yoktur. Metot adları ve kuralları ProjectManager'daki
+ * karşılıklarıyla aynıdır, böylece çağıran kod kolayca uyarlanır. Dönen {@link Task} nesneleri
+ * depodan kopyalanmış bağımsız nesnelerdir; değişiklikler depo metotlarıyla yapılmalıdır.
+ * Zamanlar milisaniye hassasiyetinde saklanır. Sınıf thread-safe değildir.
+ * </p>
+ *
+ * <p>
+ * Bellek iadesi deterministiktir: silinen kayıt yuvaları yeniden kullanılır; {@link #compact()}
+ * eski arena'yı, indeks büyütme eski indeksi ve {@link #close()} tüm tamponları o anda serbest
+ * bırakır ({@code sun.misc.Unsafe#invokeCleaner}, {@code jdk.unsupported} modülü). Java 21'de FFM
+ * {@code Arena} hâlâ önizleme olduğu için direct ByteBuffer kullanılır; {@code jdk.unsupported}
+ * erişilemeyen bir çalışma ortamında iade GC'ye kalır ({@link #isDeterministicReclaim()}).
+ * </p>
+ */
+public final class OffHeapTaskStore implements AutoCloseable {
+
+    /* kayıt düzeni (bayt ofsetleri) */
+    private static final int ID_MSB = 0;
+    private static final int ID_LSB = 8;
+    private static final int DUE = 16;      // boş yuvada: sonraki boş yuva
+    private static final int VERSION = 24;
+    private static final int TITLE = 32;
+    private static final int DESC = 40;
+    private static final int START = 48;
+    private static final int END = 56;
+    private static final int PRIORITY = 64;
+    private static final int FLAGS = 68;
+    static final int RECORD_SIZE = 72;
+
+    private static final int LIVE = 1;
+    private static final int COMPLETED = 2;
+    private static final int TIMED = 4;
+
+    private static final long NULL_REF = -1L;
+    private static final int ARENA_CHUNK = 1 << 20;
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    /** Direct tamponu hemen serbest bırakan {@code Unsafe.invokeCleaner}; erişilemiyorsa null. */
+    private static final MethodHandle CLEANER = findCleaner();
+
+    private final TimeSource time;
+    private final int chunkShift;
+    private final int chunkMask;
+
+    private List<ByteBuffer> records = new ArrayList<>();
+    private int highWater;     // hiç kullanılmamış ilk yuva
+    private int freeHead = -1; // boş yuva zinciri
+    private int size;
+
+    private List<ByteBuffer> arena = new ArrayList<>();
+    private long garbageBytes;
+
+    private ByteBuffer index;  // slot + 1 (0 = boş)
+    private int indexMask;
+
+    private boolean closed;
+
+    public OffHeapTaskStore() {
+        this(TimeSource.system(), 16);
+    }
+
+    /**
+     * @param time yaklaşan görev sorgularında kullanılacak zaman kaynağı
+     * @param chunkBits her kayıt parçasındaki yuva sayısının log2'si (ör. 16 = 65536 kayıt)
+     */
+    public OffHeapTaskStore(TimeSource time, int chunkBits) {
+        if (chunkBits < 4 || chunkBits > 24) throw new IllegalArgumentException("chunkBits 4..24 aralığında olmalı.");
+        this.time = Objects.requireNonNull(time, "time null olamaz.");
+        this.chunkShift = chunkBits;
+        this.chunkMask = (1 << chunkBits) - 1;
+        allocateIndex(1 << 10);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Kayıt, arena ve indeks için ayrılmış toplam heap dışı bellek (bayt). */
+    public long getOffHeapBytes() {
+        long total = (long) index.capacity();
+        for (ByteBuffer b : records) total += b.capacity();
+        for (ByteBuffer b : arena) total += b.capacity();
+        return total;
+    }
+
+    /** Tamponlar {@link #close()}/{@link #compact()} anında mı iade ediliyor (yoksa GC'ye mi kalıyor)? */
+    public static boolean isDeterministicReclaim() {
+        return CLEANER != null;
+    }
+
+    /** Arena'da artık hiçbir kaydın göstermediği string baytları ({@link #compact()} ile iade edilir). */
+    public long getGarbageBytes() {
+        return garbageBytes;
+    }
+
+    /* ===================== TASK API ===================== */
+
+    public Task createTask(String title, String desc, LocalDateTime due, Priority pr) {
+        Task t = new Task(title, desc, new Deadline(due), pr);
+        add(t);
+        return t;
+    }
+
+    public TimedTask createTimedTask(String title, String desc, LocalDateTime due, Priority pr,
+                                     LocalDateTime start, LocalDateTime end) {
+        TimedTask t = new TimedTask(title, desc, new Deadline(due), pr, start, end);
+        add(t);
+        return t;
+    }
+
+    /**
+     * Görevin güncel durumunu depoya kopyalar.
+     *
+     * @throws IllegalArgumentException ID UUID değilse veya depoda zaten varsa
+     */
+    public void add(Task t) {
+        ensureOpen();
+        UUID uuid = parseId(t.getId());
+        if (find(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) >= 0) {
+            throw new IllegalArgumentException("Task ID zaten var: " + t.getId());
+        }
+        if ((size + 1) * 2L > indexMask + 1L) rehash((indexMask + 1) * 2);
+
+        int slot = allocateSlot();
+        ByteBuffer b = chunk(slot);
+        int o = offset(slot);
+        Task.Snapshot s = t.snapshot();
+
+        b.putLong(o + ID_MSB, uuid.getMostSignificantBits());
+        b.putLong(o + ID_LSB, uuid.getLeastSignificantBits());
+        b.putLong(o + DUE, s.getDeadline().getDueMillis());
+        b.putLong(o + VERSION, s.getVersion());
+        b.putLong(o + TITLE, putString(s.getTitle()));
+        b.putLong(o + DESC, putString(s.getDescription()));
+        b.putInt(o + PRIORITY, s.getPriority().ordinal());
+
+        int flags = LIVE | (s.isCompleted() ? COMPLETED : 0);
+        if (t instanceof TimedTask tt) {
+            flags |= TIMED;
+            b.putLong(o + START, TimeSource.toMillis(tt.getStart()));
+            b.putLong(o + END, TimeSource.toMillis(tt.getEnd()));
+        }
+        b.putInt(o + FLAGS, flags);
+
+        insertIndex(slot);
+        size++;
+    }
+
+    public boolean contains(String taskId) {
+        ensureOpen();
+        UUID uuid = tryParseId(taskId);
+        return uuid != null && find(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) >= 0;
+    }
+
+    /** Görevi depodan kopyalayarak döndürür. */
+    public Task getTaskById(String taskId) {
+        return materialize(requireSlot(taskId));
+    }
+
+    public void completeTask(String taskId) {
+        int slot = requireSlot(taskId);
+        ByteBuffer b = chunk(slot);
+        int o = offset(slot);
+        int flags = b.getInt(o + FLAGS);
+        if ((flags & COMPLETED) != 0) return;
+        b.putInt(o + FLAGS, flags | COMPLETED);
+        b.putLong(o + VERSION, b.getLong(o + VERSION) + 1);
+    }
+
+    /** {@link ProjectManager#updateTask} ile aynı kurallar; null/boş alanlar değişmez. */
+    public void updateTask(String taskId,
+                           String newTitle,
+                           String newDesc,
+                           Priority newPriority,
+                           LocalDateTime newDeadline) {
+        int slot = requireSlot(taskId);
+        ByteBuffer b = chunk(slot);
+        int o = offset(slot);
+
+        if (newTitle != null && !newTitle.isBlank()) replaceString(b, o + TITLE, newTitle.trim());
+        if (newDesc != null) replaceString(b, o + DESC, newDesc);
+        if (newPriority != null) b.putInt(o + PRIORITY, newPriority.ordinal());
+        if (newDeadline != null) b.putLong(o + DUE, TimeSource.toMillis(newDeadline));
+        b.putLong(o + VERSION, b.getLong(o + VERSION) + 1);
+    }
+
+    public String deleteTask(String taskId) {
+        int slot = requireSlot(taskId);
+        ByteBuffer b = chunk(slot);
+        int o = offset(slot);
+
+        garbageBytes += stringBytes(b.getLong(o + TITLE)) + stringBytes(b.getLong(o + DESC));
+        removeIndex(slot);
+
+        b.putInt(o + FLAGS, 0);
+        b.putLong(o + DUE, freeHead);
+        freeHead = slot;
+        size--;
+        return taskId;
+    }
+
+    /**
+     * Bkz. {@link ProjectManager#listUpcomingTasksAcrossProjects}. Filtre ham alanlar üzerinde
+     * çalışır; yalnızca eşleşen kayıtlar nesneye çevrilir.
+     */
+    public List<Task> listUpcomingTasksAcrossProjects(long withinHours, Priority priorityFilter) {
+        if (withinHours < 0) throw new IllegalArgumentException("hours negatif olamaz.");
+        ensureOpen();
+        long now = time.millis();
+        int wanted = priorityFilter == null ? -1 : priorityFilter.ordinal();
+
+        List<Task> result = new ArrayList<>();
+        for (int slot = 0; slot < highWater; slot++) {
+            ByteBuffer b = chunk(slot);
+            int o = offset(slot);
+            int flags = b.getInt(o + FLAGS);
+            if ((flags & LIVE) == 0 || (flags & COMPLETED) != 0) continue;
+            if (wanted >= 0 && b.getInt(o + PRIORITY) != wanted) continue;
+
+            long due = b.getLong(o + DUE);
+            if (now > due || (due - now) / 60_000L > withinHours * 60) continue;
+            result.add(materialize(slot));
+        }
+
+        result.sort(ProjectManager.PRIORITY_THEN_DEADLINE);
+        return result;
+    }
+
+    /** Bkz. {@link ProjectManager#searchTasksAcrossProjects}. */
+    public List<Task> searchTasksAcrossProjects(String keyword,
+                                                boolean searchInDescription,
+                                                Boolean completedFilter) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("Arama kelimesi boş olamaz.");
+        }
+        ensureOpen();
+        String k = keyword.trim().toLowerCase();
+
+        List<Task> result = new ArrayList<>();
+        for (int slot = 0; slot < highWater; slot++) {
+            ByteBuffer b = chunk(slot);
+            int o = offset(slot);
+            int flags = b.getInt(o + FLAGS);
+            if ((flags & LIVE) == 0) continue;
+            if (completedFilter != null && ((flags & COMPLETED) != 0) != completedFilter) continue;
+
+            boolean match = getString(b.getLong(o + TITLE)).toLowerCase().contains(k);
+            if (!match && searchInDescription) {
+                String d = getString(b.getLong(o + DESC));
+                match = d != null && d.toLowerCase().contains(k);
+            }
+            if (match) result.add(materialize(slot));
+        }
+
+        result.sort(ProjectManager.PRIORITY_THEN_DEADLINE);
+        return result;
+    }
+
+    /** Tüm görevleri (kopya olarak) yuva sırasıyla gezer. */
+    public void forEach(Consumer<? super Task> action) {
+        ensureOpen();
+        for (int slot = 0; slot < highWater; slot++) {
+            if ((chunk(slot).getInt(offset(slot) + FLAGS) & LIVE) != 0) action.accept(materialize(slot));
+        }
+    }
+
+    /**
+     * Canlı string'leri yeni bir arena'ya taşır, eskisini bırakır.
+     *
+     * @return iade edilen bayt sayısı
+     */
+    public long compact() {
+        ensureOpen();
+        List<ByteBuffer> oldArena = arena;
+        long before = 0;
+        for (ByteBuffer a : oldArena) before += a.capacity();
+
+        arena = new ArrayList<>();
+        for (int slot = 0; slot < highWater; slot++) {
+            ByteBuffer b = chunk(slot);
+            int o = offset(slot);
+            if ((b.getInt(o + FLAGS) & LIVE) == 0) continue;
+            b.putLong(o + TITLE, putString(getString(oldArena, b.getLong(o + TITLE))));
+            b.putLong(o + DESC, putString(getString(oldArena, b.getLong(o + DESC))));
+        }
+        garbageBytes = 0;
+        for (ByteBuffer a : oldArena) free(a);
+
+        long after = 0;
+        for (ByteBuffer a : arena) after += a.capacity();
+        return before - after;
+    }
+
+    /** Tüm tamponları serbest bırakır; sonraki çağrılar hata verir. */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        for (ByteBuffer b : records) free(b);
+        for (ByteBuffer b : arena) free(b);
+        free(index);
+        records = List.of();
+        arena = List.of();
+        index = ByteBuffer.allocate(0);
+        size = 0;
+        highWater = 0;
+        freeHead = -1;
+    }
+
+    /* ===================== NATIVE BELLEK ===================== */
+
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field f = unsafeClass.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(f.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Tamponun native belleğini hemen iade eder; tampon bundan sonra kullanılmamalıdır. */
+    private static void free(ByteBuffer b) {
+        if (CLEANER == null || !b.isDirect()) return;
+        try {
+            CLEANER.invokeExact(b);
+        } catch (Throwable e) {
+            // iade GC'ye kalır
+        }
+    }
+
+    /* ===================== KAYITLAR ===================== */
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("Depo kapatıldı.");
+    }
+
+    private ByteBuffer chunk(int slot) {
+        return records.get(slot >>> chunkShift);
+    }
+
+    private int offset(int slot) {
+        return (slot & chunkMask) * RECORD_SIZE;
+    }
+
+    private int allocateSlot() {
+        if (freeHead >= 0) {
+            int slot = freeHead;
+            freeHead = (int) chunk(slot).getLong(offset(slot) + DUE);
+            return slot;
+        }
+        if (highWater == Integer.MAX_VALUE) throw new IllegalStateException("Depo dolu.");
+        if ((highWater >>> chunkShift) == records.size()) {
+            records.add(ByteBuffer.allocateDirect((chunkMask + 1) * RECORD_SIZE));
+        }
+        return highWater++;
+    }
+
+    private Task materialize(int slot) {
+        ByteBuffer b = chunk(slot);
+        int o = offset(slot);
+        int flags = b.getInt(o + FLAGS);
+
+        String id = new UUID(b.getLong(o + ID_MSB), b.getLong(o + ID_LSB)).toString();
+        String title = getString(b.getLong(o + TITLE));
+        String desc = getString(b.getLong(o + DESC));
+        Deadline deadline = new Deadline(TimeSource.toLocalDateTime(b.getLong(o + DUE)));
+        Priority pr = PRIORITIES[b.getInt(o + PRIORITY)];
+
+        Task t = (flags & TIMED) != 0
+                ? new TimedTask(id, title, desc, deadline, pr,
+                        TimeSource.toLocalDateTime(b.getLong(o + START)),
+                        TimeSource.toLocalDateTime(b.getLong(o + END)))
+                : new Task(id, title, desc, deadline, pr);
+        t.restore(b.getLong(o + VERSION), (flags & COMPLETED) != 0);
+        return t;
+    }
+
+    private int requireSlot(String taskId) {
+        ensureOpen();
+        UUID uuid = tryParseId(taskId);
+        int slot = uuid == null ? -1 : find(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        if (slot < 0) throw new IllegalArgumentException("Task not found: " + taskId);
+        return slot;
+    }
+
+    private static UUID parseId(String id) {
+        UUID uuid = tryParseId(id);
+        if (uuid == null) {
+            throw new IllegalArgumentException("Off-heap depo yalnızca UUID görev ID'lerini destekler: " + id);
+        }
+        return uuid;
+    }
+
+    /** Yalnızca kanonik (küçük harfli) UUID metinleri kabul edilir, böylece ID birebir geri üretilir. */
+    private static UUID tryParseId(String id) {
+        if (id == null || id.length() != 36) return null;
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /* ===================== STRING ARENA ===================== */
+
+    /** [int uzunluk][UTF-8 bayt] yazar; referans = (parça << 32) | ofset. */
+    private long putString(String s) {
+        if (s == null) return NULL_REF;
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        int need = 4 + bytes.length;
+
+        ByteBuffer cur = arena.isEmpty() ? null : arena.get(arena.size() - 1);
+        if (cur == null || cur.capacity() - cur.position() < need) {
+            cur = ByteBuffer.allocateDirect(Math.max(ARENA_CHUNK, need));
+            arena.add(cur);
+        }
+
+        int offset = cur.position();
+        cur.putInt(bytes.length).put(bytes);
+        return ((long) (arena.size() - 1) << 32) | offset;
+    }
+
+    private String getString(long ref) {
+        return getString(arena, ref);
+    }
+
+    private static String getString(List<ByteBuffer> arena, long ref) {
+        if (ref == NULL_REF) return null;
+        ByteBuffer a = arena.get((int) (ref >>> 32));
+        int offset = (int) ref;
+        byte[] bytes = new byte[a.getInt(offset)];
+        a.get(offset + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int stringBytes(long ref) {
+        return ref == NULL_REF ? 0 : 4 + arena.get((int) (ref >>> 32)).getInt((int) ref);
+    }
+
+    private void replaceString(ByteBuffer b, int field, String value) {
+        garbageBytes += stringBytes(b.getLong(field));
+        b.putLong(field, putString(value));
+    }
+
+    /* ===================== ID İNDEKSİ (açık adresleme, doğrusal yoklama) ===================== */
+
+    private void allocateIndex(int capacity) {
+        index = ByteBuffer.allocateDirect(capacity * 4);
+        indexMask = capacity - 1;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        h ^= h >>> 32;
+        h *= 0xff51afd7ed558ccdL;
+        return (int) (h ^ (h >>> 29));
+    }
+
+    private int home(int slot) {
+        ByteBuffer b = chunk(slot);
+        int o = offset(slot);
+        return hash(b.getLong(o + ID_MSB), b.getLong(o + ID_LSB)) & indexMask;
+    }
+
+    /** ID'nin yuvası veya -1. */
+    private int find(long msb, long lsb) {
+        int i = hash(msb, lsb) & indexMask;
+        while (true) {
+            int v = index.getInt(i * 4);
+            if (v == 0) return -1;
+            int slot = v - 1;
+            ByteBuffer b = chunk(slot);
+            int o = offset(slot);
+            if (b.getLong(o + ID_MSB) == msb && b.getLong(o + ID_LSB) == lsb) return slot;
+            i = (i + 1) & indexMask;
+        }
+    }
+
+    private void insertIndex(int slot) {
+        int i = home(slot);
+        while (index.getInt(i * 4) != 0) i = (i + 1) & indexMask;
+        index.putInt(i * 4, slot + 1);
+    }
+
+    private void rehash(int capacity) {
+        ByteBuffer old = index;
+        allocateIndex(capacity);
+        free(old);
+        for (int slot = 0; slot < highWater; slot++) {
+            if ((chunk(slot).getInt(offset(slot) + FLAGS) & LIVE) == 0) continue;
+            int i = home(slot);
+            while (index.getInt(i * 4) != 0) i = (i + 1) & indexMask;
+            index.putInt(i * 4, slot + 1);
+        }
+    }
+
+    /** Geri kaydırmalı silme: mezar taşı bırakmaz. */
+    private void removeIndex(int slot) {
+        int i = home(slot);
+        while (index.getInt(i * 4) != slot + 1) i = (i + 1) & indexMask;
+
+        int j = i;
+        while (true) {
+            j = (j + 1) & indexMask;
+            int v = index.getInt(j * 4);
+            if (v == 0) break;
+            int k = home(v - 1);
+            boolean between = i <= j ? (i < k && k <= j) : (i < k || k <= j);
+            if (between) continue;
+            index.putInt(i * 4, v);
+            i = j;
+        }
+        index.putInt(i * 4, 0);
+    }
+}
@@ -0,0 +1,270 @@
+package com.ntp.taskmanager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Değişmez (immutable), yapısal paylaşımlı hash map (HAMT - hash array mapped trie).
+ *
+ * <p>
+ * {@link #put} ve {@link #remove} yeni bir map döndürür; eski map değişmez ve yeni map ile
+ * değişmeyen dalları paylaşır (her işlem O(log32 n) düğüm kopyalar). Bu sayede bir okuyucu
+ * elindeki map'i kilitsiz gezerken yazan taraf yeni sürümler üretebilir.
+ * </p>
+ *
+ * @param <K> anahtar tipi (null olamaz)
+ * @param <V> değer tipi
+ */
+public final class PersistentMap<K, V> {
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+    private static final Object NOT_FOUND = new Object();
+
+    private final Node root;
+    private final int size;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (root == null || key == null) return null;
+        Object v = root.find(0, hash(key), key);
+        return v == NOT_FOUND ? null : (V) v;
+    }
+
+    public boolean containsKey(Object key) {
+        return root != null && key != null && root.find(0, hash(key), key) != NOT_FOUND;
+    }
+
+    public PersistentMap<K, V> put(K key, V value) {
+        Objects.requireNonNull(key, "key null olamaz.");
+        boolean[] added = new boolean[1];
+        Node start = root == null ? BitmapNode.EMPTY : root;
+        Node newRoot = start.assoc(0, hash(key), key, value, added);
+        if (newRoot == root) return this;
+        return new PersistentMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    public PersistentMap<K, V> remove(Object key) {
+        if (root == null || key == null) return this;
+        Node newRoot = root.without(0, hash(key), key);
+        if (newRoot == root) return this;
+        return new PersistentMap<>(newRoot, size - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (root != null) root.forEach((BiConsumer<Object, Object>) action);
+    }
+
+    /** Değerleri (belirsiz sırada) yeni bir listeye kopyalar. */
+    public List<V> values() {
+        List<V> list = new ArrayList<>(size);
+        forEach((k, v) -> list.add(v));
+        return list;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitpos(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    private static Object[] cloneAndSet(Object[] array, int i, Object a) {
+        Object[] clone = array.clone();
+        clone[i] = a;
+        return clone;
+    }
+
+    /* ===================== DÜĞÜMLER ===================== */
+
+    private interface Node {
+        Object find(int shift, int hash, Object key);
+        Node assoc(int shift, int hash, Object key, Object val, boolean[] added);
+        Node without(int shift, int hash, Object key);
+        void forEach(BiConsumer<Object, Object> action);
+    }
+
+    private static Node createNode(int shift, Object key1, Object val1, int key2hash, Object key2, Object val2) {
+        int key1hash = hash(key1);
+        if (key1hash == key2hash) {
+            return new CollisionNode(key1hash, new Object[] {key1, val1, key2, val2});
+        }
+        boolean[] added = new boolean[1];
+        return BitmapNode.EMPTY
+                .assoc(shift, key1hash, key1, val1, added)
+                .assoc(shift, key2hash, key2, val2, added);
+    }
+
+    /**
+     * Dizi çiftler halinde tutulur: [anahtar, değer] ya da [null, alt düğüm].
+     */
+    private static final class BitmapNode implements Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+        final Object[] array;
+
+        BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) return NOT_FOUND;
+            int i = index(bit);
+            Object k = array[2 * i];
+            Object v = array[2 * i + 1];
+            if (k == null) return ((Node) v).find(shift + 5, hash, key);
+            return key.equals(k) ? v : NOT_FOUND;
+        }
+
+        @Override
+        public Node assoc(int shift, int hash, Object key, Object val, boolean[] added) {
+            int bit = bitpos(hash, shift);
+            int i = index(bit);
+
+            if ((bitmap & bit) != 0) {
+                Object k = array[2 * i];
+                Object v = array[2 * i + 1];
+                if (k == null) {
+                    Node n = ((Node) v).assoc(shift + 5, hash, key, val, added);
+                    return n == v ? this : new BitmapNode(bitmap, cloneAndSet(array, 2 * i + 1, n));
+                }
+                if (key.equals(k)) {
+                    return v == val ? this : new BitmapNode(bitmap, cloneAndSet(array, 2 * i + 1, val));
+                }
+                added[0] = true;
+                Object[] clone = array.clone();
+                clone[2 * i] = null;
+                clone[2 * i + 1] = createNode(shift + 5, k, v, hash, key, val);
+                return new BitmapNode(bitmap, clone);
+            }
+
+            int n = Integer.bitCount(bitmap);
+            Object[] newArray = new Object[2 * (n + 1)];
+            System.arraycopy(array, 0, newArray, 0, 2 * i);
+            newArray[2 * i] = key;
+            newArray[2 * i + 1] = val;
+            System.arraycopy(array, 2 * i, newArray, 2 * (i + 1), 2 * (n - i));
+            added[0] = true;
+            return new BitmapNode(bitmap | bit, newArray);
+        }
+
+        @Override
+        public Node without(int shift, int hash, Object key) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) return this;
+            int i = index(bit);
+            Object k = array[2 * i];
+            Object v = array[2 * i + 1];
+
+            if (k == null) {
+                Node n = ((Node) v).without(shift + 5, hash, key);
+                if (n == v) return this;
+                if (n != null) return new BitmapNode(bitmap, cloneAndSet(array, 2 * i + 1, n));
+            } else if (!key.equals(k)) {
+                return this;
+            }
+
+            if (bitmap == bit) return null;
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, 2 * i);
+            System.arraycopy(array, 2 * (i + 1), newArray, 2 * i, newArray.length - 2 * i);
+            return new BitmapNode(bitmap ^ bit, newArray);
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) ((Node) array[i + 1]).forEach(action);
+                else action.accept(array[i], array[i + 1]);
+            }
+        }
+    }
+
+    /** Tam hash çakışması olan anahtarlar için doğrusal düğüm. */
+    private static final class CollisionNode implements Node {
+        final int hash;
+        final Object[] array;
+
+        CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) return i;
+            }
+            return -1;
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            int i = indexOf(key);
+            return i < 0 ? NOT_FOUND : array[i + 1];
+        }
+
+        @Override
+        public Node assoc(int shift, int hash, Object key, Object val, boolean[] added) {
+            if (hash == this.hash) {
+                int i = indexOf(key);
+                if (i >= 0) {
+                    return array[i + 1] == val ? this : new CollisionNode(hash, cloneAndSet(array, i + 1, val));
+                }
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, array.length);
+                newArray[array.length] = key;
+                newArray[array.length + 1] = val;
+                added[0] = true;
+                return new CollisionNode(hash, newArray);
+            }
+            return new BitmapNode(bitpos(this.hash, shift), new Object[] {null, this})
+                    .assoc(shift, hash, key, val, added);
+        }
+
+        @Override
+        public Node without(int shift, int hash, Object key) {
+            int i = indexOf(key);
+            if (i < 0) return this;
+            if (array.length == 2) return null;
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            System.arraycopy(array, i + 2, newArray, i, newArray.length - i);
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) action.accept(array[i], array[i + 1]);
+        }
+    }
+}
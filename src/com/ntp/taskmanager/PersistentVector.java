@@ -0,0 +1,168 @@
+package com.ntp.taskmanager;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Değişmez (immutable), yapısal paylaşımlı liste (32-dallı trie + kuyruk tamponu).
+ *
+ * <p>
+ * {@link #add} amortize O(1), {@link #get} ve {@link #set} O(log32 n)'dir ve eski sürüm değişmez.
+ * {@link #removeIf} yeni bir vektör kurar (O(n)); sık silmede {@link #set} ile boş slot (null)
+ * bırakıp ara sıra toplu sıkıştırmak için kullanılır (bkz. {@link ManagerSnapshot}).
+ * </p>
+ *
+ * @param <E> eleman tipi
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS, new Object[WIDTH], new Object[0]);
+
+    private final int count;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int count, int shift, Object[] root, Object[] tail) {
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int i) {
+        if (i < 0 || i >= count) throw new IndexOutOfBoundsException(i);
+        return (E) arrayFor(i)[i & MASK];
+    }
+
+    /** Sona eleman eklenmiş yeni vektör döndürür. */
+    public PersistentVector<E> add(E e) {
+        if (count - tailOffset() < WIDTH) {
+            Object[] newTail = new Object[tail.length + 1];
+            System.arraycopy(tail, 0, newTail, 0, tail.length);
+            newTail[tail.length] = e;
+            return new PersistentVector<>(count + 1, shift, root, newTail);
+        }
+
+        // kuyruk dolu: ağaca taşı
+        Object[] newRoot;
+        int newShift = shift;
+        if ((count >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(count + 1, newShift, newRoot, new Object[] {e});
+    }
+
+    /** {@code i}. elemanı değiştirilmiş yeni vektör; yalnızca kökten yaprağa giden yol kopyalanır. */
+    public PersistentVector<E> set(int i, E e) {
+        if (i < 0 || i >= count) throw new IndexOutOfBoundsException(i);
+        if (i >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[i & MASK] = e;
+            return new PersistentVector<>(count, shift, root, newTail);
+        }
+        return new PersistentVector<>(count, shift, doSet(shift, root, i, e), tail);
+    }
+
+    /** Koşulu sağlayan elemanlar çıkarılmış yeni vektör (hiçbiri yoksa aynı vektör). */
+    public PersistentVector<E> removeIf(Predicate<? super E> filter) {
+        PersistentVector<E> result = empty();
+        boolean removed = false;
+        for (E e : this) {
+            if (filter.test(e)) removed = true;
+            else result = result.add(e);
+        }
+        return removed ? result : this;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int i;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (i >= count) throw new NoSuchElementException();
+                if ((i & MASK) == 0 || leaf == null) leaf = arrayFor(i);
+                return (E) leaf[i++ & MASK];
+            }
+        };
+    }
+
+    private int tailOffset() {
+        return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] arrayFor(int i) {
+        if (i >= tailOffset()) return tail;
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(i >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((count - 1) >>> level) & MASK;
+        Object[] ret = parent.clone();
+        Object[] toInsert;
+        if (level == BITS) {
+            toInsert = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            toInsert = child != null ? pushTail(level - BITS, child, tailNode) : newPath(level - BITS, tailNode);
+        }
+        ret[subIndex] = toInsert;
+        return ret;
+    }
+
+    private static Object[] doSet(int level, Object[] node, int i, Object e) {
+        Object[] ret = node.clone();
+        if (level == 0) {
+            ret[i & MASK] = e;
+        } else {
+            int subIndex = (i >>> level) & MASK;
+            ret[subIndex] = doSet(level - BITS, (Object[]) node[subIndex], i, e);
+        }
+        return ret;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) return node;
+        Object[] ret = new Object[WIDTH];
+        ret[0] = newPath(level - BITS, node);
+        return ret;
+    }
+}
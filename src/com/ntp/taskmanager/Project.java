@@ -1,7 +1,6 @@
 package com.ntp.taskmanager;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.UUID;
 
@@ -10,12 +9,24 @@ import java.util.UUID;
  */
 public class Project {
 
-    private final String id = UUID.randomUUID().toString();
+    private final String id;
     private String name;
 
-    private final List<Task> tasks = new ArrayList<>();
+    /** Görev ID -> görev, projeye eklenme sırasıyla (silme O(1)). */
+    private final LinkedHashMap<String, Task> tasks = new LinkedHashMap<>();
+    /** {@link #getTasks()} önbelleği; ekleme/silmede sıfırlanır. */
+    private List<Task> taskList;
 
     public Project(String name) {
+        this(null, name);
+    }
+
+    /**
+     * Verilen ID ile proje oluşturur (shard yönlendirmesi için ID önceden belirlenir).
+     * {@code id} null veya boş ise yeni ID üretilir.
+     */
+    Project(String id, String name) {
+        this.id = (id == null || id.isBlank()) ? UUID.randomUUID().toString() : id;
         this.name = name;
     }
 
@@ -24,18 +35,29 @@ public class Project {
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
+    /** Projedeki görevler (eklenme sırasıyla); değiştirilemez, sonraki ekleme/silmeleri yansıtmaz. */
     public List<Task> getTasks() {
-        return Collections.unmodifiableList(tasks);
+        List<Task> list = taskList;
+        if (list == null) taskList = list = List.copyOf(tasks.values());
+        return list;
     }
 
+    /** Görev sayısı; {@link #getTasks()} kopyası oluşturmaz. */
+    public int getTaskCount() { return tasks.size(); }
+
+    /** Görev zaten projedeyse bir şey yapmaz. */
     public void addTask(Task task) {
-        if (task == null) return;
-        tasks.add(task);
+        if (task == null || tasks.putIfAbsent(task.getId(), task) != null) return;
+        taskList = null;
+        task.addProjectId(id);
     }
 
-    
     public boolean removeTaskById(String taskId) {
         if (taskId == null || taskId.isBlank()) return false;
-        return tasks.removeIf(t -> taskId.equals(t.getId()));
+        Task t = tasks.remove(taskId);
+        if (t == null) return false;
+        taskList = null;
+        t.removeProjectId(id);
+        return true;
     }
 }
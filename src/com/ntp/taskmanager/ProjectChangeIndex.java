@@ -0,0 +1,110 @@
+package com.ntp.taskmanager;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Delta export için proje başına sürüm sıralı değişiklik indeksi.
+ *
+ * <p>
+ * Her proje için görevlerin son değişiklik sıra numarası ({@code seq -> taskId}) ve silinen
+ * görevlerin tombstone'ları tutulur; böylece "şu sürümden sonra değişenler" projenin tamamı
+ * taranmadan, değişiklik sayısıyla orantılı sürede bulunur.
+ * </p>
+ *
+ * <p>
+ * Tombstone'lar sınırlıdır: son {@code retention} sıra numarasından eski olanlar (veya
+ * {@link #expire(long)} ile verilen checkpoint'e kadar olanlar) silinme sırasıyla atılır.
+ * Bu noktadan eski bir checkpoint'ten delta istenirse silmeler eksik kalabileceği için
+ * {@link #getExpiredUpTo()} ile kontrol edilmelidir. {@link ProjectManager} gibi thread-safe değildir.
+ * </p>
+ */
+final class ProjectChangeIndex {
+
+    static final long DEFAULT_TOMBSTONE_RETENTION = 1 << 18;
+
+    private final Map<String, ProjectLog> projects = new HashMap<>();
+    /** Tüm projelerin tombstone'ları silinme sırasıyla (eskiden yeniye). */
+    private final ArrayDeque<Tombstone> tombstones = new ArrayDeque<>();
+
+    private long retention = DEFAULT_TOMBSTONE_RETENTION;
+    private long expiredUpTo;
+
+    /** Görev bu projede {@code seq} sürümünde değişti (oluşturma, atama, güncelleme, tamamlama). */
+    void touched(String projectId, String taskId, long seq) {
+        ProjectLog log = projects.computeIfAbsent(projectId, k -> new ProjectLog());
+        Long old = log.latest.put(taskId, seq);
+        if (old != null) log.live.remove(old);
+        log.live.put(seq, taskId);
+    }
+
+    /** Görev bu projeden {@code seq} sürümünde silindi. */
+    void deleted(String projectId, String taskId, long seq) {
+        ProjectLog log = projects.computeIfAbsent(projectId, k -> new ProjectLog());
+        Long old = log.latest.remove(taskId);
+        if (old != null) log.live.remove(old);
+        log.dead.put(seq, taskId);
+        tombstones.addLast(new Tombstone(seq, projectId));
+        expire(seq - retention);
+    }
+
+    /** {@code upToSeq} dahil, o sürüme kadar olan tombstone'ları atar. */
+    void expire(long upToSeq) {
+        while (!tombstones.isEmpty() && tombstones.peekFirst().seq <= upToSeq) {
+            Tombstone t = tombstones.pollFirst();
+            ProjectLog log = projects.get(t.projectId);
+            if (log != null) log.dead.remove(t.seq);
+            expiredUpTo = Math.max(expiredUpTo, t.seq);
+        }
+    }
+
+    /** Bu sürüme kadar (dahil) tombstone'lar atılmış olabilir; daha eski checkpoint'ler için delta eksik kalır. */
+    long getExpiredUpTo() {
+        return expiredUpTo;
+    }
+
+    void setRetention(long retention) {
+        if (retention <= 0) throw new IllegalArgumentException("retention pozitif olmalı.");
+        this.retention = retention;
+    }
+
+    long getRetention() {
+        return retention;
+    }
+
+    int getTombstoneCount() {
+        return tombstones.size();
+    }
+
+    /** Projede {@code sinceSeq}'ten sonra değişen (hâlâ projede olan) görevler: seq -> taskId, artan. */
+    NavigableMap<Long, String> changedSince(String projectId, long sinceSeq) {
+        ProjectLog log = projects.get(projectId);
+        return log == null ? Collections.emptyNavigableMap() : log.live.tailMap(sinceSeq, false);
+    }
+
+    /** Projeden {@code sinceSeq}'ten sonra silinen görevler: seq -> taskId, artan. */
+    NavigableMap<Long, String> deletedSince(String projectId, long sinceSeq) {
+        ProjectLog log = projects.get(projectId);
+        return log == null ? Collections.emptyNavigableMap() : log.dead.tailMap(sinceSeq, false);
+    }
+
+    private static final class ProjectLog {
+        final TreeMap<Long, String> live = new TreeMap<>();
+        final Map<String, Long> latest = new HashMap<>();
+        final TreeMap<Long, String> dead = new TreeMap<>();
+    }
+
+    private static final class Tombstone {
+        final long seq;
+        final String projectId;
+
+        Tombstone(long seq, String projectId) {
+            this.seq = seq;
+            this.projectId = projectId;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.ntp.taskmanager;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Proje ve görevlerin yönetiminden sorumlu servis sınıfıdır.
@@ -16,26 +20,232 @@ public class ProjectManager {
     private final Map<String, Project> projects = new HashMap<>();
     private final Map<String, Task> tasks = new HashMap<>();
 
-    private final ReminderService reminderService = new ReminderService();
+    /** Delta export için proje başına sürüm sıralı değişiklikler ve (sınırlı) tombstone'lar. */
+    private final ProjectChangeIndex changeIndex = new ProjectChangeIndex();
+
+    private final TimeSource time;
+    private final ReminderService reminderService;
+    private final ChangeFeed changeFeed = new ChangeFeed();
+
+    /** Başlık/açıklama metinleri bu havuzdan geçer; tekrarlanan metinler tek kopya tutulur. */
+    private final StringPool strings = new StringPool();
+
+    /** projectId -> projedeki görevleri etkileyen son değişikliğin sıra numarası (önbellek geçerliliği için). */
+    private final Map<String, Long> projectVersions = new HashMap<>();
+
+    /** {@link #listProjectTasks} ve {@link #listUpcomingTasks} sonuçları. */
+    private final QueryCache queryCache = new QueryCache(256);
+
+    /** Ayarlıysa uzun açıklamalar bu dosya deposuna taşınır (bkz. {@link #setDescriptionStore}). */
+    private DescriptionStore descriptionStore;
+
+    /** Ayarlıysa {@link #runReminders} sonuçları bu hatta da gönderilir. */
+    private volatile NotificationDispatcher notificationDispatcher;
+
+    /** Ayarlıysa her görev değişikliği bu geçmiş kaydına yazılır (bkz. {@link #setHistoryStore}). */
+    private HistoryStore historyStore;
+
+    /** Görev bağımlılıkları; hazır görevler ve kritik yol her değişiklikte artımlı güncellenir. */
+    private final DependencyGraph dependencies = new DependencyGraph();
+
+    /** Son yayınlanan değişmez görünüm; her değişiklikten sonra yenisiyle değiştirilir. */
+    private volatile ManagerSnapshot snapshot = ManagerSnapshot.EMPTY;
+
+    /** Deadline (yakından uzağa); primitive long karşılaştırması. */
+    static final Comparator<Task> BY_DEADLINE =
+            Comparator.comparingLong(x -> x.getDeadline().getDueMillis());
+
+    /** Öncelik (yüksekten düşüğe), sonra deadline (yakından uzağa). */
+    static final Comparator<Task> PRIORITY_THEN_DEADLINE =
+            Comparator.<Task>comparingInt(x -> x.getPriority().getLevel())
+                    .reversed()
+                    .thenComparing(BY_DEADLINE);
+
+    /** Proje numaralandırma sırası (stabil): isim, sonra id. */
+    static final Comparator<Project> PROJECT_ORDER =
+            Comparator.comparing(Project::getName, Comparator.nullsLast(String::compareToIgnoreCase))
+                    .thenComparing(Project::getId);
+
+    /**
+     * Tüm projeleri kapsayan taramalarda bu sayının altındaki görev sayısı için
+     * sıralı (tek thread) çalışılır; üstünde ForkJoin havuzunda paralel çalışılır.
+     */
+    private int parallelThreshold = 10_000;
+
+    public ProjectManager() {
+        this(TimeSource.system());
+    }
+
+    /**
+     * @param time tüm zaman kontrollerinde (upcoming, overdue, hatırlatma) kullanılacak zaman kaynağı
+     */
+    public ProjectManager(TimeSource time) {
+        this.time = Objects.requireNonNull(time, "time null olamaz.");
+        this.reminderService = new ReminderService(time);
+    }
+
+    public TimeSource getTimeSource() {
+        return time;
+    }
+
+    /** Görev başlık ve açıklamalarının paylaşıldığı havuz (boyut/isabet istatistikleri için). */
+    public StringPool getStringPool() {
+        return strings;
+    }
+
+    /**
+     * Proje listeleme sonuçlarının önbelleği (isabet/kaçırma istatistikleri için).
+     *
+     * <p>
+     * Kayıtlar projenin görevlerini etkileyen her değişiklikte (oluşturma, atama, güncelleme,
+     * tamamlama, silme, içe aktarma) geçersizleşir. Görev nesnesini ProjectManager dışından
+     * değiştiren kod (ör. doğrudan {@link Task#setTitle}) bunu tetiklemez; gerekirse {@link QueryCache#clear()}.
+     * </p>
+     */
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /** Görev/proje değişikliklerinin sıralı olay akışı. */
+    public ChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    /**
+     * Mevcut veri sürümü (son değişikliğin sıra numarası).
+     * Delta export için checkpoint olarak saklanabilir.
+     */
+    public long getCurrentVersion() {
+        return changeFeed.getLastSequence();
+    }
+
+    /**
+     * Proje/görev durumunun değişmez görünümü (O(1)).
+     *
+     * <p>
+     * Dönen snapshot kilit almadan ve yazanlarla yarışmadan gezilebilir; sonraki değişiklikler onu
+     * etkilemez. Uzun okumalar (CSV export, tam listeleme) için canlı listeler yerine bunu kullanın.
+     * Not: {@link Project#setName(String)} olay üretmediği için snapshot'a yansımaz.
+     * </p>
+     */
+    public ManagerSnapshot snapshot() {
+        return snapshot;
+    }
+
+    private long emit(ChangeEvent.Type type, String taskId, String projectId) {
+        long seq = changeFeed.publish(type, taskId, projectId, time.millis());
+        if (projectId != null) projectVersions.put(projectId, seq);
+        if (type == ChangeEvent.Type.TASK_DELETED && projectId != null) dependencies.onRemovedFromProject(taskId, projectId);
+        if (type == ChangeEvent.Type.PROJECT_CREATED) {
+            snapshot = snapshot.withProject(projects.get(projectId), seq);
+        } else if (type == ChangeEvent.Type.TASK_DELETED || type == ChangeEvent.Type.TASK_MOVED) {
+            snapshot = snapshot.withoutTask(taskId, projectId, seq);
+        }
+        return seq;
+    }
+
+    /**
+     * Görev değişikliğini yayınlar. Tek bir tekrar verilirse olay ve snapshot depodaki seriye yazılır;
+     * geçmişe tekrar da kendi ID'siyle kaydedilir (seri değişmemiş olabilir).
+     *
+     * @return olayın sıra numarası
+     */
+    private long emitTask(ChangeEvent.Type type, Task changed, String projectId) {
+        Task task = owner(changed);
+        if (descriptionStore != null) task.externalizeDescription(descriptionStore);
+        long now = time.millis();
+        long seq = changeFeed.publish(type, task.getId(), projectId, now);
+        task.setChangeVersion(seq);
+        if (historyStore != null) {
+            historyStore.record(task, seq, now);
+            if (changed != task) historyStore.record(changed, seq, now);
+        }
+        if (projectId != null) projectVersions.put(projectId, seq);
+        for (String pid : task.getProjectIds()) {
+            projectVersions.put(pid, seq);
+            changeIndex.touched(pid, task.getId(), seq);
+        }
+        dependencies.onTaskChanged(task);
+        snapshot = projectId != null && (type == ChangeEvent.Type.TASK_CREATED || type == ChangeEvent.Type.TASK_ASSIGNED)
+                ? snapshot.withAssignment(task, projectId, seq)
+                : snapshot.withTask(task, seq);
+        return seq;
+    }
 
     /* ===================== PROJECT & TASK ===================== */
 
     public Project createProject(String name) {
-        Project p = new Project(name);
+        return createProject(null, name);
+    }
+
+    /** Verilen ID ile proje oluşturur (bkz. {@link ShardedProjectManager}). */
+    Project createProject(String id, String name) {
+        Project p = new Project(id, name);
+        if (projects.containsKey(p.getId())) throw new IllegalArgumentException("Project ID zaten var: " + p.getId());
         projects.put(p.getId(), p);
+        emit(ChangeEvent.Type.PROJECT_CREATED, null, p.getId());
         return p;
     }
 
     public Task createTask(String title, String desc, LocalDateTime due, Priority pr) {
-        Task t = new Task(title, desc, new Deadline(due), pr);
+        Task t = new Task(strings.intern(title), strings.intern(desc), new Deadline(due), pr);
         tasks.put(t.getId(), t);
+        emitTask(ChangeEvent.Type.TASK_CREATED, t, null);
         return t;
     }
 
     public TimedTask createTimedTask(String title, String desc, LocalDateTime due, Priority pr,
                                      LocalDateTime start, LocalDateTime end) {
-        TimedTask t = new TimedTask(title, desc, new Deadline(due), pr, start, end);
+        TimedTask t = new TimedTask(strings.intern(title), strings.intern(desc), new Deadline(due), pr, start, end);
         tasks.put(t.getId(), t);
+        emitTask(ChangeEvent.Type.TASK_CREATED, t, null);
+        return t;
+    }
+
+    /**
+     * Tekrarlanan görev serisi oluşturur. Depoya tek görev olarak eklenir; tekrarlar yalnızca
+     * yaklaşan görev / hatırlatma sorgularında, sorgulanan aralık için üretilir.
+     *
+     * @param firstDue ilk tekrarın deadline'ı
+     */
+    public RecurringTask createRecurringTask(String title, String desc, LocalDateTime firstDue, Priority pr,
+                                             Recurrence recurrence) {
+        RecurringTask t = new RecurringTask(strings.intern(title), strings.intern(desc), new Deadline(firstDue), pr, recurrence);
+        tasks.put(t.getId(), t);
+        emitTask(ChangeEvent.Type.TASK_CREATED, t, null);
+        return t;
+    }
+
+    /** Dışarıda oluşturulmuş görevi depoya ekler (bkz. {@link ShardedProjectManager}). */
+    Task addTask(Task t) {
+        if (tasks.containsKey(t.getId())) throw new IllegalArgumentException("Task ID zaten var: " + t.getId());
+        tasks.put(t.getId(), t);
+        emitTask(ChangeEvent.Type.TASK_CREATED, t, null);
+        return t;
+    }
+
+    /**
+     * Hiçbir projeye atanmamış görevi depodan çıkarır (başka bir shard'a taşımak için).
+     * Silme olarak kaydedilmez: {@link ChangeEvent.Type#TASK_MOVED} yayınlanır, geçmişe yazılmaz.
+     *
+     * @throws IllegalArgumentException görev bir projeye atanmışsa
+     */
+    Task detachTask(String taskId) {
+        Task t = getTaskById(taskId);
+        if (!t.getProjectIds().isEmpty()) {
+            throw new IllegalArgumentException("Task bir projeye atanmış, taşınamaz: " + t.getShortId());
+        }
+        tasks.remove(taskId);
+        dependencies.onTaskDeleted(taskId);
+        emit(ChangeEvent.Type.TASK_MOVED, taskId, null);
+        return t;
+    }
+
+    /** {@link #detachTask} ile başka shard'dan ayrılan görevi ekler ({@link ChangeEvent.Type#TASK_MOVED}). */
+    Task attachTask(Task t) {
+        if (tasks.containsKey(t.getId())) throw new IllegalArgumentException("Task ID zaten var: " + t.getId());
+        tasks.put(t.getId(), t);
+        emitTask(ChangeEvent.Type.TASK_MOVED, t, null);
         return t;
     }
 
@@ -46,9 +256,7 @@ public class ProjectManager {
     /** Projeleri sabit bir sıralamayla listeye çevirir (numaralandırma için). */
     public List<Project> getProjectsAsList() {
         List<Project> list = new ArrayList<>(projects.values());
-        // stabil sıralama: isim, sonra id
-        list.sort(Comparator.comparing(Project::getName, Comparator.nullsLast(String::compareToIgnoreCase))
-                .thenComparing(Project::getId));
+        list.sort(PROJECT_ORDER);
         return list;
     }
 
@@ -69,15 +277,7 @@ public class ProjectManager {
         Project byId = projects.get(input);
         if (byId != null) return byId;
 
-        String target = input.toLowerCase();
-        List<Project> matches = new ArrayList<>();
-
-        for (Project p : projects.values()) {
-            String name = p.getName();
-            if (name != null && name.trim().toLowerCase().equals(target)) {
-                matches.add(p);
-            }
-        }
+        List<Project> matches = findProjectsByName(input);
 
         if (matches.isEmpty()) {
             throw new IllegalArgumentException("Project bulunamadı (ID/Name): " + input);
@@ -88,6 +288,20 @@ public class ProjectManager {
         return matches.get(0);
     }
 
+    /** Adı (büyük/küçük harf duyarsız) verilen adla aynı olan projeler. */
+    List<Project> findProjectsByName(String name) {
+        String target = name.trim().toLowerCase();
+        List<Project> matches = new ArrayList<>();
+
+        for (Project p : projects.values()) {
+            String n = p.getName();
+            if (n != null && n.trim().toLowerCase().equals(target)) {
+                matches.add(p);
+            }
+        }
+        return matches;
+    }
+
     /**  Proje seçimi -> NUMARA / ID / İSİM */
     public Project getProjectByNumberOrIdOrName(String input) {
         if (input == null || input.isBlank()) {
@@ -110,6 +324,77 @@ public class ProjectManager {
         return getProjectByIdOrName(s);
     }
 
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public DescriptionStore getDescriptionStore() {
+        return descriptionStore;
+    }
+
+    /**
+     * Açıklamaların diskte tutulmasını etkinleştirir. Bundan sonra oluşturulan/güncellenen görevlerin
+     * eşikten uzun açıklamaları depoya yazılır; mevcut görevlerinkiler de hemen taşınır. Açıklamalar
+     * yalnızca okunduklarında (önbellek üzerinden) yüklenir.
+     *
+     * @param store açıklama deposu; null ise yeni açıklamalar yeniden görevde tutulur
+     */
+    public void setDescriptionStore(DescriptionStore store) {
+        this.descriptionStore = store;
+        if (store == null) return;
+
+        ManagerSnapshot s = snapshot;
+        for (Task t : tasks.values()) {
+            t.externalizeDescription(store);
+            s = s.withTask(t, s.getVersion()); // eski metni tutan snapshot görünümünü de bırak
+        }
+        snapshot = s;
+    }
+
+    public HistoryStore getHistoryStore() {
+        return historyStore;
+    }
+
+    /**
+     * Görev geçmişi kaydını ayarlar. Mevcut görevlerin güncel hali hemen kaydedilir; sonraki her
+     * değişiklik (oluşturma, atama, güncelleme, tamamlama, silme) sürüm olarak eklenir. Kayıtlar
+     * diskte tutulur; store'un kapatılması çağırana aittir.
+     *
+     * @param store null ise geçmiş kaydı durur
+     */
+    public void setHistoryStore(HistoryStore store) {
+        this.historyStore = store;
+        if (store == null) return;
+
+        long seq = changeFeed.getLastSequence();
+        long now = time.millis();
+        for (Task t : tasks.values()) store.record(t, seq, now);
+    }
+
+    public NotificationDispatcher getNotificationDispatcher() {
+        return notificationDispatcher;
+    }
+
+    /**
+     * Hatırlatma sonuçlarının teslim hattını ayarlar. {@link #runReminders} bulunan bildirimleri
+     * (proje ID'si anahtarıyla) beklemeden bu hatta bırakır; teslimat arka planda yapılır.
+     *
+     * @param dispatcher null ise sonuçlar yalnızca döndürülür
+     */
+    public void setNotificationDispatcher(NotificationDispatcher dispatcher) {
+        this.notificationDispatcher = dispatcher;
+    }
+
+    /**
+     * Paralel tarama eşiğini ayarlar.
+     *
+     * @param parallelThreshold 0 ise her zaman paralel, {@link Integer#MAX_VALUE} ise hiç paralel değil
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 0) throw new IllegalArgumentException("parallelThreshold negatif olamaz.");
+        this.parallelThreshold = parallelThreshold;
+    }
+
     public Task getTaskById(String taskId) {
         Task t = tasks.get(taskId);
         if (t == null) throw new IllegalArgumentException("Task not found: " + taskId);
@@ -121,15 +406,7 @@ public class ProjectManager {
             throw new IllegalArgumentException("Task ID boş olamaz.");
         }
 
-        Task direct = tasks.get(idOrShort.trim());
-        if (direct != null) return direct;
-
-        List<Task> matches = new ArrayList<>();
-        for (Task t : tasks.values()) {
-            if (t.getShortId().equalsIgnoreCase(idOrShort.trim())) {
-                matches.add(t);
-            }
-        }
+        List<Task> matches = findTasks(idOrShort);
 
         if (matches.isEmpty()) {
             throw new IllegalArgumentException("Task bulunamadı: " + idOrShort);
@@ -140,26 +417,82 @@ public class ProjectManager {
         return matches.get(0);
     }
 
+    /**
+     * Tam ID ile eşleşen görev, yoksa kısa ID'si eşleşen tüm görevler.
+     * {@code seri#numara} biçimi tekrarlanan görevin tek bir tekrarını bulur.
+     */
+    List<Task> findTasks(String idOrShort) {
+        String s = idOrShort.trim();
+        Task direct = tasks.get(s);
+        if (direct != null) return List.of(direct);
+
+        int hash = s.lastIndexOf('#');
+        if (hash > 0) {
+            long index;
+            try {
+                index = Long.parseLong(s.substring(hash + 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Geçersiz tekrar numarası: " + s);
+            }
+            List<Task> occurrences = new ArrayList<>();
+            for (Task series : findTasks(s.substring(0, hash))) {
+                if (!(series instanceof RecurringTask r)) {
+                    throw new IllegalArgumentException("Tekrarlanan görev değil: " + series.getShortId());
+                }
+                occurrences.add(r.getOccurrence(index));
+            }
+            return occurrences;
+        }
+
+        List<Task> matches = new ArrayList<>();
+        for (Task t : tasks.values()) {
+            if (t.getShortId().equalsIgnoreCase(s)) {
+                matches.add(t);
+            }
+        }
+        return matches;
+    }
+
     public void assignTaskToProject(String taskIdOrShortId, String projectNumberOrIdOrName) {
         Task task = getTaskByIdOrShortId(taskIdOrShortId);
+        if (task instanceof RecurringTask.Occurrence) {
+            throw new IllegalArgumentException("Tek bir tekrar projeye atanamaz; seriyi atayın.");
+        }
         Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
         project.addTask(task);
+        emitTask(ChangeEvent.Type.TASK_ASSIGNED, task, project.getId());
     }
 
     public void completeTask(String taskIdOrShortId) {
         Task t = getTaskByIdOrShortId(taskIdOrShortId);
         t.complete();
+        emitTask(ChangeEvent.Type.TASK_COMPLETED, t, null);
     }
 
     public String deleteTask(String taskIdOrShortId) {
         Task t = getTaskByIdOrShortId(taskIdOrShortId);
         String fullId = t.getId();
 
-        for (Project p : projects.values()) {
-            p.removeTaskById(fullId);
+        if (t instanceof RecurringTask.Occurrence o) {
+            o.getSeries().skipOccurrence(o.getIndex());
+            long seq = emitTask(ChangeEvent.Type.TASK_UPDATED, o, null);
+            if (historyStore != null) historyStore.recordDeleted(fullId, seq, time.millis());
+            return fullId;
+        }
+
+        long seq = -1;
+        for (String pid : List.copyOf(t.getProjectIds())) { // yalnızca görevin projeleri
+            Project p = projects.get(pid);
+            if (p != null && p.removeTaskById(fullId)) {
+                seq = emit(ChangeEvent.Type.TASK_DELETED, fullId, p.getId());
+                changeIndex.deleted(p.getId(), fullId, seq);
+            }
         }
 
         tasks.remove(fullId);
+        dependencies.onTaskDeleted(fullId);
+        if (seq < 0) seq = emit(ChangeEvent.Type.TASK_DELETED, fullId, null);
+        if (historyStore != null) historyStore.recordDeleted(fullId, seq, time.millis());
         return fullId;
     }
 
@@ -171,45 +504,212 @@ public class ProjectManager {
 
         Task t = getTaskByIdOrShortId(idOrShort);
 
-        if (newTitle != null && !newTitle.isBlank()) t.setTitle(newTitle.trim());
-        if (newDesc != null) t.setDescription(newDesc);
-        if (newPriority != null) t.setPriority(newPriority);
-        if (newDeadline != null) t.getDeadline().setDue(newDeadline);
+        t.update(toPatch(newTitle, newDesc, newPriority, newDeadline));
+        emitTask(ChangeEvent.Type.TASK_UPDATED, t, null);
+    }
+
+    /**
+     * İyimser güncelleme: görev hâlâ {@code expectedVersion} sürümündeyse tüm alanları
+     * tek seferde uygular, değilse hiçbir alanı değiştirmez.
+     *
+     * @param expectedVersion okuma sırasında alınan {@link Task#getVersion()} değeri
+     * @return görevin yeni sürümü
+     * @throws VersionConflictException görev arada değişmişse (güncel sürüm exception içindedir)
+     */
+    public long updateTaskIfVersion(String idOrShort,
+                                    long expectedVersion,
+                                    String newTitle,
+                                    String newDesc,
+                                    Priority newPriority,
+                                    LocalDateTime newDeadline) {
+
+        Task t = getTaskByIdOrShortId(idOrShort);
+
+        long version = t.updateIfVersion(expectedVersion, toPatch(newTitle, newDesc, newPriority, newDeadline));
+        emitTask(ChangeEvent.Type.TASK_UPDATED, t, null);
+        return version;
+    }
+
+    /** Tekrar için depodaki seri, diğer görevler için kendisi (olaylar ve snapshot depodaki göreve yazılır). */
+    private static Task owner(Task t) {
+        return t instanceof RecurringTask.Occurrence o ? o.getSeries() : t;
+    }
+
+    private Task.Patch toPatch(String newTitle, String newDesc, Priority newPriority, LocalDateTime newDeadline) {
+        Task.Patch patch = new Task.Patch();
+        if (newTitle != null && !newTitle.isBlank()) patch.title(strings.intern(newTitle.trim()));
+        if (newDesc != null) patch.description(strings.intern(newDesc));
+        if (newPriority != null) patch.priority(newPriority);
+        if (newDeadline != null) patch.deadline(newDeadline);
+        return patch;
+    }
+
+    /* ===================== DEPENDENCIES ===================== */
+
+    /**
+     * {@code taskIdOrShortId} görevi, {@code prerequisiteIdOrShortId} tamamlanmadan hazır olmaz.
+     *
+     * @return kenar yeni eklendiyse true
+     * @throws IllegalArgumentException kenar döngü oluşturuyorsa
+     */
+    public boolean addTaskDependency(String taskIdOrShortId, String prerequisiteIdOrShortId) {
+        return dependencies.addDependency(storedTask(taskIdOrShortId), storedTask(prerequisiteIdOrShortId));
+    }
+
+    public boolean removeTaskDependency(String taskIdOrShortId, String prerequisiteIdOrShortId) {
+        return dependencies.removeDependency(storedTask(taskIdOrShortId), storedTask(prerequisiteIdOrShortId));
+    }
+
+    public List<Task> getTaskPrerequisites(String taskIdOrShortId) {
+        return dependencies.getPrerequisites(storedTask(taskIdOrShortId));
+    }
+
+    /** Tamamlanmamış ön koşulu olan görev bloke durumdadır. */
+    public boolean isTaskBlocked(String taskIdOrShortId) {
+        return dependencies.isBlocked(storedTask(taskIdOrShortId));
+    }
+
+    /** Projede başlanabilecek (tamamlanmamış, bloke olmayan) görevler; öncelik + deadline sırasıyla. */
+    public List<Task> listReadyTasks(String projectNumberOrIdOrName) {
+        Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
+        List<Task> result = new ArrayList<>(dependencies.getReadyTasks(project.getId()));
+        result.sort(PRIORITY_THEN_DEADLINE);
+        return result;
+    }
+
+    /** Projenin kritik yolu (bkz. {@link DependencyGraph}). */
+    public DependencyGraph.CriticalPath getCriticalPath(String projectNumberOrIdOrName) {
+        Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
+        return dependencies.getCriticalPath(project.getId(), project.getTasks());
+    }
+
+    /* ===================== HISTORY ===================== */
+
+    /**
+     * Görevin kaydedilmiş tüm sürümleri (eskiden yeniye). Silinmiş görevler tam ID ile sorgulanır;
+     * değiştirilmiş/tamamlanmış tek bir tekrarın kendi geçmişi, diğer tekrarlar için serinin geçmişi döner.
+     *
+     * @throws IllegalArgumentException geçmiş kaydı ayarlı değilse veya görev bulunamazsa
+     */
+    public List<HistoryStore.TaskVersion> getTaskHistory(String taskIdOrShortId) {
+        HistoryStore store = requireHistoryStore();
+        return store.getTaskHistory(historyTaskId(store, taskIdOrShortId));
+    }
+
+    /**
+     * Görevin verilen andaki hali.
+     *
+     * @return o anda görev yoksa veya silinmişse null
+     */
+    public HistoryStore.TaskVersion getTaskAt(String taskIdOrShortId, LocalDateTime at) {
+        HistoryStore store = requireHistoryStore();
+        return store.getTaskAt(historyTaskId(store, taskIdOrShortId), TimeSource.toMillis(at));
+    }
+
+    /** Projenin verilen andaki görevleri (deadline sırasıyla). */
+    public List<HistoryStore.TaskVersion> getProjectAt(String projectNumberOrIdOrName, LocalDateTime at) {
+        HistoryStore store = requireHistoryStore();
+        Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
+        return store.getProjectAt(project.getId(), TimeSource.toMillis(at));
+    }
+
+    private HistoryStore requireHistoryStore() {
+        HistoryStore store = historyStore;
+        if (store == null) throw new IllegalArgumentException("Görev geçmişi kaydı etkin değil.");
+        return store;
+    }
+
+    /** Görevin (veya geçmişi olan tekrarın) ID'si, geçmişi olmayan tekrar için serinin ID'si. */
+    private String historyTaskId(HistoryStore store, String idOrShort) {
+        if (!tasks.containsKey(idOrShort) && store.knows(idOrShort)) return idOrShort;
+        Task t = getTaskByIdOrShortId(idOrShort);
+        return store.knows(t.getId()) ? t.getId() : owner(t).getId();
+    }
+
+    /** Bağımlılık kenarları yalnızca depodaki görevler arasında kurulabilir (tek bir tekrar olamaz). */
+    private Task storedTask(String idOrShort) {
+        Task t = getTaskByIdOrShortId(idOrShort);
+        if (t instanceof RecurringTask.Occurrence) {
+            throw new IllegalArgumentException("Tek bir tekrar için bağımlılık tanımlanamaz; seriyi kullanın.");
+        }
+        return t;
     }
 
     /* ===================== LISTING ===================== */
 
+    /**
+     * Projedeki yaklaşan görevler. Sonuç önbelleğe alınır; proje değişene ya da bir görevin
+     * listeye girme/çıkma anı gelene kadar tekrar hesaplanmaz.
+     */
     public List<Task> listUpcomingTasks(String projectNumberOrIdOrName, long withinHours) {
         Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
+        long now = time.millis();
+        String key = project.getId() + "|upcoming|" + withinHours;
+        long version = projectVersions.getOrDefault(project.getId(), 0L);
+        QueryEvent ev = QueryEvent.start("listUpcomingTasks", project.getId());
+
+        List<Task> cached = queryCache.get(key, version, now);
+        if (cached != null) {
+            QueryEvent.finish(ev, 0, cached.size());
+            return cached;
+        }
+
         List<Task> result = new ArrayList<>();
+        long windowMillis = (withinHours * 60 + 1) * 60_000L; // isWithinHours: tam dakika karşılaştırması
+        long expiresAt = QueryCache.NEVER;
 
         for (Task t : project.getTasks()) {
+            if (t instanceof RecurringTask r) {
+                // pencere: isWithinHours ile aynı (kalan tam dakika <= saat*60)
+                for (Task o : r.getOccurrences(now, now + windowMillis - 1)) {
+                    if (o.isCompleted()) continue;
+                    result.add(o);
+                    expiresAt = Math.min(expiresAt, o.getDeadline().getDueMillis() + 1);
+                }
+                long next = r.nextOccurrenceAfter(now + windowMillis - 1);
+                if (next != Long.MAX_VALUE) expiresAt = Math.min(expiresAt, next - windowMillis + 1);
+                continue;
+            }
             if (t.isCompleted()) continue;
-            if (t.getDeadline().isOverdue()) continue;
-            if (t.getDeadline().isWithinHours(withinHours)) result.add(t);
+            if (t.getDeadline().isOverdue(now)) continue;
+
+            long due = t.getDeadline().getDueMillis();
+            if (t.getDeadline().isWithinHours(withinHours, now)) {
+                result.add(t);
+                expiresAt = Math.min(expiresAt, due + 1);                // süresi geçince çıkar
+            } else {
+                expiresAt = Math.min(expiresAt, due - windowMillis + 1); // pencereye girince eklenir
+            }
         }
 
-        result.sort(
-                Comparator.comparing(Task::getPriority, Comparator.comparingInt(Priority::getLevel))
-                        .reversed()
-                        .thenComparing(x -> x.getDeadline().getDue())
-        );
+        result.sort(PRIORITY_THEN_DEADLINE);
+        queryCache.put(key, version, expiresAt, result);
+        QueryEvent.finish(ev, project.getTasks().size(), result.size());
         return result;
     }
 
+    /** Projedeki görevler (önbellekli; proje değişene kadar tekrar sıralanmaz). */
     public List<Task> listProjectTasks(String projectNumberOrIdOrName, Boolean completedFilter) {
         Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
+        String key = project.getId() + "|tasks|" + completedFilter;
+        long version = projectVersions.getOrDefault(project.getId(), 0L);
+        QueryEvent ev = QueryEvent.start("listProjectTasks", project.getId());
+
+        List<Task> cached = queryCache.get(key, version, time.millis());
+        if (cached != null) {
+            QueryEvent.finish(ev, 0, cached.size());
+            return cached;
+        }
+
         List<Task> result = new ArrayList<>();
 
         for (Task t : project.getTasks()) {
             if (completedFilter == null || t.isCompleted() == completedFilter) result.add(t);
         }
 
-        result.sort(
-                Comparator.comparing(Task::isCompleted)
-                        .thenComparing(Comparator.comparing(Task::getPriority, Comparator.comparingInt(Priority::getLevel)).reversed())
-                        .thenComparing(x -> x.getDeadline().getDue())
-        );
+        result.sort(Comparator.comparing(Task::isCompleted).thenComparing(PRIORITY_THEN_DEADLINE));
+        queryCache.put(key, version, QueryCache.NEVER, result);
+        QueryEvent.finish(ev, project.getTasks().size(), result.size());
         return result;
     }
 
@@ -223,6 +723,13 @@ public class ProjectManager {
         }
 
         Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
+        QueryEvent ev = QueryEvent.start("searchProjectTasks", project.getId());
+        List<Task> result = searchProject(project, keyword, searchInDescription, completedFilter);
+        QueryEvent.finish(ev, project.getTasks().size(), result.size());
+        return result;
+    }
+
+    private List<Task> searchProject(Project project, String keyword, boolean searchInDescription, Boolean completedFilter) {
         String k = keyword.trim().toLowerCase();
 
         List<Task> result = new ArrayList<>();
@@ -230,22 +737,10 @@ public class ProjectManager {
         for (Task t : project.getTasks()) {
             if (completedFilter != null && t.isCompleted() != completedFilter) continue;
 
-            boolean hitTitle = t.getTitle() != null && t.getTitle().toLowerCase().contains(k);
-            boolean hitDesc = false;
-
-            if (searchInDescription) {
-                String d = t.getDescription();
-                hitDesc = d != null && d.toLowerCase().contains(k);
-            }
-
-            if (hitTitle || hitDesc) result.add(t);
+            if (matchesKeyword(t, k, searchInDescription)) result.add(t);
         }
 
-        result.sort(
-                Comparator.comparing(Task::getPriority, Comparator.comparingInt(Priority::getLevel))
-                        .reversed()
-                        .thenComparing(x -> x.getDeadline().getDue())
-        );
+        result.sort(PRIORITY_THEN_DEADLINE);
 
         return result;
     }
@@ -257,53 +752,235 @@ public class ProjectManager {
                                                  Long onlyUpcomingWithinHours,
                                                  int limit) {
 
-        List<Task> base = searchProjectTasks(projectNumberOrIdOrName, keyword, searchInDescription, completedFilter);
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("Arama kelimesi boş olamaz.");
+        }
+
+        Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
+        QueryEvent ev = QueryEvent.start("searchProjectTasksAdvanced", project.getId());
+        List<Task> base = searchProject(project, keyword, searchInDescription, completedFilter);
 
-        LocalDateTime now = LocalDateTime.now();
+        long now = time.millis();
         List<Task> filtered = new ArrayList<>();
+        Collection<Task> candidates = onlyUpcomingWithinHours == null
+                ? base
+                : RecurringTask.expand(base, now, now + (onlyUpcomingWithinHours + 1) * 3_600_000L - 1);
 
-        for (Task t : base) {
+        for (Task t : candidates) {
             if (onlyUpcomingWithinHours == null) {
                 filtered.add(t);
                 continue;
             }
 
             if (t.isCompleted()) continue;
-            if (t.getDeadline().isOverdue()) continue;
+            if (t.getDeadline().isOverdue(now)) continue;
 
-            long hoursLeft = Duration.between(now, t.getDeadline().getDue()).toHours();
+            long hoursLeft = t.getDeadline().minutesUntil(now) / 60;
             if (hoursLeft >= 0 && hoursLeft <= onlyUpcomingWithinHours) filtered.add(t);
         }
 
-        filtered.sort(Comparator.comparing(x -> x.getDeadline().getDue()));
+        filtered.sort(BY_DEADLINE);
 
+        // taranan: projedeki görevler + aralık için üretilen tekrarlar
+        long scanned = project.getTasks().size() + Math.max(0, candidates.size() - base.size());
         if (limit > 0 && filtered.size() > limit) {
+            QueryEvent.finish(ev, scanned, limit);
             return new ArrayList<>(filtered.subList(0, limit));
         }
+        QueryEvent.finish(ev, scanned, filtered.size());
         return filtered;
     }
 
+    private static boolean matchesKeyword(Task t, String lowerKeyword, boolean searchInDescription) {
+        if (t.getTitle() != null && t.getTitle().toLowerCase().contains(lowerKeyword)) return true;
+        if (!searchInDescription) return false;
+        String d = t.getDescription();
+        return d != null && d.toLowerCase().contains(lowerKeyword);
+    }
+
+    /* ===================== CROSS-PROJECT (PARALEL) ===================== */
+
+    /**
+     * Tüm görevlerde (projeden bağımsız) yaklaşan görevleri listeler.
+     *
+     * @param withinHours kaç saat içinde
+     * @param priorityFilter null ise tüm öncelikler, değilse sadece bu öncelik
+     */
+    public List<Task> listUpcomingTasksAcrossProjects(long withinHours, Priority priorityFilter) {
+        if (withinHours < 0) throw new IllegalArgumentException("hours negatif olamaz.");
+        long now = time.millis();
+
+        long until = now + (withinHours * 60 + 1) * 60_000L - 1;
+
+        QueryEvent ev = QueryEvent.start("listUpcomingTasksAcrossProjects", null);
+        List<Task> result = scanAllTasks(t -> !t.isCompleted()
+                        && (priorityFilter == null || t.getPriority() == priorityFilter)
+                        && t.getDeadline().isWithinHours(withinHours, now),
+                PRIORITY_THEN_DEADLINE, now, until);
+        QueryEvent.finish(ev, tasks.size(), result.size());
+        return result;
+    }
+
+    /**
+     * Tüm görevlerde (projeden bağımsız) anahtar kelime araması yapar.
+     */
+    public List<Task> searchTasksAcrossProjects(String keyword,
+                                                boolean searchInDescription,
+                                                Boolean completedFilter) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("Arama kelimesi boş olamaz.");
+        }
+        String k = keyword.trim().toLowerCase();
+
+        QueryEvent ev = QueryEvent.start("searchTasksAcrossProjects", null);
+        List<Task> result = scanAllTasks(t -> (completedFilter == null || t.isCompleted() == completedFilter)
+                        && matchesKeyword(t, k, searchInDescription),
+                PRIORITY_THEN_DEADLINE, 0, -1);
+        QueryEvent.finish(ev, tasks.size(), result.size());
+        return result;
+    }
+
+    /**
+     * Görev deposunu tarar, filtreler ve sıralar.
+     *
+     * <p>
+     * Görev sayısı {@link #parallelThreshold} değerine ulaşırsa tarama paralel stream ile
+     * ortak ForkJoin (work-stealing) havuzunda parçalara bölünür; her parça kendi içinde
+     * filtrelenip sıralanır ve sıralı kısmi sonuçlar birleştirilir.
+     * </p>
+     *
+     * @param expandFrom tekrarlanan seriler bu aralıktaki tekrarlarıyla değiştirilir
+     *                   ({@code expandTo < expandFrom} ise seriler olduğu gibi taranır)
+     */
+    private List<Task> scanAllTasks(Predicate<Task> filter, Comparator<Task> order, long expandFrom, long expandTo) {
+        Stream<Task> stream = tasks.values().stream();
+        if (tasks.size() >= parallelThreshold) stream = stream.parallel();
+        if (expandTo >= expandFrom) {
+            stream = stream.flatMap(t -> t instanceof RecurringTask r
+                    ? r.getOccurrences(expandFrom, expandTo).stream().map(Task.class::cast)
+                    : Stream.of(t));
+        }
+
+        return stream.filter(filter)
+                .sorted(order)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
     public List<Task> runReminders(String projectNumberOrIdOrName, long withinMinutes) {
         Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
-        return reminderService.getTasksToRemind(project.getTasks(), withinMinutes);
+        QueryEvent ev = QueryEvent.start("runReminders", project.getId());
+        List<Task> remind = reminderService.getTasksToRemind(project.getTasks(), withinMinutes);
+        QueryEvent.finish(ev, project.getTasks().size(), remind.size());
+
+        NotificationDispatcher dispatcher = notificationDispatcher;
+        if (dispatcher != null && !remind.isEmpty()) {
+            dispatcher.offer(project.getId(), Notification.ofAll(remind, time.millis()));
+        }
+        return remind;
+    }
+
+    /**
+     * Tüm projelerde, verilen tüm aralıklar için hatırlatmaları tek seferde çalıştırır.
+     *
+     * <p>
+     * Her görev, proje başına tek geçişte tüm aralıklara karşı değerlendirilir. Toplam görev sayısı
+     * {@link #parallelThreshold} değerine ulaşırsa projeler paralel taranır. Tekrar kontrolü
+     * {@link #runReminders} ile aynıdır: bir görev bir aralık için yalnızca bir kez bildirilir
+     * (birden fazla projedeyse yalnızca birinde çıkar). Bu sırada başka thread yazmamalıdır.
+     * </p>
+     *
+     * @param windowsMinutes aralıklar (dakika), örn. 15, 60, 1440
+     */
+    public ReminderSweepResult runReminderSweep(long... windowsMinutes) {
+        if (windowsMinutes.length == 0) throw new IllegalArgumentException("En az bir aralık gerekli.");
+        long[] windows = windowsMinutes.clone();
+        long now = time.millis();
+        QueryEvent ev = QueryEvent.start("runReminderSweep", null);
+
+        List<Project> list = getProjectsAsList();
+        Stream<Project> stream = list.stream();
+        if (tasks.size() >= parallelThreshold) stream = stream.parallel();
+
+        List<List<List<Task>>> perProject = stream
+                .map(p -> reminderService.getTasksToRemind(p.getTasks(), windows, now))
+                .toList();
+
+        ReminderSweepResult result = new ReminderSweepResult(windows);
+        NotificationDispatcher dispatcher = notificationDispatcher;
+        long scanned = 0;
+        for (int i = 0; i < list.size(); i++) {
+            String projectId = list.get(i).getId();
+            scanned += list.get(i).getTasks().size();
+            List<List<Task>> byWindow = perProject.get(i);
+            result.put(projectId, byWindow);
+
+            if (dispatcher != null) {
+                for (List<Task> remind : byWindow) {
+                    if (!remind.isEmpty()) dispatcher.offer(projectId, Notification.ofAll(remind, now));
+                }
+            }
+        }
+        QueryEvent.finish(ev, scanned, result.getTotal());
+        return result;
+    }
+
+    /**
+     * {@link #runReminderSweep(long...)} sonucu: proje -> aralık -> bildirilecek görevler.
+     * Projeler proje sırasına göre, aralıklar verildiği sırayla tutulur; boş gruplar da yer alır.
+     */
+    public static class ReminderSweepResult {
+        private final long[] windows;
+        private final Map<String, List<List<Task>>> byProject = new LinkedHashMap<>();
+        private int total;
+
+        ReminderSweepResult(long[] windows) {
+            this.windows = windows;
+        }
+
+        void put(String projectId, List<List<Task>> byWindow) {
+            byProject.put(projectId, byWindow);
+            for (List<Task> l : byWindow) total += l.size();
+        }
+
+        /** Projenin aralık sırasıyla grupları; proje yoksa null. */
+        List<List<Task>> groups(String projectId) {
+            return byProject.get(projectId);
+        }
+
+        public long[] getWindows() {
+            return windows.clone();
+        }
+
+        public Set<String> getProjectIds() {
+            return Collections.unmodifiableSet(byProject.keySet());
+        }
+
+        /** @return projenin bu aralıktaki hatırlatmaları (proje/aralık yoksa boş liste) */
+        public List<Task> get(String projectId, long windowMinutes) {
+            List<List<Task>> byWindow = byProject.get(projectId);
+            if (byWindow == null) return Collections.emptyList();
+            for (int i = 0; i < windows.length; i++) {
+                if (windows[i] == windowMinutes) return Collections.unmodifiableList(byWindow.get(i));
+            }
+            return Collections.emptyList();
+        }
+
+        /** Toplam hatırlatma sayısı (tüm projeler ve aralıklar). */
+        public int getTotal() {
+            return total;
+        }
     }
 
     /* ===================== CSV EXPORT / IMPORT ===================== */
 
+    /** Proje CSV'si; satırlar {@link #snapshot()} üzerinden okunur (yazanlar beklemez). */
     public String exportProjectAsCSV(String projectNumberOrIdOrName) {
         Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
+        QueryEvent ev = QueryEvent.start("exportProjectAsCSV", project.getId());
 
         StringBuilder sb = new StringBuilder();
-        sb.append("title,priority,deadline,completed\n");
-
-        for (Task t : project.getTasks()) {
-            sb.append(CsvUtil.escape(t.getTitle())).append(",")
-              .append(CsvUtil.escape(t.getPriority().name())).append(",")
-              .append(CsvUtil.escape(t.getDeadline().getDue().toString())).append(",")
-              .append(CsvUtil.escape(Boolean.toString(t.isCompleted())))
-              .append("\n");
-        }
-
+        int rows = snapshot.appendProjectCSV(sb, project.getId());
+        QueryEvent.finish(ev, rows, rows);
         return sb.toString();
     }
 
@@ -311,29 +988,202 @@ public class ProjectManager {
         if (filePath == null || filePath.isBlank()) throw new IllegalArgumentException("filePath boş olamaz.");
 
         String csv = exportProjectAsCSV(projectNumberOrIdOrName);
+        return writeFile(filePath, csv);
+    }
+
+    /**
+     * Birden fazla projeyi paralel olarak sıkıştırılmış arşive aktarır (bkz. {@link BulkExporter}).
+     *
+     * @param projectSelections proje seçimleri (numara/ID/isim); null veya boş ise tüm projeler
+     * @param targetPath ZIP için dosya yolu, GZIP_FILES için klasör yolu
+     * @param parallelism aynı anda hazırlanan en fazla proje sayısı
+     */
+    public BulkExporter.Result exportProjectsArchive(List<String> projectSelections,
+                                                     String targetPath,
+                                                     BulkExporter.Format format,
+                                                     int parallelism) throws IOException {
+        if (targetPath == null || targetPath.isBlank()) throw new IllegalArgumentException("targetPath boş olamaz.");
+
+        List<Project> selected;
+        if (projectSelections == null || projectSelections.isEmpty()) {
+            selected = getProjectsAsList();
+        } else {
+            selected = new ArrayList<>(projectSelections.size());
+            for (String sel : projectSelections) selected.add(getProjectByNumberOrIdOrName(sel));
+        }
+
+        List<String> ids = new ArrayList<>(selected.size());
+        for (Project p : selected) ids.add(p.getId());
+
+        QueryEvent ev = QueryEvent.start("exportProjectsArchive", ids.size() == 1 ? ids.get(0) : null);
+        BulkExporter.Result result = new BulkExporter(parallelism).export(snapshot, ids, Path.of(targetPath), format);
+        QueryEvent.finish(ev, result.getTotalRows(), result.getTotalRows());
+        return result;
+    }
+
+    private static Path writeFile(String filePath, String content) throws IOException {
         Path path = Path.of(filePath);
 
         if (path.getParent() != null && !Files.exists(path.getParent())) {
             Files.createDirectories(path.getParent());
         }
 
-        Files.writeString(path, csv, StandardCharsets.UTF_8);
+        Files.writeString(path, content, StandardCharsets.UTF_8);
         return path;
     }
 
+    /* ===================== DELTA CSV ===================== */
+
+    /**
+     * Delta CSV sütun başlığı: işlem ve sürüm sütunları + {@link TaskCsvFormat#COLUMNS}.
+     * {@link #importTasksFromCSV} {@code op} sütununu görünce delta modunda çalışır.
+     */
+    public static final String DELTA_HEADER = "op,version," + String.join(",", TaskCsvFormat.COLUMNS);
+
+    /**
+     * Verilen sürümden (checkpoint) sonra oluşturulan, değişen, tamamlanan veya silinen
+     * görevleri delta CSV olarak döndürür.
+     *
+     * <p>
+     * {@code U} satırı görevin güncel halini (upsert), {@code D} satırı silinen görevi (tombstone)
+     * belirtir. Satırlar sürüm sırasına göre yazılır. Süre projenin büyüklüğüyle değil, değişiklik
+     * sayısıyla orantılıdır (bkz. {@link ProjectChangeIndex}).
+     * </p>
+     *
+     * @param sinceVersion önceki export'ta alınan {@link #getCurrentVersion()} değeri (ilk seferde 0)
+     * @throws IllegalArgumentException checkpoint'ten sonraki tombstone'lar artık tutulmuyorsa
+     *         (bkz. {@link #setTombstoneRetention(long)}); bu durumda tam export gerekir
+     */
+    public String exportProjectDeltaAsCSV(String projectNumberOrIdOrName, long sinceVersion) {
+        Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
+        QueryEvent ev = QueryEvent.start("exportProjectDeltaAsCSV", project.getId());
+
+        StringBuilder sb = new StringBuilder();
+        int rows = appendProjectDeltaCSV(sb, project, sinceVersion);
+        QueryEvent.finish(ev, rows, rows);
+        return sb.toString();
+    }
+
+    /** @return yazılan satır sayısı (U + D) */
+    private int appendProjectDeltaCSV(StringBuilder sb, Project project, long sinceVersion) {
+        if (sinceVersion > 0 && sinceVersion < changeIndex.getExpiredUpTo()) {
+            throw new IllegalArgumentException("Checkpoint çok eski: " + sinceVersion + " (silme kayıtları "
+                    + changeIndex.getExpiredUpTo() + " sürümüne kadar temizlendi); tam export gerekli.");
+        }
+        Iterator<Map.Entry<Long, String>> changed = changeIndex.changedSince(project.getId(), sinceVersion).entrySet().iterator();
+        Iterator<Map.Entry<Long, String>> deleted = changeIndex.deletedSince(project.getId(), sinceVersion).entrySet().iterator();
+
+        sb.append(TaskCsvFormat.MARKER).append(",").append(TaskCsvFormat.VERSION).append("\n");
+        sb.append(DELTA_HEADER).append("\n");
+
+        int rows = 0;
+        Map.Entry<Long, String> c = changed.hasNext() ? changed.next() : null;
+        Map.Entry<Long, String> d = deleted.hasNext() ? deleted.next() : null;
+        while (c != null || d != null) {
+            if (d == null || (c != null && c.getKey() < d.getKey())) {
+                TaskCsvFormat.appendRow(sb, "U," + c.getKey() + ",", tasks.get(c.getValue()));
+                c = changed.hasNext() ? changed.next() : null;
+            } else {
+                sb.append("D,").append(d.getKey()).append(",")
+                  .append(CsvUtil.escape(d.getValue()))
+                  .append(",".repeat(TaskCsvFormat.COLUMNS.size() - 1))
+                  .append("\n");
+                d = deleted.hasNext() ? deleted.next() : null;
+            }
+            rows++;
+        }
+        return rows;
+    }
+
+    public static class DeltaExportResult {
+        private final Path path;
+        private final int rows;
+        private final long checkpoint;
+
+        public DeltaExportResult(Path path, int rows, long checkpoint) {
+            this.path = path;
+            this.rows = rows;
+            this.checkpoint = checkpoint;
+        }
+
+        public Path getPath() { return path; }
+        public int getRows() { return rows; }
+
+        /** Bir sonraki delta export'ta {@code sinceVersion} olarak verilecek değer. */
+        public long getCheckpoint() { return checkpoint; }
+    }
+
+    public DeltaExportResult exportProjectDeltaCSVToFile(String projectNumberOrIdOrName,
+                                                         long sinceVersion,
+                                                         String filePath) throws IOException {
+        if (filePath == null || filePath.isBlank()) throw new IllegalArgumentException("filePath boş olamaz.");
+
+        Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
+        long checkpoint = getCurrentVersion();
+        QueryEvent ev = QueryEvent.start("exportProjectDeltaCSVToFile", project.getId());
+
+        StringBuilder sb = new StringBuilder();
+        int rows = appendProjectDeltaCSV(sb, project, sinceVersion);
+        QueryEvent.finish(ev, rows, rows);
+
+        return new DeltaExportResult(writeFile(filePath, sb.toString()), rows, checkpoint);
+    }
+
+    /**
+     * Tombstone kayıtlarından verilen sürüme kadar olanları siler.
+     * Tüm tüketiciler bu sürümü geçtikten sonra çağrılmalıdır.
+     */
+    public void compactTombstones(long upToVersion) {
+        changeIndex.expire(upToVersion);
+    }
+
+    /**
+     * Tombstone'ların tutulduğu pencere (sıra numarası cinsinden, varsayılan 262144). Daha eski
+     * silmeler {@link #compactTombstones} çağrılmasa da kendiliğinden atılır; böylece silme
+     * kayıtları sınırsız büyümez. Bu pencereden eski checkpoint'le delta istenirse hata verilir.
+     */
+    public void setTombstoneRetention(long versions) {
+        changeIndex.setRetention(versions);
+    }
+
+    /** Şu an tutulan tombstone sayısı (tüm projeler). */
+    public int getTombstoneCount() {
+        return changeIndex.getTombstoneCount();
+    }
+
     public static class ImportResult {
         private final int added;
         private final int skipped;
+        private final int updated;
+        private final int deleted;
 
         public ImportResult(int added, int skipped) {
+            this(added, skipped, 0, 0);
+        }
+
+        public ImportResult(int added, int skipped, int updated, int deleted) {
             this.added = added;
             this.skipped = skipped;
+            this.updated = updated;
+            this.deleted = deleted;
         }
 
         public int getAdded() { return added; }
         public int getSkipped() { return skipped; }
+        public int getUpdated() { return updated; }
+        public int getDeleted() { return deleted; }
     }
 
+    /**
+     * CSV dosyasındaki görevleri projeye ekler.
+     *
+     * <p>
+     * Sütunlar başlığa göre eşlenir (bkz. {@link TaskCsvFormat}); eski 4 sütunlu dosyalar da desteklenir.
+     * {@code id} sütunu doluysa tekrar kontrolü ID ile, değilse başlık+deadline anahtarıyla yapılır.
+     * ID'si yönetimde olan ama bu projede olmayan görev projeye atanır (güncellenen sayılır).
+     * Başlıkta {@code op} sütunu varsa dosya delta olarak uygulanır.
+     * </p>
+     */
     public ImportResult importTasksFromCSV(String projectNumberOrIdOrName, String filePath) throws IOException {
         if (filePath == null || filePath.isBlank()) throw new IllegalArgumentException("CSV dosya yolu boş olamaz.");
 
@@ -342,47 +1192,295 @@ public class ProjectManager {
 
         if (!Files.exists(path)) throw new IllegalArgumentException("CSV dosyası bulunamadı: " + path.toAbsolutePath());
 
-        Set<String> existingKeys = new HashSet<>();
-        for (Task t : project.getTasks()) existingKeys.add(makeKey(t.getTitle(), t.getDeadline().getDue()));
+        QueryEvent ev = QueryEvent.start("importTasksFromCSV", project.getId());
+        try (BufferedReader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            List<String> header = CsvUtil.readRecord(in);
+            if (header != null && TaskCsvFormat.isMarker(header)) {
+                TaskCsvFormat.checkVersion(header);
+                header = CsvUtil.readRecord(in);
+            }
+            if (header == null) return finishImport(ev, new ImportResult(0, 0));
 
-        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
-        if (lines.isEmpty()) return new ImportResult(0, 0);
+            TaskCsvFormat.Columns cols = new TaskCsvFormat.Columns(header);
+            RecordSource src = () -> CsvUtil.readRecord(in);
+            return finishImport(ev, cols.has("op") ? applyDelta(project, cols, src) : importRows(project, cols, src));
+        }
+    }
 
-        int added = 0, skipped = 0;
+    /** Taranan: işlenen satırlar; döndürülen: eklenen/güncellenen/silinen görevler. */
+    private static ImportResult finishImport(QueryEvent ev, ImportResult r) {
+        QueryEvent.finish(ev, r.getAdded() + r.getSkipped() + r.getUpdated() + r.getDeleted(),
+                r.getAdded() + r.getUpdated() + r.getDeleted());
+        return r;
+    }
 
-        for (int i = 1; i < lines.size(); i++) {
-            String line = lines.get(i).trim();
-            if (line.isEmpty()) continue;
+    /**
+     * Önceden okunmuş CSV kayıtlarını projeye aktarır ({@link #importTasksFromCSV} ile aynı kurallar).
+     * Dosyaların ayrıştırılması paralel, uygulanması bu yöneticide sıralı yapılabilsin diye vardır
+     * (bkz. {@link Bootstrap}).
+     *
+     * @param header işaret satırı ({@link TaskCsvFormat#MARKER}) çıkarılmış başlık
+     */
+    ImportResult importRecords(String projectNumberOrIdOrName, List<String> header, List<List<String>> records) {
+        Project project = getProjectByNumberOrIdOrName(projectNumberOrIdOrName);
+        TaskCsvFormat.Columns cols = new TaskCsvFormat.Columns(header);
+        Iterator<List<String>> it = records.iterator();
+        RecordSource src = () -> it.hasNext() ? it.next() : null;
+        QueryEvent ev = QueryEvent.start("importRecords", project.getId());
+        try {
+            return finishImport(ev, cols.has("op") ? applyDelta(project, cols, src) : importRows(project, cols, src));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // bellekteki kayıtlarda oluşmaz
+        }
+    }
 
-            List<String> parts = CsvUtil.parseLine(line);
-            if (parts.size() < 4) continue;
+    /** CSV kayıt kaynağı; kayıt kalmadığında null döner. */
+    private interface RecordSource {
+        List<String> next() throws IOException;
+    }
 
-            String title = parts.get(0);
-            Priority priority = Priority.valueOf(parts.get(1));
-            LocalDateTime deadline = LocalDateTime.parse(parts.get(2));
-            boolean completed = Boolean.parseBoolean(parts.get(3));
+    private ImportResult importRows(Project project, TaskCsvFormat.Columns cols, RecordSource in) throws IOException {
+        Set<Long> existingKeys = new HashSet<>();
+        for (Task t : project.getTasks()) {
+            existingKeys.add(TaskCsvFormat.dedupKey(t.getTitle(), t.getDeadline().getDueMillis()));
+        }
+
+        int added = 0, skipped = 0, updated = 0;
 
-            String key = makeKey(title, deadline);
-            if (existingKeys.contains(key)) {
+        List<String> parts;
+        while ((parts = in.next()) != null) {
+            if (isBlankRecord(parts)) continue;
+
+            if (TaskCsvFormat.TYPE_OCCURRENCE.equals(cols.get(parts, "type"))) {
+                if (applyOccurrenceRow(cols, parts)) updated++;
+                else skipped++;
+                continue;
+            }
+
+            String title = cols.get(parts, "title");
+            String priority = cols.get(parts, "priority");
+            LocalDateTime deadline = cols.getDateTime(parts, "deadline");
+            if (title == null || priority == null || deadline == null) continue;
+
+            String id = cols.get(parts, "id");
+            boolean hasId = id != null && !id.isBlank();
+            Task existing = hasId ? tasks.get(id) : null;
+            if (existing != null) {
+                // başka projede olan görev (örn. A'nın dışa aktarımı B'ye) bu projeye de atanır
+                if (existing.getProjectIds().contains(project.getId())) {
+                    skipped++;
+                } else {
+                    project.addTask(existing);
+                    emitTask(ChangeEvent.Type.TASK_ASSIGNED, existing, project.getId());
+                    existingKeys.add(TaskCsvFormat.dedupKey(existing.getTitle(), existing.getDeadline().getDueMillis()));
+                    updated++;
+                }
+                continue;
+            }
+
+            long key = TaskCsvFormat.dedupKey(title, TimeSource.toMillis(deadline));
+            if (!hasId && existingKeys.contains(key)) {
                 skipped++;
                 continue;
             }
 
-            Task task = new Task(title, "", new Deadline(deadline), priority);
-            if (completed) task.complete();
+            Task task = newTaskFromRow(cols, parts, hasId ? id : null, title, Priority.valueOf(priority), deadline);
 
             tasks.put(task.getId(), task);
             project.addTask(task);
+            emitTask(ChangeEvent.Type.TASK_CREATED, task, project.getId());
+            assignListedProjects(cols, parts, task, project);
 
             existingKeys.add(key);
             added++;
         }
 
-        return new ImportResult(added, skipped);
+        return new ImportResult(added, skipped, updated, 0);
+    }
+
+    private Task newTaskFromRow(TaskCsvFormat.Columns cols, List<String> parts,
+                                String id, String title, Priority priority, LocalDateTime deadline) {
+        String desc = cols.get(parts, "description");
+        desc = desc == null ? "" : strings.intern(desc);
+        title = strings.intern(title);
+
+        LocalDateTime start = cols.getDateTime(parts, "start");
+        LocalDateTime end = cols.getDateTime(parts, "end");
+
+        String type = cols.get(parts, "type");
+        String rule = cols.get(parts, "recurrence");
+
+        Task task;
+        if (TaskCsvFormat.TYPE_TIMED.equals(type) && start != null && end != null) {
+            task = new TimedTask(id, title, desc, new Deadline(deadline), priority, start, end);
+        } else if (TaskCsvFormat.TYPE_RECURRING.equals(type) && rule != null && !rule.isBlank()) {
+            RecurringTask r = new RecurringTask(id, title, desc, new Deadline(deadline), priority, Recurrence.parse(rule));
+            for (long index : TaskCsvFormat.parseIndices(cols.get(parts, "skipped"))) r.skipOccurrence(index);
+            task = r;
+        } else {
+            task = new Task(id, title, desc, new Deadline(deadline), priority);
+        }
+
+        if (Boolean.parseBoolean(cols.get(parts, "completed"))) task.complete();
+        return task;
+    }
+
+    /**
+     * {@code OCCURRENCE} satırını ({@code id = seriID#numara}) serisindeki tekrara uygular.
+     *
+     * @return tekrar değiştiyse true; seri yoksa, tekrar atlanmışsa veya fark yoksa false
+     */
+    private boolean applyOccurrenceRow(TaskCsvFormat.Columns cols, List<String> parts) {
+        String id = cols.get(parts, "id");
+        int hash = id == null ? -1 : id.lastIndexOf('#');
+        if (hash < 0 || !(tasks.get(id.substring(0, hash)) instanceof RecurringTask series)) return false;
+
+        RecurringTask.Occurrence o;
+        try {
+            o = series.getOccurrence(Long.parseLong(id.substring(hash + 1)));
+        } catch (IllegalArgumentException e) {
+            return false; // geçersiz numara veya atlanmış tekrar
+        }
+
+        Task.Patch patch = rowPatch(o.snapshot(), cols, parts);
+        if (patch.isEmpty()) return false;
+        o.update(patch);
+        emitTask(ChangeEvent.Type.TASK_UPDATED, o, null);
+        return true;
+    }
+
+    /** Satırdaki, mevcut halden farklı alanlar; eksik (boş) sütunlar değişmemiş sayılır. */
+    private Task.Patch rowPatch(Task.Snapshot cur, TaskCsvFormat.Columns cols, List<String> parts) {
+        String title = cols.get(parts, "title");
+        String desc = cols.get(parts, "description");
+        String priority = cols.get(parts, "priority");
+        LocalDateTime deadline = cols.getDateTime(parts, "deadline");
+
+        Task.Patch patch = new Task.Patch();
+        if (title != null && !title.isBlank() && !cur.getTitle().equals(title)) patch.title(strings.intern(title));
+        if (desc != null && !desc.equals(cur.getDescription())) patch.description(strings.intern(desc));
+        if (priority != null && !priority.isBlank() && cur.getPriority() != Priority.valueOf(priority.trim())) {
+            patch.priority(Priority.valueOf(priority.trim()));
+        }
+        if (deadline != null && cur.getDeadline().getDueMillis() != TimeSource.toMillis(deadline)) patch.deadline(deadline);
+        if (Boolean.parseBoolean(cols.get(parts, "completed")) && !cur.isCompleted()) patch.complete();
+        return patch;
+    }
+
+    /** {@code projects} sütunundaki, bu yöneticide bulunan diğer projelere de atar. */
+    private void assignListedProjects(TaskCsvFormat.Columns cols, List<String> parts, Task task, Project target) {
+        String listed = cols.get(parts, "projects");
+        if (listed == null || listed.isBlank()) return;
+
+        for (String pid : listed.split(";")) {
+            if (pid.equals(target.getId()) || task.getProjectIds().contains(pid)) continue;
+
+            Project other = projects.get(pid);
+            if (other != null) {
+                other.addTask(task);
+                emitTask(ChangeEvent.Type.TASK_ASSIGNED, task, other.getId());
+            }
+        }
+    }
+
+    private static boolean isBlankRecord(List<String> parts) {
+        return parts.size() == 1 && parts.get(0).isBlank();
     }
 
-    private String makeKey(String title, LocalDateTime deadline) {
-        String t = (title == null) ? "" : title.trim().toLowerCase();
-        return t + "||" + deadline.toString();
+    /**
+     * Delta CSV satırlarını uygular. Görevler ID ile eşleştirilir; aynı dosyanın
+     * tekrar uygulanması sonucu değiştirmez (idempotent).
+     *
+     * <p>
+     * Mevcut görevde yalnızca satırda dolu olan sütunlar uygulanır (örn. {@code op,id,priority}
+     * başlıklı dosya sadece önceliği değiştirir). Yeni görev satırında başlık, öncelik veya deadline
+     * eksikse satır atlanır.
+     * </p>
+     */
+    private ImportResult applyDelta(Project project, TaskCsvFormat.Columns cols, RecordSource in) throws IOException {
+        int added = 0, skipped = 0, updated = 0, deleted = 0;
+
+        List<String> parts;
+        while ((parts = in.next()) != null) {
+            if (isBlankRecord(parts)) continue;
+
+            String op = cols.get(parts, "op");
+            String id = cols.get(parts, "id");
+            if (op == null || id == null || id.isBlank()) continue;
+
+            if ("D".equals(op)) {
+                if (tasks.containsKey(id)) {
+                    deleteTask(id);
+                    deleted++;
+                } else {
+                    skipped++;
+                }
+                continue;
+            }
+            if (!"U".equals(op)) continue;
+
+            if (TaskCsvFormat.TYPE_OCCURRENCE.equals(cols.get(parts, "type"))) {
+                if (applyOccurrenceRow(cols, parts)) updated++;
+                else skipped++;
+                continue;
+            }
+
+            Task existing = tasks.get(id);
+            if (existing == null) {
+                // yeni görev için importRows'taki gibi zorunlu alanlar gerekir
+                String title = cols.get(parts, "title");
+                String priority = cols.get(parts, "priority");
+                LocalDateTime deadline = cols.getDateTime(parts, "deadline");
+                if (title == null || title.isBlank() || priority == null || priority.isBlank() || deadline == null) {
+                    skipped++;
+                    continue;
+                }
+
+                Task task = newTaskFromRow(cols, parts, id, title, Priority.valueOf(priority.trim()), deadline);
+
+                tasks.put(id, task);
+                project.addTask(task);
+                emitTask(ChangeEvent.Type.TASK_CREATED, task, project.getId());
+                assignListedProjects(cols, parts, task, project);
+                added++;
+                continue;
+            }
+
+            // eksik sütunlar (başlıkta olmayan veya boş) "değişmedi" sayılır
+            Task.Patch patch = rowPatch(existing.snapshot(), cols, parts);
+
+            boolean changed = !patch.isEmpty();
+            if (changed) existing.update(patch);
+
+            if (existing instanceof TimedTask tt) {
+                LocalDateTime start = cols.getDateTime(parts, "start");
+                LocalDateTime end = cols.getDateTime(parts, "end");
+                if (start != null && end != null && (!start.equals(tt.getStart()) || !end.equals(tt.getEnd()))) {
+                    tt.setStart(start);
+                    tt.setEnd(end);
+                    changed = true;
+                }
+            }
+            if (existing instanceof RecurringTask r) {
+                long[] have = r.getSkippedIndices();
+                for (long index : TaskCsvFormat.parseIndices(cols.get(parts, "skipped"))) {
+                    if (Arrays.binarySearch(have, index) >= 0) continue;
+                    r.skipOccurrence(index);
+                    changed = true;
+                }
+            }
+            if (changed) emitTask(ChangeEvent.Type.TASK_UPDATED, existing, null);
+
+            if (!existing.getProjectIds().contains(project.getId())) {
+                project.addTask(existing);
+                emitTask(ChangeEvent.Type.TASK_ASSIGNED, existing, project.getId());
+                changed = true;
+            }
+
+            if (changed) updated++;
+            else skipped++;
+        }
+
+        return new ImportResult(added, skipped, updated, deleted);
     }
 }
@@ -0,0 +1,113 @@
+package com.ntp.taskmanager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Proje bazlı listeleme sonuçları için boyutu sınırlı LRU önbellek.
+ *
+ * <p>
+ * Her kayıt, hesaplandığı andaki proje sürümünü ve (zamana bağlı sorgular için) geçerlilik
+ * bitiş zamanını taşır. Proje sürümü değiştiyse veya bitiş zamanı geçtiyse kayıt kullanılmaz.
+ * Thread-safe'tir (aynı anda birden fazla okuyucu çağırabilir).
+ * </p>
+ */
+public final class QueryCache {
+
+    /** Zamana bağlı olmayan sorgular için bitiş zamanı. */
+    static final long NEVER = Long.MAX_VALUE;
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxEntries en fazla kayıt sayısı (0 ise önbellek kapalı)
+     */
+    public QueryCache(int maxEntries) {
+        if (maxEntries < 0) throw new IllegalArgumentException("maxEntries negatif olamaz.");
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Geçerli sonucun kopyasını döndürür; yoksa null.
+     *
+     * @param version projenin güncel sürümü
+     * @param nowMillis {@link TimeSource#millis()} zamanı
+     */
+    synchronized List<Task> get(String key, long version, long nowMillis) {
+        Entry e = entries.get(key);
+        if (e == null || e.version != version || nowMillis >= e.expiresAtMillis) {
+            if (e != null) entries.remove(key);
+            misses++;
+            return null;
+        }
+        hits++;
+        return new ArrayList<>(e.result);
+    }
+
+    /**
+     * @param expiresAtMillis bu zamana gelindiğinde sonuç geçersizdir ({@link #NEVER}: zamana bağlı değil)
+     */
+    synchronized void put(String key, long version, long expiresAtMillis, List<Task> result) {
+        if (maxEntries == 0) return;
+        entries.put(key, new Entry(version, expiresAtMillis, List.copyOf(result)));
+
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        long total = hits + misses;
+        return String.format("QueryCache{size=%d/%d, hits=%d, misses=%d (%.1f%% isabet), evictions=%d}",
+                entries.size(), maxEntries, hits, misses, total == 0 ? 0.0 : hits * 100.0 / total, evictions);
+    }
+
+    private static final class Entry {
+        final long version;
+        final long expiresAtMillis;
+        final List<Task> result;
+
+        Entry(long version, long expiresAtMillis, List<Task> result) {
+            this.version = version;
+            this.expiresAtMillis = expiresAtMillis;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.ntp.taskmanager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Sorgu, hatırlatma ve CSV işlemleri için JDK Flight Recorder olayı.
+ *
+ * <p>
+ * Her olay işlem adını, proje ID'sini (tüm projeleri kapsıyorsa boş), taranan ve döndürülen satır
+ * sayısını ve süreyi taşır. Olaylar yalnızca {@link #setActive(boolean)} ile (veya
+ * {@code -Dtaskmanager.jfr=true}) açıldığında üretilir; kapalıyken maliyet tek bir alan okumasıdır,
+ * nesne oluşturulmaz. Açıkken de bir kayıt (recording) olayı istemiyorsa commit edilmez.
+ * </p>
+ *
+ * <p>
+ * Paketle gelen {@code taskmanager.jfc} profili olayı ve temel JVM olaylarını açar:
+ * </p>
+ * <pre>
+ * java -Dtaskmanager.jfr=true -XX:StartFlightRecording=settings=src/com/ntp/taskmanager/taskmanager.jfc,filename=tm.jfr ...
+ * jfr print --events com.ntp.taskmanager.Query tm.jfr
+ * </pre>
+ */
+@Name("com.ntp.taskmanager.Query")
+@Label("Task Manager Query")
+@Category("Task Manager")
+@Description("ProjectManager, ReminderService ve CSV işlemleri: taranan/döndürülen satır ve süre")
+@StackTrace(false)
+public final class QueryEvent extends Event {
+
+    private static volatile boolean active = Boolean.getBoolean("taskmanager.jfr");
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Project ID")
+    String projectId;
+
+    @Label("Rows Scanned")
+    long rowsScanned;
+
+    @Label("Rows Returned")
+    long rowsReturned;
+
+    private QueryEvent() {
+    }
+
+    /** Olay üretimini açar/kapatır (tüm yöneticiler için). */
+    public static void setActive(boolean active) {
+        QueryEvent.active = active;
+    }
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * İşlemin başında çağrılır.
+     *
+     * @return olay kapalıysa veya hiçbir kayıt istemiyorsa null
+     */
+    static QueryEvent start(String operation, String projectId) {
+        if (!active) return null;
+        QueryEvent e = new QueryEvent();
+        if (!e.isEnabled()) return null;
+        e.operation = operation;
+        e.projectId = projectId;
+        e.begin();
+        return e;
+    }
+
+    /** İşlemin sonunda çağrılır; {@code e} null ise bir şey yapmaz. */
+    static void finish(QueryEvent e, long rowsScanned, long rowsReturned) {
+        if (e == null) return;
+        e.end();
+        if (!e.shouldCommit()) return; // eşiğin altında
+        e.rowsScanned = rowsScanned;
+        e.rowsReturned = rowsReturned;
+        e.commit();
+    }
+}
@@ -0,0 +1,129 @@
+package com.ntp.taskmanager;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Tekrarlanan görevlerin tekrar kuralı (örn. "2 haftada bir, 10 kez").
+ *
+ * <p>
+ * Değişmezdir. Tekrarlar serinin ilk deadline'ından itibaren 0'dan numaralanır;
+ * {@link #occurrenceMillis(long, long)} ile herhangi bir tekrarın zamanı doğrudan hesaplanır,
+ * tekrarlar hiçbir yerde liste olarak tutulmaz. Zamanlar {@link TimeSource} ile aynı yerel duvar
+ * saati epoch-milisaniyesidir.
+ * </p>
+ */
+public final class Recurrence {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY }
+
+    private static final long DAY_MILLIS = 86_400_000L;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final long count;
+    private final long untilMillis;
+
+    private Recurrence(Frequency frequency, int interval, long count, long untilMillis) {
+        this.frequency = Objects.requireNonNull(frequency, "frequency null olamaz.");
+        if (interval <= 0) throw new IllegalArgumentException("interval pozitif olmalı.");
+        if (count < 0) throw new IllegalArgumentException("count negatif olamaz.");
+        this.interval = interval;
+        this.count = count;
+        this.untilMillis = untilMillis;
+    }
+
+    public static Recurrence daily(int interval) {
+        return new Recurrence(Frequency.DAILY, interval, 0, Long.MAX_VALUE);
+    }
+
+    public static Recurrence weekly(int interval) {
+        return new Recurrence(Frequency.WEEKLY, interval, 0, Long.MAX_VALUE);
+    }
+
+    /** Ayın aynı günü; gün o ayda yoksa ayın son günü ({@link LocalDateTime#plusMonths(long)}). */
+    public static Recurrence monthly(int interval) {
+        return new Recurrence(Frequency.MONTHLY, interval, 0, Long.MAX_VALUE);
+    }
+
+    /** @param count en fazla tekrar sayısı (0: sınırsız) */
+    public Recurrence withCount(long count) {
+        return new Recurrence(frequency, interval, count, untilMillis);
+    }
+
+    /** @param until bu zamandan sonra tekrar yok (null: sınırsız) */
+    public Recurrence until(LocalDateTime until) {
+        return new Recurrence(frequency, interval, count, until == null ? Long.MAX_VALUE : TimeSource.toMillis(until));
+    }
+
+    public Frequency getFrequency() { return frequency; }
+    public int getInterval() { return interval; }
+    public long getCount() { return count; }
+
+    /** Son tekrar zamanı sınırı; sınırsızsa null. */
+    public LocalDateTime getUntil() {
+        return untilMillis == Long.MAX_VALUE ? null : TimeSource.toLocalDateTime(untilMillis);
+    }
+
+    /** {@code index}. tekrarın zamanı (kural sınırları kontrol edilmez). */
+    public long occurrenceMillis(long startMillis, long index) {
+        if (frequency == Frequency.MONTHLY) {
+            return TimeSource.toMillis(TimeSource.toLocalDateTime(startMillis).plusMonths(index * interval));
+        }
+        return startMillis + index * stepMillis();
+    }
+
+    /** Tekrar kuralın sınırları (sayı/bitiş) içinde mi? */
+    public boolean isValidIndex(long startMillis, long index) {
+        if (index < 0 || (count > 0 && index >= count)) return false;
+        return untilMillis == Long.MAX_VALUE || occurrenceMillis(startMillis, index) <= untilMillis;
+    }
+
+    /** Zamanı {@code millis} veya sonrası olan ilk tekrarın numarası (sınır kontrolü yapılmaz). */
+    public long firstIndexAtOrAfter(long startMillis, long millis) {
+        if (millis <= startMillis) return 0;
+
+        if (frequency != Frequency.MONTHLY) {
+            long step = stepMillis();
+            return Math.floorDiv(millis - startMillis + step - 1, step);
+        }
+
+        // aylık: ortalama ay uzunluğuyla tahmin et, sonra düzelt
+        long idx = Math.max(0, (millis - startMillis) / (DAY_MILLIS * 30L * interval) - 1);
+        while (occurrenceMillis(startMillis, idx) < millis) idx++;
+        while (idx > 0 && occurrenceMillis(startMillis, idx - 1) >= millis) idx--;
+        return idx;
+    }
+
+    /** CSV biçimi: {@code SIKLIK;aralık;sayı;bitiş} (bitiş sınırsızsa boş), örn. {@code WEEKLY;2;10;}. */
+    String format() {
+        return frequency + ";" + interval + ";" + count + ";" + (untilMillis == Long.MAX_VALUE ? "" : getUntil());
+    }
+
+    /**
+     * {@link #format()} çıktısını okur.
+     *
+     * @throws IllegalArgumentException biçim geçersizse
+     */
+    static Recurrence parse(String text) {
+        String[] p = text == null ? new String[0] : text.trim().split(";", -1);
+        if (p.length != 4) throw new IllegalArgumentException("Geçersiz tekrar kuralı: " + text);
+        try {
+            Recurrence r = new Recurrence(Frequency.valueOf(p[0]), Integer.parseInt(p[1]), Long.parseLong(p[2]), Long.MAX_VALUE);
+            return p[3].isBlank() ? r : r.until(LocalDateTime.parse(p[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Geçersiz tekrar kuralı: " + text, e);
+        }
+    }
+
+    private long stepMillis() {
+        return (frequency == Frequency.DAILY ? DAY_MILLIS : 7 * DAY_MILLIS) * interval;
+    }
+
+    @Override
+    public String toString() {
+        return frequency + "/" + interval
+                + (count > 0 ? " x" + count : "")
+                + (untilMillis != Long.MAX_VALUE ? " -> " + getUntil() : "");
+    }
+}
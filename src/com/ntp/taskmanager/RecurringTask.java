@@ -0,0 +1,204 @@
+package com.ntp.taskmanager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Bir tekrar kuralına ({@link Recurrence}) göre tekrarlanan görev serisi.
+ *
+ * <p>
+ * Seri depoda tek bir görev olarak durur; deadline'ı ilk tekrarın zamanıdır. Tekrarlar
+ * ({@link Occurrence}) yalnızca sorgulanan zaman aralığı için, o an üretilir. Sadece tamamlanan
+ * veya değiştirilen tekrarlar seride saklanır (istisna); atlanan (silinen) tekrarların yalnızca
+ * numarası tutulur. Böylece bellek tekrar sayısıyla değil istisna sayısıyla büyür.
+ * </p>
+ *
+ * <p>
+ * Tekrar ID'si {@code seriID#numara} biçimindedir. Serinin kendisi tamamlanırsa seri biter;
+ * sonraki tekrarlar üretilmez.
+ * </p>
+ */
+public class RecurringTask extends Task {
+
+    private final Recurrence recurrence;
+
+    /** Numara -> saklanan (tamamlanmış/değiştirilmiş) tekrar. */
+    private final TreeMap<Long, Occurrence> exceptions = new TreeMap<>();
+    private final NavigableSet<Long> skipped = new TreeSet<>();
+
+    public RecurringTask(String title, String description, Deadline firstDeadline, Priority priority, Recurrence recurrence) {
+        this(null, title, description, firstDeadline, priority, recurrence);
+    }
+
+    /** Verilen ID ile oluşturur; {@code id} null ise yeni ID üretilir. */
+    RecurringTask(String id, String title, String description, Deadline firstDeadline, Priority priority,
+                  Recurrence recurrence) {
+        super(id, title, description, firstDeadline, priority);
+        this.recurrence = Objects.requireNonNull(recurrence, "recurrence null olamaz.");
+    }
+
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Deadline'ı {@code [fromMillis, toMillis]} aralığında olan tekrarlar (deadline sırasıyla değil,
+     * numara sırasıyla; saklanan istisnalar sonda). Atlanan tekrarlar dahil değildir.
+     */
+    public synchronized List<Occurrence> getOccurrences(long fromMillis, long toMillis) {
+        List<Occurrence> out = new ArrayList<>();
+        if (isCompleted() || toMillis < fromMillis) return out;
+
+        long start = getDeadline().getDueMillis();
+        for (long i = recurrence.firstIndexAtOrAfter(start, fromMillis); recurrence.isValidIndex(start, i); i++) {
+            long due = recurrence.occurrenceMillis(start, i);
+            if (due > toMillis) break;
+            if (exceptions.containsKey(i) || skipped.contains(i)) continue;
+            out.add(new Occurrence(this, i, due));
+        }
+
+        // istisnaların deadline'ı değişmiş olabilir; kendi deadline'larına göre seçilir
+        for (Occurrence o : exceptions.values()) {
+            long due = o.getDeadline().getDueMillis();
+            if (due >= fromMillis && due <= toMillis) out.add(o);
+        }
+        return out;
+    }
+
+    /**
+     * Deadline'ı {@code afterMillis}'ten sonra olan ilk tekrarın zamanı (önbellek geçerliliği için);
+     * yoksa {@link Long#MAX_VALUE}.
+     */
+    public synchronized long nextOccurrenceAfter(long afterMillis) {
+        if (isCompleted()) return Long.MAX_VALUE;
+
+        long start = getDeadline().getDueMillis();
+        long next = Long.MAX_VALUE;
+        for (long i = recurrence.firstIndexAtOrAfter(start, afterMillis + 1); recurrence.isValidIndex(start, i); i++) {
+            if (exceptions.containsKey(i) || skipped.contains(i)) continue;
+            next = recurrence.occurrenceMillis(start, i);
+            break;
+        }
+        for (Occurrence o : exceptions.values()) {
+            long due = o.getDeadline().getDueMillis();
+            if (due > afterMillis) next = Math.min(next, due);
+        }
+        return next;
+    }
+
+    /**
+     * @throws IllegalArgumentException numara kuralın dışındaysa veya tekrar atlanmışsa
+     */
+    public synchronized Occurrence getOccurrence(long index) {
+        Occurrence o = exceptions.get(index);
+        if (o != null) return o;
+
+        long start = getDeadline().getDueMillis();
+        if (!recurrence.isValidIndex(start, index) || skipped.contains(index)) {
+            throw new IllegalArgumentException("Tekrar bulunamadı: " + getId() + "#" + index);
+        }
+        return new Occurrence(this, index, recurrence.occurrenceMillis(start, index));
+    }
+
+    /** Tekrarı atlar (siler). */
+    public synchronized void skipOccurrence(long index) {
+        getOccurrence(index); // geçerlilik kontrolü
+        exceptions.remove(index);
+        skipped.add(index);
+    }
+
+    /** Seride saklanan (tamamlanmış/değiştirilmiş/atlanmış) tekrar sayısı. */
+    public synchronized int getExceptionCount() {
+        return exceptions.size() + skipped.size();
+    }
+
+    /** Atlanan tekrar numaraları (artan sırada). */
+    synchronized long[] getSkippedIndices() {
+        long[] out = new long[skipped.size()];
+        int i = 0;
+        for (long index : skipped) out[i++] = index;
+        return out;
+    }
+
+    /** Saklanan (tamamlanmış/değiştirilmiş) tekrarlar, numara sırasıyla. */
+    synchronized List<Occurrence> getStoredOccurrences() {
+        return new ArrayList<>(exceptions.values());
+    }
+
+    /**
+     * Değiştirilmek üzere olan tekrarı saklar. Aynı numara için daha önce saklanmış bir örnek
+     * varsa o döndürülür; değişiklik ona uygulanmalıdır.
+     */
+    private synchronized Occurrence adopt(Occurrence o) {
+        Occurrence existing = exceptions.putIfAbsent(o.index, o);
+        return existing != null ? existing : o;
+    }
+
+    /**
+     * Görevleri, tekrarlanan serilerin yerine {@code [fromMillis, toMillis]} aralığındaki
+     * tekrarları koyarak döndürür. Listede seri yoksa aynı liste döner.
+     */
+    static Collection<Task> expand(Collection<Task> tasks, long fromMillis, long toMillis) {
+        boolean any = false;
+        for (Task t : tasks) {
+            if (t instanceof RecurringTask) {
+                any = true;
+                break;
+            }
+        }
+        if (!any) return tasks;
+
+        List<Task> out = new ArrayList<>(tasks.size());
+        for (Task t : tasks) {
+            if (t instanceof RecurringTask r) out.addAll(r.getOccurrences(fromMillis, toMillis));
+            else out.add(t);
+        }
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + " (Tekrar: " + recurrence + ")";
+    }
+
+    /**
+     * Serinin tek bir tekrarı. Serinin başlık/açıklama/önceliğini taşır; ilk değişiklikte
+     * (tamamlama dahil) seride saklanır ve bundan sonra seriden bağımsızdır.
+     */
+    public static final class Occurrence extends Task {
+        private final RecurringTask series;
+        private final long index;
+
+        private Occurrence(RecurringTask series, long index, long dueMillis) {
+            super(series.getId() + "#" + index, series, new Deadline(TimeSource.toLocalDateTime(dueMillis)));
+            this.series = series;
+            this.index = index;
+        }
+
+        public RecurringTask getSeries() { return series; }
+        public long getIndex() { return index; }
+
+        @Override
+        public long update(Patch patch) {
+            Occurrence target = series.adopt(this);
+            return target == this ? super.update(patch) : target.update(patch);
+        }
+
+        @Override
+        public long updateIfVersion(long expectedVersion, Patch patch) {
+            Occurrence target = series.adopt(this);
+            return target == this ? super.updateIfVersion(expectedVersion, patch) : target.updateIfVersion(expectedVersion, patch);
+        }
+
+        /** Serinin kısa ID'si ve tekrar numarası (örn. {@code 1a2b3c4d#5}). */
+        @Override
+        public String getShortId() {
+            return series.getShortId() + "#" + index;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.ntp.taskmanager;
 
-import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Basit hatırlatma servisi.
@@ -11,11 +13,29 @@ import java.util.Set;
  * - Yaklaşan görevleri kontrol eder.
  * - Belirlenen dakika aralığında deadline'a girenler için bildirim üretir.
  * - Aynı görev için aynı aralıkta tekrar bildirim basmaz.
+ * - Birden fazla aralık tek geçişte değerlendirilebilir ({@link #getTasksToRemind(List, long[], long)}).
+ * - Tekrarlanan görevler ({@link RecurringTask}) aralıktaki tekrarlarıyla değerlendirilir.
+ *
+ * <p>
+ * Tekrar kontrolü görev ID'si -> bildirilmiş aralıklar tablosuyla yapılır; kontrol sırasında
+ * anahtar metni üretilmez. Thread-safe'tir: aynı görev farklı projelerden aynı anda
+ * değerlendirilse de her aralık için yalnızca bir kez bildirilir.
+ * </p>
  */
 public class ReminderService {
 
-    // "taskId|windowMinutes" gibi bir anahtarla tekrarları engelliyoruz
-    private final Set<String> fired = new HashSet<>();
+    // taskId -> bu görev için bildirilmiş aralıklar (dakika)
+    private final ConcurrentHashMap<String, Fired> fired = new ConcurrentHashMap<>();
+
+    private final TimeSource time;
+
+    public ReminderService() {
+        this(TimeSource.system());
+    }
+
+    public ReminderService(TimeSource time) {
+        this.time = Objects.requireNonNull(time, "time null olamaz.");
+    }
 
     /**
      * @param tasks kontrol edilecek görevler
@@ -23,25 +43,83 @@ public class ReminderService {
      * @return bildirilecek görevlerin listesi
      */
     public List<Task> getTasksToRemind(List<Task> tasks, long withinMinutes) {
-        LocalDateTime now = LocalDateTime.now();
+        long now = time.millis();
+        QueryEvent ev = QueryEvent.start("getTasksToRemind", null);
 
-        return tasks.stream()
+        Collection<Task> candidates = RecurringTask.expand(tasks, now, now + (withinMinutes + 1) * 60_000L - 1);
+        List<Task> result = candidates.stream()
                 .filter(t -> !t.isCompleted())
-                .filter(t -> !t.getDeadline().isOverdue())
+                .filter(t -> !t.getDeadline().isOverdue(now))
                 .filter(t -> {
-                    long minutes = java.time.Duration.between(now, t.getDeadline().getDue()).toMinutes();
+                    long minutes = t.getDeadline().minutesUntil(now);
                     return minutes >= 0 && minutes <= withinMinutes;
                 })
-                .filter(t -> {
-                    String key = t.getId() + "|" + withinMinutes;
-                    if (fired.contains(key)) return false;
-                    fired.add(key);
-                    return true;
-                })
+                .filter(t -> markFired(t.getId(), withinMinutes))
                 .toList();
+        QueryEvent.finish(ev, candidates.size(), result.size());
+        return result;
+    }
+
+    /**
+     * Tüm aralıkları görev başına tek geçişte değerlendirir. Her aralık için
+     * {@link #getTasksToRemind(List, long)} ile aynı sonucu (ve aynı tekrar kontrolünü) verir.
+     *
+     * @param windowsMinutes aralıklar (dakika); sonuç aynı sırada döner
+     * @param nowMillis {@link TimeSource#millis()} ile alınmış, tüm görevler için ortak zaman
+     * @return {@code result.get(i)}: {@code windowsMinutes[i]} aralığında bildirilecek görevler
+     */
+    public List<List<Task>> getTasksToRemind(List<Task> tasks, long[] windowsMinutes, long nowMillis) {
+        List<List<Task>> result = new ArrayList<>(windowsMinutes.length);
+        long max = -1;
+        for (long w : windowsMinutes) {
+            if (w < 0) throw new IllegalArgumentException("Aralık negatif olamaz: " + w);
+            result.add(new ArrayList<>());
+            max = Math.max(max, w);
+        }
+
+        QueryEvent ev = QueryEvent.start("getTasksToRemindMulti", null);
+        Collection<Task> candidates = RecurringTask.expand(tasks, nowMillis, nowMillis + (max + 1) * 60_000L - 1);
+        long returned = 0;
+        for (Task t : candidates) {
+            if (t.isCompleted() || t.getDeadline().isOverdue(nowMillis)) continue;
+
+            long minutes = t.getDeadline().minutesUntil(nowMillis);
+            if (minutes < 0 || minutes > max) continue; // hiçbir aralığa girmiyor: tabloya bakma
+
+            for (int i = 0; i < windowsMinutes.length; i++) {
+                if (minutes <= windowsMinutes[i] && markFired(t.getId(), windowsMinutes[i])) {
+                    result.get(i).add(t);
+                    returned++;
+                }
+            }
+        }
+        QueryEvent.finish(ev, candidates.size(), returned);
+        return result;
+    }
+
+    /** @return görev bu aralık için ilk kez bildiriliyorsa true */
+    private boolean markFired(String taskId, long windowMinutes) {
+        Fired f = fired.get(taskId);
+        if (f == null) f = fired.computeIfAbsent(taskId, k -> new Fired());
+        return f.mark(windowMinutes);
     }
 
     public void reset() {
         fired.clear();
     }
+
+    /** Bir görevin bildirilmiş aralıkları; genelde birkaç eleman olduğu için düz dizi. */
+    private static final class Fired {
+        private long[] windows = new long[2];
+        private int size;
+
+        synchronized boolean mark(long window) {
+            for (int i = 0; i < size; i++) {
+                if (windows[i] == window) return false;
+            }
+            if (size == windows.length) windows = Arrays.copyOf(windows, size * 2);
+            windows[size++] = window;
+            return true;
+        }
+    }
 }
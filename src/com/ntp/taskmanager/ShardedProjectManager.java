@@ -0,0 +1,559 @@
+package com.ntp.taskmanager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Projeleri (ve görevlerini) ID hash'ine göre N bağımsız {@link ProjectManager} shard'ına bölen yönlendirici.
+ *
+ * <p>
+ * Her shard'ın kendi indeksleri, {@link ChangeFeed}'i ve tek yazan (single-writer) thread'i vardır;
+ * bir shard'a yapılan tüm çağrılar o thread üzerinde sırayla çalışır, bu yüzden shard'lar arasında
+ * kilit paylaşılmaz. Yönlendirici {@link ProjectManager} API'sini korur: tek projeyi ilgilendiren
+ * işlemler sahibi olan shard'a gider, projeler arası sorgular tüm shard'lara dağıtılıp (scatter)
+ * sonuçlar aynı sıralamayla birleştirilir (gather). Tüm shard'lar aynı süreçte çalışır.
+ * </p>
+ *
+ * <p>
+ * Bir görev tek bir shard'a aittir. Projeye atanmamış görev, başka shard'daki bir projeye atanınca
+ * o shard'a taşınır; farklı shard'lardaki projelere aynı anda atanamaz. Taşıma tek işlemdir:
+ * görevi bulan çağrılar taşıma sürerken bekler, kaynak shard silme değil
+ * {@link ChangeEvent.Type#TASK_MOVED} yayınlar. Dönen {@link Task} ve {@link Project} nesneleri
+ * shard'a aittir, yalnızca okunmalıdır.
+ * </p>
+ *
+ * <p>
+ * Sürüm numaraları (delta export checkpoint'leri, tombstone'lar) shard'a özeldir; bir projenin
+ * checkpoint'i yalnızca o projenin shard'ı için anlamlıdır.
+ * </p>
+ */
+public class ShardedProjectManager implements AutoCloseable {
+
+    private final Shard[] shards;
+    private final TimeSource time;
+    /** Görev yerleşimi: görevi bulup üzerinde çalışan çağrılar okuma, shard'lar arası taşıma yazma kilidi alır. */
+    private final ReadWriteLock placement = new ReentrantReadWriteLock();
+
+    public ShardedProjectManager(int shardCount) {
+        this(shardCount, TimeSource.system());
+    }
+
+    /**
+     * @param shardCount shard sayısı
+     * @param time tüm shard'ların ortak zaman kaynağı
+     */
+    public ShardedProjectManager(int shardCount, TimeSource time) {
+        if (shardCount <= 0) throw new IllegalArgumentException("shardCount pozitif olmalı.");
+        this.time = Objects.requireNonNull(time, "time null olamaz.");
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) shards[i] = new Shard(i, new ProjectManager(time));
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    public TimeSource getTimeSource() {
+        return time;
+    }
+
+    /** Shard'ların değişmez görünümleri (kilitsiz okunabilir, bkz. {@link ProjectManager#snapshot()}). */
+    public List<ManagerSnapshot> snapshots() {
+        List<ManagerSnapshot> list = new ArrayList<>(shards.length);
+        for (Shard s : shards) list.add(s.pm.snapshot());
+        return list;
+    }
+
+    /** Shard'ın {@link ChangeFeed}'i (sıra numaraları shard'a özeldir). */
+    public ChangeFeed getChangeFeed(int shard) {
+        return shards[shard].pm.getChangeFeed();
+    }
+
+    /* ===================== PROJECT & TASK ===================== */
+
+    public Project createProject(String name) {
+        String id = UUID.randomUUID().toString();
+        return shardFor(id).call(pm -> pm.createProject(id, name));
+    }
+
+    public Task createTask(String title, String desc, LocalDateTime due, Priority pr) {
+        String id = UUID.randomUUID().toString();
+        Shard shard = shardFor(id);
+        StringPool strings = shard.pm.getStringPool(); // thread-safe
+        Task t = new Task(id, strings.intern(title), strings.intern(desc), new Deadline(due), pr);
+        return shard.call(pm -> pm.addTask(t));
+    }
+
+    public TimedTask createTimedTask(String title, String desc, LocalDateTime due, Priority pr,
+                                     LocalDateTime start, LocalDateTime end) {
+        String id = UUID.randomUUID().toString();
+        Shard shard = shardFor(id);
+        StringPool strings = shard.pm.getStringPool();
+        TimedTask t = new TimedTask(id, strings.intern(title), strings.intern(desc), new Deadline(due), pr, start, end);
+        shard.call(pm -> pm.addTask(t));
+        return t;
+    }
+
+    /** Bkz. {@link ProjectManager#createRecurringTask}. */
+    public RecurringTask createRecurringTask(String title, String desc, LocalDateTime firstDue, Priority pr,
+                                             Recurrence recurrence) {
+        String id = UUID.randomUUID().toString();
+        Shard shard = shardFor(id);
+        StringPool strings = shard.pm.getStringPool();
+        RecurringTask t = new RecurringTask(id, strings.intern(title), strings.intern(desc), new Deadline(firstDue), pr, recurrence);
+        shard.call(pm -> pm.addTask(t));
+        return t;
+    }
+
+    /** Tüm projeler (değiştirilemez). */
+    public Collection<Project> getAllProjects() {
+        return Collections.unmodifiableList(getProjectsAsList());
+    }
+
+    /** Tüm projeler, {@link ProjectManager#getProjectsAsList()} ile aynı sırada. */
+    public List<Project> getProjectsAsList() {
+        List<Project> all = gather(ProjectManager::getProjectsAsList);
+        all.sort(ProjectManager.PROJECT_ORDER);
+        return all;
+    }
+
+    /**  Proje seçimi -> NUMARA / ID / İSİM */
+    public Project getProjectByNumberOrIdOrName(String input) {
+        String id = resolveProjectId(input);
+        return shardFor(id).call(pm -> pm.getProjectById(id));
+    }
+
+    public Project getProjectById(String projectId) {
+        if (projectId == null) throw new IllegalArgumentException("Project not found: null");
+        return shardFor(projectId).call(pm -> pm.getProjectById(projectId));
+    }
+
+    public Task getTaskById(String taskId) {
+        return located(() -> {
+            Located located = locateTask(taskId);
+            if (!located.task.getId().equals(taskId)) throw new IllegalArgumentException("Task not found: " + taskId);
+            return located.task;
+        });
+    }
+
+    public Task getTaskByIdOrShortId(String idOrShort) {
+        return located(() -> locateTask(idOrShort).task);
+    }
+
+    /**
+     * Görevi projeye atar. Görev başka bir shard'daysa ve hiçbir projeye atanmamışsa önce
+     * projenin shard'ına taşınır; taşıma yazma kilidi altında tek adımda yapılır.
+     */
+    public void assignTaskToProject(String taskIdOrShortId, String projectNumberOrIdOrName) {
+        String projectId = resolveProjectId(projectNumberOrIdOrName);
+        Shard target = shardFor(projectId);
+
+        String taskId = located(() -> {
+            Located located = locateTask(taskIdOrShortId);
+            if (located.shard != target) return located.task.getId();
+            assign(target, located.task.getId(), projectId);
+            return null;
+        });
+        if (taskId == null) return;
+
+        placement.writeLock().lock();
+        try {
+            Located located = locateTask(taskId); // kilit beklenirken taşınmış veya silinmiş olabilir
+            if (located.shard != target) {
+                Task moved = located.shard.call(pm -> pm.detachTask(taskId));
+                target.call(pm -> pm.attachTask(moved));
+            }
+            assign(target, taskId, projectId);
+        } finally {
+            placement.writeLock().unlock();
+        }
+    }
+
+    private static void assign(Shard shard, String taskId, String projectId) {
+        shard.call(pm -> {
+            pm.assignTaskToProject(taskId, projectId);
+            return null;
+        });
+    }
+
+    public void completeTask(String taskIdOrShortId) {
+        located(() -> {
+            Located located = locateTask(taskIdOrShortId);
+            return located.shard.call(pm -> {
+                pm.completeTask(located.task.getId());
+                return null;
+            });
+        });
+    }
+
+    public String deleteTask(String taskIdOrShortId) {
+        return located(() -> {
+            Located located = locateTask(taskIdOrShortId);
+            return located.shard.call(pm -> pm.deleteTask(located.task.getId()));
+        });
+    }
+
+    public void updateTask(String idOrShort,
+                           String newTitle,
+                           String newDesc,
+                           Priority newPriority,
+                           LocalDateTime newDeadline) {
+        located(() -> {
+            Located located = locateTask(idOrShort);
+            return located.shard.call(pm -> {
+                pm.updateTask(located.task.getId(), newTitle, newDesc, newPriority, newDeadline);
+                return null;
+            });
+        });
+    }
+
+    /** Bkz. {@link ProjectManager#updateTaskIfVersion}. */
+    public long updateTaskIfVersion(String idOrShort,
+                                    long expectedVersion,
+                                    String newTitle,
+                                    String newDesc,
+                                    Priority newPriority,
+                                    LocalDateTime newDeadline) {
+        return located(() -> {
+            Located located = locateTask(idOrShort);
+            return located.shard.call(pm -> pm.updateTaskIfVersion(located.task.getId(), expectedVersion,
+                    newTitle, newDesc, newPriority, newDeadline));
+        });
+    }
+
+    /* ===================== LISTING (TEK PROJE) ===================== */
+
+    public List<Task> listUpcomingTasks(String projectNumberOrIdOrName, long withinHours) {
+        String id = resolveProjectId(projectNumberOrIdOrName);
+        return shardFor(id).call(pm -> pm.listUpcomingTasks(id, withinHours));
+    }
+
+    public List<Task> listProjectTasks(String projectNumberOrIdOrName, Boolean completedFilter) {
+        String id = resolveProjectId(projectNumberOrIdOrName);
+        return shardFor(id).call(pm -> pm.listProjectTasks(id, completedFilter));
+    }
+
+    public List<Task> searchProjectTasks(String projectNumberOrIdOrName,
+                                         String keyword,
+                                         boolean searchInDescription,
+                                         Boolean completedFilter) {
+        String id = resolveProjectId(projectNumberOrIdOrName);
+        return shardFor(id).call(pm -> pm.searchProjectTasks(id, keyword, searchInDescription, completedFilter));
+    }
+
+    public List<Task> searchProjectTasksAdvanced(String projectNumberOrIdOrName,
+                                                 String keyword,
+                                                 boolean searchInDescription,
+                                                 Boolean completedFilter,
+                                                 Long onlyUpcomingWithinHours,
+                                                 int limit) {
+        String id = resolveProjectId(projectNumberOrIdOrName);
+        return shardFor(id).call(pm -> pm.searchProjectTasksAdvanced(id, keyword, searchInDescription,
+                completedFilter, onlyUpcomingWithinHours, limit));
+    }
+
+    public List<Task> runReminders(String projectNumberOrIdOrName, long withinMinutes) {
+        String id = resolveProjectId(projectNumberOrIdOrName);
+        return shardFor(id).call(pm -> pm.runReminders(id, withinMinutes));
+    }
+
+    /**
+     * Bkz. {@link ProjectManager#runReminderSweep(long...)}. Her shard kendi projelerini kendi
+     * thread'inde tarar; sonuçlar proje sırasıyla birleştirilir.
+     */
+    public ProjectManager.ReminderSweepResult runReminderSweep(long... windowsMinutes) {
+        long[] windows = windowsMinutes.clone();
+
+        List<Future<ProjectManager.ReminderSweepResult>> futures = new ArrayList<>(shards.length);
+        for (Shard s : shards) futures.add(s.submit(pm -> pm.runReminderSweep(windows)));
+
+        List<ProjectManager.ReminderSweepResult> parts = new ArrayList<>(shards.length);
+        for (Future<ProjectManager.ReminderSweepResult> f : futures) parts.add(await(f));
+
+        ProjectManager.ReminderSweepResult merged = new ProjectManager.ReminderSweepResult(windows);
+        for (Project p : getProjectsAsList()) {
+            for (ProjectManager.ReminderSweepResult part : parts) {
+                List<List<Task>> groups = part.groups(p.getId());
+                if (groups != null) {
+                    merged.put(p.getId(), groups);
+                    break;
+                }
+            }
+        }
+        return merged;
+    }
+
+    /* ===================== CROSS-PROJECT (SCATTER/GATHER) ===================== */
+
+    /** Bkz. {@link ProjectManager#listUpcomingTasksAcrossProjects}. */
+    public List<Task> listUpcomingTasksAcrossProjects(long withinHours, Priority priorityFilter) {
+        return gatherSorted(pm -> pm.listUpcomingTasksAcrossProjects(withinHours, priorityFilter),
+                ProjectManager.PRIORITY_THEN_DEADLINE);
+    }
+
+    /** Bkz. {@link ProjectManager#searchTasksAcrossProjects}. */
+    public List<Task> searchTasksAcrossProjects(String keyword,
+                                                boolean searchInDescription,
+                                                Boolean completedFilter) {
+        return gatherSorted(pm -> pm.searchTasksAcrossProjects(keyword, searchInDescription, completedFilter),
+                ProjectManager.PRIORITY_THEN_DEADLINE);
+    }
+
+    /* ===================== CSV ===================== */
+
+    public String exportProjectAsCSV(String projectNumberOrIdOrName) {
+        String id = resolveProjectId(projectNumberOrIdOrName);
+        return shardFor(id).pm.snapshot().exportProjectAsCSV(id);
+    }
+
+    public Path exportProjectCSVToFile(String projectNumberOrIdOrName, String filePath) throws IOException {
+        String id = resolveProjectId(projectNumberOrIdOrName);
+        return shardFor(id).callIO(pm -> pm.exportProjectCSVToFile(id, filePath));
+    }
+
+    /** Bkz. {@link ProjectManager#exportProjectsArchive}; projeler kendi shard'larının snapshot'ından okunur. */
+    public BulkExporter.Result exportProjectsArchive(List<String> projectSelections,
+                                                     String targetPath,
+                                                     BulkExporter.Format format,
+                                                     int parallelism) throws IOException {
+        if (targetPath == null || targetPath.isBlank()) throw new IllegalArgumentException("targetPath boş olamaz.");
+
+        List<String> ids = new ArrayList<>();
+        if (projectSelections == null || projectSelections.isEmpty()) {
+            for (Project p : getProjectsAsList()) ids.add(p.getId());
+        } else {
+            for (String sel : projectSelections) ids.add(resolveProjectId(sel));
+        }
+        return new BulkExporter(parallelism).export(snapshots(), ids, Path.of(targetPath), format);
+    }
+
+    /* ===================== DELTA CSV ===================== */
+
+    /**
+     * Bkz. {@link ProjectManager#exportProjectDeltaAsCSV}. {@code sinceVersion}, projenin shard'ındaki
+     * bir önceki {@link #getCurrentVersion(String)} değeridir.
+     */
+    public String exportProjectDeltaAsCSV(String projectNumberOrIdOrName, long sinceVersion) {
+        String id = resolveProjectId(projectNumberOrIdOrName);
+        return shardFor(id).call(pm -> pm.exportProjectDeltaAsCSV(id, sinceVersion));
+    }
+
+    /** Bkz. {@link ProjectManager#exportProjectDeltaCSVToFile}; checkpoint projenin shard'ına aittir. */
+    public ProjectManager.DeltaExportResult exportProjectDeltaCSVToFile(String projectNumberOrIdOrName,
+                                                                        long sinceVersion,
+                                                                        String filePath) throws IOException {
+        String id = resolveProjectId(projectNumberOrIdOrName);
+        return shardFor(id).callIO(pm -> pm.exportProjectDeltaCSVToFile(id, sinceVersion, filePath));
+    }
+
+    /** Projenin shard'ındaki güncel sürüm (o proje için delta checkpoint'i). */
+    public long getCurrentVersion(String projectNumberOrIdOrName) {
+        String id = resolveProjectId(projectNumberOrIdOrName);
+        return shardFor(id).call(ProjectManager::getCurrentVersion);
+    }
+
+    /** Bkz. {@link ProjectManager#compactTombstones}; sürümler shard'a özel olduğu için shard verilir. */
+    public void compactTombstones(int shard, long upToVersion) {
+        shards[shard].call(pm -> {
+            pm.compactTombstones(upToVersion);
+            return null;
+        });
+    }
+
+    /** Bkz. {@link ProjectManager#setTombstoneRetention}; tüm shard'lara uygulanır. */
+    public void setTombstoneRetention(long versions) {
+        for (Shard s : shards) {
+            s.call(pm -> {
+                pm.setTombstoneRetention(versions);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Bkz. {@link ProjectManager#importTasksFromCSV}. Görevler hedef projenin shard'ına eklenir;
+     * {@code projects} sütunundaki diğer projeler yalnızca aynı shard'daysa atanır.
+     */
+    public ProjectManager.ImportResult importTasksFromCSV(String projectNumberOrIdOrName, String filePath) throws IOException {
+        String id = resolveProjectId(projectNumberOrIdOrName);
+        return shardFor(id).callIO(pm -> pm.importTasksFromCSV(id, filePath));
+    }
+
+    /** Shard thread'lerini durdurur (sıradaki çağrılar tamamlanır). */
+    @Override
+    public void close() {
+        for (Shard s : shards) s.executor.shutdown();
+    }
+
+    /* ===================== YÖNLENDİRME ===================== */
+
+    private Shard shardFor(String id) {
+        return shards[Math.floorMod(id.hashCode(), shards.length)];
+    }
+
+    /** Proje seçimini (numara / ID / isim) proje ID'sine çevirir. */
+    private String resolveProjectId(String input) {
+        if (input == null || input.isBlank()) {
+            throw new IllegalArgumentException("Project seçimi boş olamaz.");
+        }
+        String s = input.trim();
+
+        if (s.matches("\\d+")) {
+            int number = Integer.parseInt(s);
+            List<Project> list = getProjectsAsList();
+            if (number < 1 || number > list.size()) {
+                throw new IllegalArgumentException("Geçersiz proje numarası: " + number);
+            }
+            return list.get(number - 1).getId();
+        }
+
+        if (shardFor(s).pm.snapshot().getProject(s) != null) return s; // ID: kilitsiz snapshot okuması
+
+        List<Project> matches = gather(pm -> pm.findProjectsByName(s));
+        if (matches.isEmpty()) {
+            throw new IllegalArgumentException("Project bulunamadı (ID/Name): " + s);
+        }
+        if (matches.size() > 1) {
+            throw new IllegalArgumentException("Birden fazla proje aynı isimde. Lütfen Project ID kullan.");
+        }
+        return matches.get(0).getId();
+    }
+
+    /** Görevi bulup üzerinde çalışan çağrıyı yerleşim okuma kilidi altında çalıştırır (taşımayla yarışmaz). */
+    private <T> T located(Supplier<T> op) {
+        placement.readLock().lock();
+        try {
+            return op.get();
+        } finally {
+            placement.readLock().unlock();
+        }
+    }
+
+    /** Görevi (tam veya kısa ID ile) tüm shard'larda arar. */
+    private Located locateTask(String idOrShort) {
+        if (idOrShort == null || idOrShort.isBlank()) {
+            throw new IllegalArgumentException("Task ID boş olamaz.");
+        }
+
+        List<Future<List<Task>>> futures = new ArrayList<>(shards.length);
+        for (Shard s : shards) futures.add(s.submit(pm -> pm.findTasks(idOrShort)));
+
+        Located found = null;
+        int matches = 0;
+        for (int i = 0; i < shards.length; i++) {
+            List<Task> list = await(futures.get(i));
+            for (Task t : list) {
+                if (t.getId().equals(idOrShort.trim())) return new Located(shards[i], t);
+                found = new Located(shards[i], t);
+                matches++;
+            }
+        }
+
+        if (matches == 0) {
+            throw new IllegalArgumentException("Task bulunamadı: " + idOrShort);
+        }
+        if (matches > 1) {
+            throw new IllegalArgumentException("Kısa ID birden fazla task ile eşleşti. Tam ID kullan.");
+        }
+        return found;
+    }
+
+    /** Çağrıyı tüm shard'larda paralel çalıştırır, sonuçları shard sırasıyla birleştirir. */
+    private <T> List<T> gather(ShardCall<List<T>> call) {
+        List<Future<List<T>>> futures = new ArrayList<>(shards.length);
+        for (Shard s : shards) futures.add(s.submit(call));
+
+        List<T> all = new ArrayList<>();
+        for (Future<List<T>> f : futures) all.addAll(await(f));
+        return all;
+    }
+
+    /** Shard'ların kendi içinde sıralı sonuçlarını birleştirip aynı sıralamayla döndürür. */
+    private <T> List<T> gatherSorted(ShardCall<List<T>> call, Comparator<? super T> order) {
+        List<T> all = gather(call);
+        all.sort(order); // TimSort sıralı parçaları birleştirir
+        return all;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return awaitIO(future);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> T awaitIO(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Shard çağrısı kesildi.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            if (cause instanceof IOException io) throw io;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /** Shard thread'inde çalışacak çağrı. */
+    @FunctionalInterface
+    private interface ShardCall<T> {
+        T apply(ProjectManager pm) throws IOException;
+    }
+
+    /** Tek yazan thread'i olan shard. */
+    private static final class Shard {
+        private final ProjectManager pm;
+        private final ExecutorService executor;
+
+        Shard(int index, ProjectManager pm) {
+            this.pm = pm;
+            this.executor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "shard-" + index);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+
+        <T> Future<T> submit(ShardCall<T> call) {
+            return executor.submit(() -> call.apply(pm));
+        }
+
+        <T> T call(ShardCall<T> call) {
+            return await(submit(call));
+        }
+
+        <T> T callIO(ShardCall<T> call) throws IOException {
+            return awaitIO(submit(call));
+        }
+    }
+
+    private static final class Located {
+        final Shard shard;
+        final Task task;
+
+        Located(Shard shard, Task task) {
+            this.shard = shard;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.ntp.taskmanager;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Eşit metinlerin tek bir {@link String} örneğini paylaşmasını sağlayan, thread-safe ve zayıf
+ * referanslı (weak) havuz.
+ *
+ * <p>
+ * Tekrarlanan görev başlıkları ve uzun şablon açıklamalar {@link #intern(String)} ile havuzdan
+ * geçirilince heap'te tek kopya kalır. Havuz değerleri yalnızca zayıf tutar: hiçbir görev
+ * kullanmayan metin GC tarafından toplanır ve girdisi sonraki çağrılarda temizlenir.
+ * JVM'in {@link String#intern()} tablosundan farklı olarak boyutu ve isabet oranı ölçülebilir.
+ * </p>
+ */
+public final class StringPool {
+
+    private final ConcurrentHashMap<Key, Key> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<String> queue = new ReferenceQueue<>();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * Metnin havuzdaki örneğini döndürür; yoksa verilen örneği havuza ekler.
+     *
+     * @return {@code s} ile eşit, havuzdaki örnek (null için null)
+     */
+    public String intern(String s) {
+        if (s == null) return null;
+        if (s.isEmpty()) return "";
+
+        expungeStale();
+        lookups.increment();
+
+        Key probe = new Key(s, null);
+        while (true) {
+            Key existing = map.get(probe);
+            if (existing != null) {
+                String value = existing.get();
+                if (value != null) {
+                    hits.increment();
+                    return value;
+                }
+                map.remove(existing, existing); // toplanmış; yenisini ekle
+                continue;
+            }
+
+            Key key = new Key(s, queue);
+            if (map.putIfAbsent(key, key) == null) return s;
+        }
+    }
+
+    /** Havuzdaki (henüz toplanmamış) farklı metin sayısı. */
+    public int size() {
+        expungeStale();
+        return map.size();
+    }
+
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** Kullanılmadığı için havuzdan çıkarılan metin sayısı. */
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    /** İsabet oranı (0..1); hiç çağrı yoksa 0. */
+    public double getHitRate() {
+        long n = lookups.sum();
+        return n == 0 ? 0 : (double) hits.sum() / n;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StringPool{size=%d, lookups=%d, hits=%d (%.1f%%), evicted=%d}",
+                size(), getLookups(), getHits(), getHitRate() * 100, getEvicted());
+    }
+
+    private void expungeStale() {
+        Object ref;
+        while ((ref = queue.poll()) != null) {
+            Key k = (Key) ref;
+            if (map.remove(k, k)) evicted.increment();
+        }
+    }
+
+    /** Hash'i önceden hesaplanmış zayıf anahtar; eşitlik metin içeriğine göredir. */
+    private static final class Key extends WeakReference<String> {
+        private final int hash;
+
+        Key(String value, ReferenceQueue<String> queue) {
+            super(value, queue);
+            this.hash = value.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other) || other.hash != hash) return false;
+            String a = get();
+            return a != null && a.equals(other.get());
+        }
+    }
+}
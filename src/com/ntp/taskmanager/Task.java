@@ -1,7 +1,11 @@
 package com.ntp.taskmanager;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Sistemdeki temel görev (Task) sınıfıdır.
@@ -9,62 +13,270 @@ import java.util.UUID;
  * <p>
  * Deadline ve Priority alanları kapsülleme prensibine uygun olarak private tutulmuştur.
  * </p>
+ *
+ * <p>
+ * Değişebilir alanlar (başlık, açıklama, deadline, öncelik, tamamlanma) değişmez bir
+ * {@link Snapshot} içinde, sürüm numarasıyla birlikte tutulur. Her güncelleme yeni bir
+ * snapshot'ı compare-and-set (CAS) ile yayınlar; böylece bir {@link Patch}'in tüm alanları
+ * kilitsiz ve atomik olarak uygulanır, {@link #snapshot()} ile okuyan taraf her zaman
+ * tutarlı bir görünüm alır. {@link #updateIfVersion(long, Patch)} iyimser (optimistic)
+ * güncelleme sağlar.
+ * </p>
  */
 public class Task implements Completable {
 
-    private final String id = UUID.randomUUID().toString();
+    private static final String[] NO_PROJECTS = new String[0];
 
-    private String title;
-    private String description;
+    private static final AtomicReferenceFieldUpdater<Task, Snapshot> STATE =
+            AtomicReferenceFieldUpdater.newUpdater(Task.class, Snapshot.class, "state");
 
-    private Deadline deadline;
-    private Priority priority;
+    private final String id;
 
-    private boolean completed;
+    private volatile Snapshot state;
+
+    /** Son değişikliğin {@link ChangeFeed} sıra numarası (delta export için). */
+    private long changeVersion;
+
+    /** Görevin atandığı projelerin ID'leri ({@link Project} tarafından güncellenir). */
+    private String[] projectIds = NO_PROJECTS;
 
     public Task(String title, String description, Deadline deadline, Priority priority) {
-        this.title = Objects.requireNonNull(title);
-        this.description = description;
-        this.deadline = Objects.requireNonNull(deadline);
-        this.priority = Objects.requireNonNull(priority);
-        this.completed = false;
+        this(null, title, description, deadline, priority);
+    }
+
+    /**
+     * Verilen ID ile görev oluşturur (içe aktarmada kaynak ID'yi korumak için).
+     * {@code id} null veya boş ise yeni ID üretilir.
+     */
+    Task(String id, String title, String description, Deadline deadline, Priority priority) {
+        this.id = (id == null || id.isBlank()) ? UUID.randomUUID().toString() : id;
+        this.state = new Snapshot(1,
+                Objects.requireNonNull(title),
+                description,
+                Objects.requireNonNull(deadline),
+                Objects.requireNonNull(priority),
+                false);
+    }
+
+    /**
+     * Şablon görevin o anki başlık, açıklama ve önceliğiyle, verilen deadline'a sahip yeni görev
+     * (bkz. {@link RecurringTask.Occurrence}). Açıklama diske taşınmışsa referansı paylaşılır.
+     */
+    Task(String id, Task template, Deadline deadline) {
+        this.id = Objects.requireNonNull(id);
+        Snapshot s = template.state;
+        this.state = new Snapshot(1, s.title, s.description, Objects.requireNonNull(deadline), s.priority, false);
     }
 
     public String getId() {
         return id;
     }
 
+    /** Dış depodan yeniden kurulan görevin sürüm ve tamamlanma bilgisini geri yükler. */
+    void restore(long version, boolean completed) {
+        Snapshot s = state;
+        state = new Snapshot(version, s.title, s.description, s.deadline, s.priority, completed);
+    }
+
     /** Listelerde kolay kopyalama için kısa ID (ilk 8 karakter). */
     public String getShortId() {
         return id.length() >= 8 ? id.substring(0, 8) : id;
     }
 
-    public String getTitle() { return title; }
-    public void setTitle(String title) { this.title = Objects.requireNonNull(title); }
+    /** Görevin tutarlı (tek sürüme ait) anlık görüntüsü. */
+    public Snapshot snapshot() { return state; }
+
+    /** Her güncellemede 1 artan sürüm numarası. */
+    public long getVersion() { return state.version; }
+
+    public String getTitle() { return state.title; }
+    public void setTitle(String title) { update(new Patch().title(title)); }
+
+    /** Açıklama; {@link DescriptionStore}'a taşınmışsa diskten (önbellek üzerinden) okunur. */
+    public String getDescription() { return state.getDescription(); }
+    public void setDescription(String description) { update(new Patch().description(description)); }
+
+    public Deadline getDeadline() { return state.deadline; }
+    public void setDeadline(Deadline deadline) { update(new Patch().deadline(deadline)); }
+
+    public Priority getPriority() { return state.priority; }
+    public void setPriority(Priority priority) { update(new Patch().priority(priority)); }
+
+    /**
+     * Patch'i koşulsuz ve atomik olarak uygular (çakışmada yeniden dener).
+     *
+     * @return yeni sürüm numarası
+     */
+    public long update(Patch patch) {
+        Objects.requireNonNull(patch, "patch null olamaz.");
+        while (true) {
+            Snapshot current = state;
+            Snapshot next = current.apply(patch);
+            if (STATE.compareAndSet(this, current, next)) return next.version;
+        }
+    }
+
+    /**
+     * Görev hâlâ {@code expectedVersion} sürümündeyse patch'i atomik olarak uygular.
+     *
+     * @return yeni sürüm numarası
+     * @throws VersionConflictException görev başka biri tarafından güncellenmişse (güncel sürümle)
+     */
+    public long updateIfVersion(long expectedVersion, Patch patch) {
+        Objects.requireNonNull(patch, "patch null olamaz.");
+        Snapshot current = state;
+        if (current.version == expectedVersion) {
+            Snapshot next = current.apply(patch);
+            if (STATE.compareAndSet(this, current, next)) return next.version;
+        }
+        throw new VersionConflictException(id, expectedVersion, state.version);
+    }
+
+    /**
+     * Açıklama satır içi (inline) tutuluyorsa ve eşikten uzunsa depoya yazar, görevde yalnızca
+     * referansı bırakır. İçerik değişmediği için sürüm artmaz.
+     */
+    void externalizeDescription(DescriptionStore store) {
+        while (true) {
+            Snapshot current = state;
+            if (!(current.description instanceof String d) || d.length() < store.getInlineThreshold()) return;
+            Snapshot next = new Snapshot(current.version, current.title, store.append(d),
+                    current.deadline, current.priority, current.completed);
+            if (STATE.compareAndSet(this, current, next)) return;
+        }
+    }
+
+    /** Görevin atandığı projelerin ID'leri. */
+    public List<String> getProjectIds() { return List.of(projectIds); }
 
-    public String getDescription() { return description; }
-    public void setDescription(String description) { this.description = description; }
+    void addProjectId(String projectId) {
+        for (String p : projectIds) if (p.equals(projectId)) return;
+        projectIds = Arrays.copyOf(projectIds, projectIds.length + 1);
+        projectIds[projectIds.length - 1] = projectId;
+    }
 
-    public Deadline getDeadline() { return deadline; }
-    public void setDeadline(Deadline deadline) { this.deadline = Objects.requireNonNull(deadline); }
+    void removeProjectId(String projectId) {
+        for (int i = 0; i < projectIds.length; i++) {
+            if (projectIds[i].equals(projectId)) {
+                String[] copy = new String[projectIds.length - 1];
+                System.arraycopy(projectIds, 0, copy, 0, i);
+                System.arraycopy(projectIds, i + 1, copy, i, copy.length - i);
+                projectIds = copy.length == 0 ? NO_PROJECTS : copy;
+                return;
+            }
+        }
+    }
 
-    public Priority getPriority() { return priority; }
-    public void setPriority(Priority priority) { this.priority = Objects.requireNonNull(priority); }
+    public long getChangeVersion() { return changeVersion; }
+    void setChangeVersion(long changeVersion) { this.changeVersion = changeVersion; }
 
     @Override
-    public void complete() { this.completed = true; }
+    public void complete() {
+        if (!state.completed) update(new Patch().complete());
+    }
 
     @Override
-    public boolean isCompleted() { return completed; }
+    public boolean isCompleted() { return state.completed; }
 
     @Override
     public String toString() {
+        Snapshot s = state;
         return "Task{" +
                 "id='" + getShortId() + '\'' +
-                ", title='" + title + '\'' +
-                ", priority=" + priority.getLabel() +
-                ", deadline=" + deadline +
-                ", completed=" + completed +
+                ", title='" + s.title + '\'' +
+                ", priority=" + s.priority.getLabel() +
+                ", deadline=" + s.deadline +
+                ", completed=" + s.completed +
                 '}';
     }
+
+    /**
+     * Görevin belirli bir sürümdeki değişmez görünümü.
+     */
+    public static final class Snapshot {
+        private final long version;
+        private final String title;
+        private final Object description; // String veya DescriptionStore.Ref
+        private final Deadline deadline;
+        private final Priority priority;
+        private final boolean completed;
+
+        private Snapshot(long version, String title, Object description,
+                         Deadline deadline, Priority priority, boolean completed) {
+            this.version = version;
+            this.title = title;
+            this.description = description;
+            this.deadline = deadline;
+            this.priority = priority;
+            this.completed = completed;
+        }
+
+        private Snapshot apply(Patch p) {
+            return new Snapshot(version + 1,
+                    p.title != null ? p.title : title,
+                    p.descriptionSet ? p.description : description,
+                    p.deadline != null ? p.deadline : deadline,
+                    p.priority != null ? p.priority : priority,
+                    completed || p.complete);
+        }
+
+        public long getVersion() { return version; }
+        public String getTitle() { return title; }
+
+        /** Açıklamanın tutulduğu nesne (String veya {@link DescriptionStore.Ref}); yüklemeden karşılaştırma için. */
+        Object rawDescription() { return description; }
+
+        public String getDescription() {
+            return description instanceof DescriptionStore.Ref ref ? ref.load() : (String) description;
+        }
+        public Deadline getDeadline() { return deadline; }
+        public Priority getPriority() { return priority; }
+        public boolean isCompleted() { return completed; }
+    }
+
+    /**
+     * Tek seferde uygulanacak alan değişiklikleri. Ayarlanmayan alanlar aynı kalır.
+     */
+    public static final class Patch {
+        private String title;
+        private String description;
+        private boolean descriptionSet;
+        private Deadline deadline;
+        private Priority priority;
+        private boolean complete;
+
+        public Patch title(String title) {
+            this.title = Objects.requireNonNull(title);
+            return this;
+        }
+
+        public Patch description(String description) {
+            this.description = description;
+            this.descriptionSet = true;
+            return this;
+        }
+
+        public Patch deadline(Deadline deadline) {
+            this.deadline = Objects.requireNonNull(deadline);
+            return this;
+        }
+
+        public Patch deadline(LocalDateTime due) {
+            return deadline(new Deadline(due));
+        }
+
+        public Patch priority(Priority priority) {
+            this.priority = Objects.requireNonNull(priority);
+            return this;
+        }
+
+        public Patch complete() {
+            this.complete = true;
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return title == null && !descriptionSet && deadline == null && priority == null && !complete;
+        }
+    }
 }
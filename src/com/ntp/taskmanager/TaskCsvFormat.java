@@ -0,0 +1,185 @@
+package com.ntp.taskmanager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Görev CSV şeması (sürüm {@value #VERSION}).
+ *
+ * <p>
+ * Dosyanın ilk satırı sürüm işaretidir ({@code #taskcsv,2}), ikinci satırı sütun başlığıdır.
+ * İçe aktarma sütunları başlıktaki isimlerine göre eşler; bu sayede sütun sırası değişebilir,
+ * eski (sürüm işaretsiz, {@code title,priority,deadline,completed}) dosyalar da okunabilir.
+ * </p>
+ *
+ * <p>
+ * Sütunlar: id, type (TASK/TIMED/RECURRING/OCCURRENCE), title, description, priority, deadline,
+ * completed, start, end, projects (proje ID'leri, ';' ile ayrılmış), recurrence (bkz.
+ * {@link Recurrence#format()}), skipped (atlanan tekrar numaraları, ';' ile ayrılmış).
+ * </p>
+ *
+ * <p>
+ * Tekrarlanan seri ({@code RECURRING}) satırının hemen ardından seride saklanan her tekrar için
+ * bir {@code OCCURRENCE} satırı gelir ({@code id = seriID#numara}); bu satırların proje sütunu boştur.
+ * </p>
+ */
+public final class TaskCsvFormat {
+
+    public static final int VERSION = 3;
+    public static final String MARKER = "#taskcsv";
+
+    public static final List<String> COLUMNS = List.of(
+            "id", "type", "title", "description", "priority", "deadline",
+            "completed", "start", "end", "projects", "recurrence", "skipped");
+
+    public static final String TYPE_TASK = "TASK";
+    public static final String TYPE_TIMED = "TIMED";
+    public static final String TYPE_RECURRING = "RECURRING";
+    public static final String TYPE_OCCURRENCE = "OCCURRENCE";
+
+    private TaskCsvFormat() { }
+
+    /** Sürüm işareti ve başlık satırları. */
+    public static String header() {
+        return MARKER + "," + VERSION + "\n" + String.join(",", COLUMNS) + "\n";
+    }
+
+    /** İlk kayıt sürüm işareti mi? */
+    static boolean isMarker(List<String> record) {
+        return !record.isEmpty() && record.get(0).equals(MARKER);
+    }
+
+    /** Sürüm işaretini doğrular; desteklenmeyen sürümde hata verir. */
+    static void checkVersion(List<String> marker) {
+        int version;
+        try {
+            version = marker.size() > 1 ? Integer.parseInt(marker.get(1).trim()) : -1;
+        } catch (NumberFormatException e) {
+            version = -1;
+        }
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Desteklenmeyen CSV sürümü: " + String.join(",", marker));
+        }
+    }
+
+    /**
+     * Görevi satır olarak (satır sonu dahil) yazar; tekrarlanan seride saklanan tekrarlar da
+     * ayrı satırlar olarak eklenir.
+     *
+     * @param linePrefix her satırın başına eklenir (delta CSV'de {@code op,version,})
+     */
+    static void appendRow(StringBuilder sb, String linePrefix, Task t) {
+        appendRow(sb, linePrefix, ManagerSnapshot.TaskView.of(t)); // tüm alanlar aynı sürümden
+    }
+
+    /** {@link ManagerSnapshot} görünümündeki görevi satır(lar) olarak yazar. */
+    static void appendRow(StringBuilder sb, ManagerSnapshot.TaskView t) {
+        appendRow(sb, "", t);
+    }
+
+    private static void appendRow(StringBuilder sb, String linePrefix, ManagerSnapshot.TaskView t) {
+        Recurrence r = t.getRecurrence();
+        String type = t.isTimed() ? TYPE_TIMED : r != null ? TYPE_RECURRING : TYPE_TASK;
+        appendRow(sb, linePrefix, t.getId(), type, t.getStart(), t.getEnd(), t.getState(), t.getProjectIds());
+
+        if (r == null) {
+            sb.append(",,\n");
+            return;
+        }
+        sb.append(",").append(r.format()).append(",");
+        long[] skipped = t.getSkippedIndices();
+        for (int i = 0; i < skipped.length; i++) {
+            if (i > 0) sb.append(';');
+            sb.append(skipped[i]);
+        }
+        sb.append("\n");
+
+        for (ManagerSnapshot.TaskView o : t.getStoredOccurrences()) {
+            appendRow(sb, linePrefix, o.getId(), TYPE_OCCURRENCE, null, null, o.getState(), List.of());
+            sb.append(",,\n");
+        }
+    }
+
+    /** Ortak sütunlar (projects dahil, satır sonu hariç). */
+    private static void appendRow(StringBuilder sb, String linePrefix, String id, String type,
+                                  LocalDateTime start, LocalDateTime end,
+                                  Task.Snapshot s, List<String> projectIds) {
+        sb.append(linePrefix)
+          .append(CsvUtil.escape(id)).append(",")
+          .append(type).append(",")
+          .append(CsvUtil.escape(s.getTitle())).append(",")
+          .append(CsvUtil.escape(s.getDescription())).append(",")
+          .append(s.getPriority().name()).append(",")
+          .append(s.getDeadline().getDue()).append(",")
+          .append(s.isCompleted()).append(",");
+
+        if (start != null && end != null) {
+            sb.append(start).append(",").append(end);
+        } else {
+            sb.append(",");
+        }
+
+        sb.append(",").append(CsvUtil.escape(String.join(";", projectIds)));
+    }
+
+    /** {@code skipped} sütununu okur; boşsa boş dizi. */
+    static long[] parseIndices(String text) {
+        if (text == null || text.isBlank()) return new long[0];
+        String[] p = text.trim().split(";");
+        long[] out = new long[p.length];
+        for (int i = 0; i < p.length; i++) out[i] = Long.parseLong(p[i].trim());
+        return out;
+    }
+
+    /**
+     * Başlık ve tekrar kontrolü için 64-bit anahtar (başlık büyük/küçük harf duyarsız + deadline).
+     * Her satır için string birleştirmeden kaçınmak amacıyla kullanılır.
+     */
+    static long dedupKey(String title, long dueMillis) {
+        long h = 0xcbf29ce484222325L; // FNV-1a
+        if (title != null) {
+            String t = title.trim();
+            for (int i = 0; i < t.length(); i++) {
+                h ^= Character.toLowerCase(t.charAt(i));
+                h *= 0x100000001b3L;
+            }
+        }
+        h ^= dueMillis * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Başlık satırından sütun adı -> indeks eşlemesi.
+     */
+    static final class Columns {
+        private final Map<String, Integer> index = new HashMap<>();
+
+        Columns(List<String> header) {
+            for (int i = 0; i < header.size(); i++) {
+                index.putIfAbsent(header.get(i).trim().toLowerCase(), i);
+            }
+        }
+
+        boolean has(String name) {
+            return index.containsKey(name);
+        }
+
+        /** Sütun değeri; sütun yoksa veya satırda eksikse null. */
+        String get(List<String> record, String name) {
+            Integer i = index.get(name);
+            if (i == null || i >= record.size()) return null;
+            return record.get(i);
+        }
+
+        /** Boş olmayan zaman değeri veya null. */
+        LocalDateTime getDateTime(List<String> record, String name) {
+            String v = get(record, name);
+            return v == null || v.isBlank() ? null : LocalDateTime.parse(v.trim());
+        }
+    }
+}
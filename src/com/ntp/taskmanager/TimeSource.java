@@ -0,0 +1,127 @@
+package com.ntp.taskmanager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uygulamanın "şimdi" bilgisini sağlayan, {@link Clock} tabanlı zaman kaynağıdır.
+ *
+ * <p>
+ * Zaman, yerel duvar saatinin epoch-milisaniye karşılığı olarak verilir
+ * ({@link LocalDateTime} değeri {@link ZoneOffset#UTC} ile yorumlanır). Böylece
+ * {@link Deadline} karşılaştırmaları saat dilimi kuralı çalıştırmadan,
+ * sadece {@code long} aritmetiği ile yapılabilir.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link #system()}: her çağrıda sistem saatini okur.</li>
+ *   <li>{@link #fixed(LocalDateTime)}: sabit zaman (testler için deterministik).</li>
+ *   <li>{@link #cached(long)}: arka planda belirli aralıkla güncellenen kaba (coarse) saat;
+ *       sıcak döngülerde okuma maliyeti sadece bir volatile okumadır.</li>
+ * </ul>
+ */
+public final class TimeSource implements AutoCloseable {
+
+    private final Clock clock;
+    private final long tickMillis; // 0 => cache yok
+
+    private volatile long cachedMillis;
+    private final ScheduledExecutorService ticker;
+
+    public TimeSource(Clock clock) {
+        this(clock, 0);
+    }
+
+    private TimeSource(Clock clock, long tickMillis) {
+        this.clock = Objects.requireNonNull(clock, "clock null olamaz.");
+        this.tickMillis = tickMillis;
+
+        if (tickMillis > 0) {
+            this.cachedMillis = readClock();
+            this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread th = new Thread(r, "time-source-ticker");
+                th.setDaemon(true);
+                return th;
+            });
+            ticker.scheduleAtFixedRate(() -> cachedMillis = readClock(), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.ticker = null;
+        }
+    }
+
+    /** Sistem saatini (varsayılan saat dilimi) kullanan zaman kaynağı. */
+    public static TimeSource system() {
+        return new TimeSource(Clock.systemDefaultZone());
+    }
+
+    /** Her zaman aynı anı döndüren zaman kaynağı. */
+    public static TimeSource fixed(LocalDateTime now) {
+        Objects.requireNonNull(now, "now null olamaz.");
+        return new TimeSource(Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    /**
+     * Sistem saatini {@code tickMillis} aralıkla okuyup önbelleğe alan zaman kaynağı.
+     * İş bitince {@link #close()} çağrılmalıdır.
+     */
+    public static TimeSource cached(long tickMillis) {
+        return cached(Clock.systemDefaultZone(), tickMillis);
+    }
+
+    public static TimeSource cached(Clock clock, long tickMillis) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("tickMillis pozitif olmalı.");
+        return new TimeSource(clock, tickMillis);
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /** Önbellekli (coarse) modda ise güncelleme aralığı, değilse 0. */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Şu anki yerel duvar saatini epoch-milisaniye olarak döndürür.
+     * Bir tarama boyunca tek bir kez okunup tüm görevler için paylaşılmalıdır.
+     */
+    public long millis() {
+        return ticker != null ? cachedMillis : readClock();
+    }
+
+    /** Şu anı {@link LocalDateTime} olarak döndürür (gösterim için). */
+    public LocalDateTime now() {
+        return toLocalDateTime(millis());
+    }
+
+    private long readClock() {
+        Instant instant = clock.instant();
+        int offsetSeconds = clock.getZone().getRules().getOffset(instant).getTotalSeconds();
+        return instant.toEpochMilli() + offsetSeconds * 1000L;
+    }
+
+    @Override
+    public void close() {
+        if (ticker != null) ticker.shutdownNow();
+    }
+
+    /* ===================== DÖNÜŞÜMLER ===================== */
+
+    /** {@link LocalDateTime} -> yerel duvar saati epoch-milisaniye. */
+    public static long toMillis(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1000L + time.getNano() / 1_000_000;
+    }
+
+    /** Yerel duvar saati epoch-milisaniye -> {@link LocalDateTime}. */
+    public static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L),
+                (int) Math.floorMod(millis, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+}
@@ -22,7 +22,18 @@ public class TimedTask extends Task {
                      Priority priority,
                      LocalDateTime start,
                      LocalDateTime end) {
-        super(title, description, deadline, priority);
+        this(null, title, description, deadline, priority, start, end);
+    }
+
+    /** Verilen ID ile oluşturur; {@code id} null ise yeni ID üretilir. */
+    TimedTask(String id,
+              String title,
+              String description,
+              Deadline deadline,
+              Priority priority,
+              LocalDateTime start,
+              LocalDateTime end) {
+        super(id, title, description, deadline, priority);
 
         this.start = Objects.requireNonNull(start);
         this.end = Objects.requireNonNull(end);
@@ -0,0 +1,25 @@
+package com.ntp.taskmanager;
+
+/**
+ * İyimser (optimistic) güncellemede beklenen sürüm ile görevin güncel sürümü
+ * uyuşmadığında fırlatılır. Çağıran taraf güncel sürümü okuyup yeniden deneyebilir.
+ */
+public class VersionConflictException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String taskId;
+    private final long expectedVersion;
+    private final long currentVersion;
+
+    public VersionConflictException(String taskId, long expectedVersion, long currentVersion) {
+        super("Sürüm çakışması (task " + taskId + "): beklenen " + expectedVersion + ", güncel " + currentVersion);
+        this.taskId = taskId;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+
+    public String getTaskId() { return taskId; }
+    public long getExpectedVersion() { return expectedVersion; }
+    public long getCurrentVersion() { return currentVersion; }
+}
@@ -5,4 +5,8 @@
  * 
  */
 module emirntp {
+    requires jdk.httpserver;
+    requires jdk.management;
+    requires jdk.jfr;
+    requires jdk.unsupported;
 }
\ No newline at end of file
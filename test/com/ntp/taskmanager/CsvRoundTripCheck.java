@@ -0,0 +1,110 @@
+package com.ntp.taskmanager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CSV gidiş-dönüş kontrolü: export edilen proje içe aktarıldığında görevler (tekrarlanan seriler,
+ * atlanan ve saklanan tekrarlar dahil) aynı haliyle geri gelmeli.
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java' ! -name module-info.java)
+ * java -cp out com.ntp.taskmanager.CsvRoundTripCheck
+ * </pre>
+ *
+ * Hata varsa {@link AssertionError} ile çıkar.
+ */
+public final class CsvRoundTripCheck {
+
+    public static void main(String[] args) throws Exception {
+        LocalDateTime base = LocalDateTime.of(2030, 1, 6, 9, 0);
+
+        ProjectManager src = new ProjectManager();
+        String pid = src.createProject("Kaynak").getId();
+
+        Task plain = src.createTask("Rapor", "aylık, \"özet\"", base, Priority.ORTA);
+        TimedTask timed = src.createTimedTask("Toplantı", "", base.plusDays(1), Priority.YUKSEK,
+                base.plusDays(1).minusHours(2), base.plusDays(1));
+        RecurringTask series = src.createRecurringTask("Yedekle", "gece", base, Priority.DUSUK,
+                Recurrence.daily(2).withCount(10));
+        for (Task t : List.of(plain, timed, series)) src.assignTaskToProject(t.getId(), pid);
+
+        src.deleteTask(series.getId() + "#3");                       // atla
+        src.completeTask(series.getId() + "#1");                     // tamamla
+        src.updateTask(series.getId() + "#5", "Yedekle (uzun)", null, Priority.YUKSEK, base.plusDays(10).plusHours(3));
+
+        // 1) tam CSV -> yeni yöneticiye import
+        Path file = Files.createTempFile("roundtrip", ".csv");
+        try {
+            src.exportProjectCSVToFile(pid, file.toString());
+            ProjectManager dst = new ProjectManager();
+            String dpid = dst.createProject("Hedef").getId();
+            dst.importTasksFromCSV(dpid, file.toString());
+            compare(src, dst);
+
+            // 2) delta CSV (ilk sefer: tüm görevler) -> yeni yöneticiye uygula
+            Files.writeString(file, src.exportProjectDeltaAsCSV(pid, 0));
+            ProjectManager delta = new ProjectManager();
+            String ddpid = delta.createProject("Delta").getId();
+            delta.importTasksFromCSV(ddpid, file.toString());
+            compare(src, delta);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        // 3) toplu yedek (GZIP_FILES) -> Bootstrap ile açılış (--data)
+        Path dir = Files.createTempDirectory("roundtrip");
+        try {
+            src.exportProjectsArchive(null, dir.toString(), BulkExporter.Format.GZIP_FILES, 2);
+            ProjectManager booted = new ProjectManager();
+            new Bootstrap(dir, false, 2).start(booted);
+            compare(src, booted);
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path f : files.toList()) Files.delete(f);
+            }
+            Files.delete(dir);
+        }
+
+        System.out.println("CSV gidiş-dönüş: OK");
+    }
+
+    private static void compare(ProjectManager expected, ProjectManager actual) {
+        for (Task e : expected.getProjectsAsList().get(0).getTasks()) {
+            Task a = actual.getTaskById(e.getId());
+            check(e.getClass() == a.getClass(), "tip: " + e.getClass() + " != " + a.getClass());
+            check(row(e).equals(row(a)), "görev: " + row(e) + " != " + row(a));
+
+            if (e instanceof RecurringTask er) {
+                RecurringTask ar = (RecurringTask) a;
+                check(er.getRecurrence().format().equals(ar.getRecurrence().format()), "kural");
+                check(Arrays.equals(er.getSkippedIndices(), ar.getSkippedIndices()), "atlananlar");
+
+                long from = er.getDeadline().getDueMillis();
+                List<RecurringTask.Occurrence> eo = er.getOccurrences(from, Long.MAX_VALUE - 1);
+                List<RecurringTask.Occurrence> ao = ar.getOccurrences(from, Long.MAX_VALUE - 1);
+                check(eo.size() == ao.size(), "tekrar sayısı: " + eo.size() + " != " + ao.size());
+                for (int i = 0; i < eo.size(); i++) {
+                    check(row(eo.get(i)).equals(row(ao.get(i))), "tekrar: " + row(eo.get(i)) + " != " + row(ao.get(i)));
+                }
+            }
+        }
+    }
+
+    /** Karşılaştırma için satır (proje sütunu hariç; hedef proje farklıdır). */
+    private static String row(Task t) {
+        StringBuilder sb = new StringBuilder();
+        TaskCsvFormat.appendRow(sb, "", t);
+        String line = sb.toString().split("\n")[0];
+        List<String> fields = CsvUtil.parseLine(line);
+        fields.set(TaskCsvFormat.COLUMNS.indexOf("projects"), "");
+        return fields.toString();
+    }
+
+    private static void check(boolean ok, String message) {
+        if (!ok) throw new AssertionError(message);
+    }
+}
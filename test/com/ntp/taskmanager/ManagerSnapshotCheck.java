@@ -0,0 +1,106 @@
+package com.ntp.taskmanager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * {@link ManagerSnapshot} özellik kontrolü: {@link ProjectManager} üzerinde rastgele oluşturma, atama,
+ * güncelleme ve silme yapılır; her adımdan sonra snapshot canlı durumla (proje görev sırası, görev
+ * alanları) karşılaştırılır. Silmeler projeleri sıkıştırma eşiğinden geçirip boşaltır; arada alınan
+ * eski snapshot'ların sonradan değişmediği doğrulanır.
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java' ! -name module-info.java)
+ * java -cp out com.ntp.taskmanager.ManagerSnapshotCheck
+ * </pre>
+ *
+ * Hata varsa {@link AssertionError} ile çıkar.
+ */
+public final class ManagerSnapshotCheck {
+
+    public static void main(String[] args) {
+        Random r = new Random(3);
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+        ProjectManager pm = new ProjectManager();
+        List<String> projects = new ArrayList<>();
+        for (int i = 0; i < 4; i++) projects.add(pm.createProject("P" + i).getId());
+
+        List<String> ids = new ArrayList<>();
+        List<ManagerSnapshot> saved = new ArrayList<>();
+        List<Map<String, List<String>>> savedExpected = new ArrayList<>();
+
+        for (int step = 0; step < 6000; step++) {
+            // ilk yarı büyür, ikinci yarı ağırlıklı olarak siler (sıkıştırma ve boşalma)
+            int op = r.nextInt(10) + (step < 3000 ? 0 : 4);
+            if (ids.isEmpty() || op < 4) {
+                Task t = pm.createTask("t" + step, null, base.plusHours(r.nextInt(1000)), Priority.ORTA);
+                ids.add(t.getId());
+                pm.assignTaskToProject(t.getId(), projects.get(r.nextInt(projects.size())));
+            } else if (op < 6) {
+                pm.assignTaskToProject(ids.get(r.nextInt(ids.size())), projects.get(r.nextInt(projects.size())));
+            } else if (op < 8) {
+                pm.updateTask(ids.get(r.nextInt(ids.size())), "u" + step, null, null, null);
+            } else {
+                pm.deleteTask(ids.remove(r.nextInt(ids.size())));
+            }
+
+            if (step % 97 == 0) {
+                Map<String, List<String>> expected = expected(pm, projects);
+                compare(expected, pm.snapshot(), pm);
+                saved.add(pm.snapshot());
+                savedExpected.add(expected);
+            }
+        }
+
+        // kalanları sil: tüm projeler boşalır
+        for (String id : ids) pm.deleteTask(id);
+        ManagerSnapshot empty = pm.snapshot();
+        check(empty.getTaskCount() == 0, "görev kaldı: " + empty.getTaskCount());
+        for (String pid : projects) {
+            check(empty.getProject(pid).getTaskCount() == 0, "proje boş değil: " + pid);
+            check(empty.getProjectTasks(pid).isEmpty(), "proje listesi boş değil: " + pid);
+        }
+
+        for (int i = 0; i < saved.size(); i++) compare(savedExpected.get(i), saved.get(i), null);
+        System.out.println("ManagerSnapshot: OK (" + saved.size() + " eski snapshot)");
+    }
+
+    /** Projelerin canlı görev listeleri: "id|başlık|sürüm" biçiminde, eklenme sırasıyla. */
+    private static Map<String, List<String>> expected(ProjectManager pm, List<String> projects) {
+        Map<String, List<String>> out = new HashMap<>();
+        for (String pid : projects) {
+            List<String> rows = new ArrayList<>();
+            for (Task t : pm.getProjectById(pid).getTasks()) rows.add(t.getId() + "|" + t.getTitle() + "|" + t.getVersion());
+            out.put(pid, rows);
+        }
+        return out;
+    }
+
+    private static void compare(Map<String, List<String>> expected, ManagerSnapshot snapshot, ProjectManager live) {
+        for (Map.Entry<String, List<String>> e : expected.entrySet()) {
+            List<String> actual = new ArrayList<>();
+            for (ManagerSnapshot.TaskView t : snapshot.getProjectTasks(e.getKey())) {
+                actual.add(t.getId() + "|" + t.getState().getTitle() + "|" + t.getState().getVersion());
+            }
+            check(actual.equals(e.getValue()), "proje " + e.getKey() + ": " + actual + " != " + e.getValue());
+            check(snapshot.getProject(e.getKey()).getTaskCount() == e.getValue().size(), "görev sayısı: " + e.getKey());
+        }
+        if (live != null) {
+            check(snapshot.getTaskCount() == live.snapshot().getAllTasks().size(), "toplam görev");
+            for (ManagerSnapshot.TaskView t : snapshot.getAllTasks()) {
+                Task task = live.getTaskById(t.getId());
+                check(t.getState() == task.snapshot(), "görev durumu: " + t.getId());
+                check(t.getProjectIds().equals(task.getProjectIds()), "projeler: " + t.getId());
+            }
+        }
+    }
+
+    private static void check(boolean ok, String message) {
+        if (!ok) throw new AssertionError(message);
+    }
+}
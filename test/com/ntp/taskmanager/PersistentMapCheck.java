@@ -0,0 +1,124 @@
+package com.ntp.taskmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * {@link PersistentMap} özellik kontrolü: rastgele put/remove dizileri {@link HashMap} ile
+ * karşılaştırılır. Anahtarların bir kısmı aynı hash'i paylaşır (çakışma düğümleri), harita
+ * tekrar tekrar boşalana kadar silinir ve alınan eski sürümlerin sonradan değişmediği doğrulanır.
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java' ! -name module-info.java)
+ * java -cp out com.ntp.taskmanager.PersistentMapCheck
+ * </pre>
+ *
+ * Hata varsa {@link AssertionError} ile çıkar.
+ */
+public final class PersistentMapCheck {
+
+    public static void main(String[] args) {
+        Random r = new Random(42);
+        List<Map<Key, Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentMap<Key, Integer>> versions = new ArrayList<>();
+
+        for (int round = 0; round < 20; round++) {
+            PersistentMap<Key, Integer> map = PersistentMap.empty();
+            Map<Key, Integer> expected = new HashMap<>();
+            int keySpace = 1 + r.nextInt(round % 2 == 0 ? 64 : 4000);
+
+            // büyüt: put ağırlıklı
+            for (int i = 0; i < 3000; i++) {
+                Key k = Key.random(r, keySpace);
+                if (r.nextInt(4) == 0) {
+                    map = map.remove(k);
+                    expected.remove(k);
+                } else {
+                    int v = r.nextInt();
+                    map = map.put(k, v);
+                    expected.put(k, v);
+                }
+                if (i % 500 == 0) {
+                    versions.add(map);
+                    expectedVersions.add(new HashMap<>(expected));
+                }
+            }
+            compare(expected, map);
+
+            // boşalt: var olan ve olmayan anahtarları sil
+            List<Key> keys = new ArrayList<>(expected.keySet());
+            Collections.shuffle(keys, r);
+            for (Key k : keys) {
+                map = map.remove(Key.random(r, keySpace * 2)); // çoğu zaman yok ya da zaten silinmiş
+                expected.remove(k);
+                map = map.remove(k);
+            }
+            expected.clear();
+            compare(expected, map);
+            check(map.isEmpty(), "boş değil: " + map.size());
+            check(map.remove(Key.random(r, keySpace)) == map, "boş haritadan silme yeni harita üretti");
+
+            // boşaldıktan sonra yeniden kullanılabilir
+            map = map.put(new Key(1, 0), 7);
+            check(map.size() == 1 && map.get(new Key(1, 0)) == 7, "boşalttıktan sonra put");
+        }
+
+        for (int i = 0; i < versions.size(); i++) compare(expectedVersions.get(i), versions.get(i));
+        System.out.println("PersistentMap: OK (" + versions.size() + " eski sürüm)");
+    }
+
+    private static void compare(Map<Key, Integer> expected, PersistentMap<Key, Integer> actual) {
+        check(expected.size() == actual.size(), "boyut: " + expected.size() + " != " + actual.size());
+        check(expected.isEmpty() == actual.isEmpty(), "isEmpty");
+        for (Map.Entry<Key, Integer> e : expected.entrySet()) {
+            check(actual.containsKey(e.getKey()), "eksik anahtar: " + e.getKey());
+            check(e.getValue().equals(actual.get(e.getKey())), "değer: " + e.getKey());
+        }
+
+        Map<Key, Integer> seen = new HashMap<>();
+        actual.forEach((k, v) -> check(seen.put(k, v) == null, "forEach tekrar: " + k));
+        check(seen.equals(expected), "forEach içeriği");
+        check(actual.values().size() == expected.size(), "values boyutu");
+    }
+
+    private static void check(boolean ok, String message) {
+        if (!ok) throw new AssertionError(message);
+    }
+
+    /** hashCode'u kontrol edilebilen anahtar; aynı {@code hash} ile farklı {@code id}'ler çakışır. */
+    private static final class Key {
+        final int hash;
+        final int id;
+
+        Key(int hash, int id) {
+            this.hash = hash;
+            this.id = id;
+        }
+
+        /** Anahtarların çoğu 8 hash'ten birini paylaşır, geri kalanı dağınıktır. */
+        static Key random(Random r, int keySpace) {
+            int id = r.nextInt(keySpace);
+            int hash = id % 3 == 0 ? id % 8 : id * 0x9E3779B9;
+            return new Key(hash, id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && k.hash == hash && k.id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "Key{" + hash + "/" + id + "}";
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ntp.taskmanager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * {@link PersistentVector} özellik kontrolü: rastgele add/set/removeIf dizileri {@link ArrayList} ile
+ * karşılaştırılır. Boyutlar kuyruk (32) ve ağaç seviyesi sınırlarını (1024, 32768) geçer; null slot
+ * bırakıp sıkıştırma ({@link ManagerSnapshot}'taki kullanım) ve eski sürümlerin değişmediği doğrulanır.
+ *
+ * <pre>
+ * javac -d out $(find src test -name '*.java' ! -name module-info.java)
+ * java -cp out com.ntp.taskmanager.PersistentVectorCheck
+ * </pre>
+ *
+ * Hata varsa {@link AssertionError} ile çıkar.
+ */
+public final class PersistentVectorCheck {
+
+    public static void main(String[] args) {
+        Random r = new Random(7);
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentVector<Integer>> versions = new ArrayList<>();
+
+        // sınırlarda büyüme: her boyut bir kez doğrulanır
+        PersistentVector<Integer> v = PersistentVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            v = v.add(i);
+            expected.add(i);
+            if (Integer.bitCount(i + 1) == 1 || (i + 1) % 1024 == 0 || i % 1024 == 0) {
+                compare(expected, v);
+                versions.add(v);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+        compare(expected, v);
+
+        // rastgele set, null slot ve sıkıştırma
+        for (int round = 0; round < 200; round++) {
+            int op = r.nextInt(10);
+            if (op < 6) {
+                int i = r.nextInt(v.size());
+                Integer e = r.nextInt(5) == 0 ? null : r.nextInt();
+                v = v.set(i, e);
+                expected.set(i, e);
+            } else if (op < 9) {
+                int n = r.nextInt(100);
+                for (int i = 0; i < n; i++) {
+                    v = v.add(i);
+                    expected.add(i);
+                }
+            } else {
+                PersistentVector<Integer> before = v;
+                v = v.removeIf(Objects::isNull);
+                boolean removed = expected.removeIf(Objects::isNull);
+                check(removed == (v != before), "removeIf değişmediğinde aynı vektörü döndürmeli");
+            }
+            if (round % 20 == 0) {
+                compare(expected, v);
+                versions.add(v);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+        compare(expected, v);
+
+        // hepsini boşalt
+        for (int i = 0; i < v.size(); i++) v = v.set(i, null);
+        v = v.removeIf(Objects::isNull);
+        check(v.isEmpty() && v.size() == 0, "boşaltma: " + v.size());
+        check(!v.iterator().hasNext(), "boş vektörde iterator");
+        v = v.add(1);
+        check(v.size() == 1 && v.get(0) == 1, "boşalttıktan sonra add");
+
+        for (int i = 0; i < versions.size(); i++) compare(expectedVersions.get(i), versions.get(i));
+        System.out.println("PersistentVector: OK (" + versions.size() + " eski sürüm)");
+    }
+
+    private static void compare(List<Integer> expected, PersistentVector<Integer> actual) {
+        check(expected.size() == actual.size(), "boyut: " + expected.size() + " != " + actual.size());
+        Iterator<Integer> it = actual.iterator();
+        for (int i = 0; i < expected.size(); i++) {
+            check(Objects.equals(expected.get(i), actual.get(i)), "get(" + i + ")");
+            check(it.hasNext() && Objects.equals(expected.get(i), it.next()), "iterator(" + i + ")");
+        }
+        check(!it.hasNext(), "iterator fazla eleman");
+        for (int bad : new int[] {-1, expected.size()}) {
+            try {
+                actual.get(bad);
+                throw new AssertionError("get(" + bad + ") hata vermedi");
+            } catch (IndexOutOfBoundsException expectedFailure) {
+                // beklenen
+            }
+        }
+    }
+
+    private static void check(boolean ok, String message) {
+        if (!ok) throw new AssertionError(message);
+    }
+}